@@ -0,0 +1,103 @@
+package seedu.manager.benchmark;
+
+import seedu.manager.enumeration.Priority;
+import seedu.manager.enumeration.StorageFormat;
+import seedu.manager.event.Event;
+import seedu.manager.event.EventList;
+import seedu.manager.storage.Storage;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+//@@author jemehgoh
+/**
+ * Represents a generator of synthetic event lists, for the benchmarks and for trying out large data files.
+ * <p>
+ * A dataset is sized by its number of rows, which is the number of events plus the number of participants,
+ * as each event and each participant is one line of the CSV data file. Every event has
+ * {@link #PARTICIPANTS_PER_EVENT} participants and one item. As in real data, each person attends several events,
+ * the emails are from a few domains, and the venues and items come from short lists. The dataset is the same on
+ * every run, so that results from different commits can be compared.
+ * </p>
+ */
+public final class DatasetGenerator {
+    public static final int PARTICIPANTS_PER_EVENT = 9;
+
+    private static final LocalDateTime FIRST_EVENT_TIME = LocalDateTime.of(2030, 1, 1, 9, 0);
+    private static final int VENUE_COUNT = 50;
+    private static final int ITEM_KIND_COUNT = 20;
+    private static final int EVENTS_PER_PERSON = 3;
+    private static final String[] EMAIL_DOMAINS = {"example.com", "u.nus.edu", "gmail.com", "outlook.com"};
+    private static final String USAGE_MESSAGE = "Usage: DatasetGenerator ROW_COUNT FILE_PATH [csv|binary]";
+
+    /**
+     * Prevents DatasetGenerator from being constructed, as it only has static methods.
+     */
+    private DatasetGenerator() {
+    }
+
+    /**
+     * Writes a generated dataset to a data file, which can then be loaded by the application.
+     *
+     * @param args the number of rows, the path of the file, and optionally the format of the file.
+     * @throws IOException if the file could not be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+
+        Storage storage = new Storage(args[1]);
+        if (args.length > 2) {
+            storage.setFormat(StorageFormat.valueOf(args[2].toUpperCase()));
+        }
+        storage.saveInfo(generate(Integer.parseInt(args[0])));
+    }
+
+    /**
+     * Returns an event list with a given number of rows.
+     *
+     * @param rowCount the number of events and participants in the list.
+     * @return the generated event list.
+     */
+    public static EventList generate(int rowCount) {
+        EventList events = new EventList();
+        int eventCount = getEventCount(rowCount);
+        int participantCount = rowCount - eventCount;
+        int personCount = Math.max(PARTICIPANTS_PER_EVENT, participantCount / EVENTS_PER_PERSON);
+        for (int i = 0; i < eventCount; i++) {
+            events.addEvent(new Event(getEventName(i), FIRST_EVENT_TIME.plusMinutes(i),
+                    "Venue " + (i % VENUE_COUNT), Priority.values()[i % Priority.values().length]));
+            Event event = events.getEvent(i);
+            for (int j = i * PARTICIPANTS_PER_EVENT; j < Math.min((i + 1) * PARTICIPANTS_PER_EVENT,
+                    participantCount); j++) {
+                int person = j % personCount;
+                event.addParticipant("Participant " + person,
+                        "participant" + person + "@" + EMAIL_DOMAINS[person % EMAIL_DOMAINS.length], j % 2 == 0);
+            }
+            event.addItem("Item " + (i % ITEM_KIND_COUNT), i % 2 == 0);
+        }
+        return events;
+    }
+
+    /**
+     * Returns the number of events in a dataset with a given number of rows.
+     *
+     * @param rowCount the number of events and participants in the dataset.
+     * @return the number of events.
+     */
+    public static int getEventCount(int rowCount) {
+        return (rowCount + PARTICIPANTS_PER_EVENT) / (PARTICIPANTS_PER_EVENT + 1);
+    }
+
+    /**
+     * Returns the name of the event at a given index of a generated dataset.
+     *
+     * @param index the index of the event.
+     * @return the name of the event.
+     */
+    public static String getEventName(int index) {
+        return "Event " + index;
+    }
+}
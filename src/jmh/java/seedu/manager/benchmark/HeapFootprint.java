@@ -0,0 +1,82 @@
+package seedu.manager.benchmark;
+
+import seedu.manager.enumeration.StorageFormat;
+import seedu.manager.event.EventList;
+import seedu.manager.storage.Storage;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+//@@author jemehgoh
+/**
+ * Measures the heap retained by an event list loaded from a data file of a generated dataset.
+ * <p>
+ * The dataset is written to a temporary file with {@link DatasetGenerator}, and the generated list is dropped
+ * before the file is loaded, so only the loaded list is measured. The used heap is read after a full garbage
+ * collection before and after the load.
+ * </p>
+ */
+public final class HeapFootprint {
+    private static final String USAGE_MESSAGE = "Usage: HeapFootprint ROW_COUNT [csv|binary]";
+    private static final int GC_COUNT = 3;
+    private static final double BYTES_PER_MEGABYTE = 1024.0 * 1024.0;
+
+    /**
+     * Prevents HeapFootprint from being constructed, as it only has static methods.
+     */
+    private HeapFootprint() {
+    }
+
+    /**
+     * Prints the heap retained by a loaded dataset of a given size.
+     *
+     * @param args the number of rows, and optionally the format of the data file.
+     * @throws IOException if the data file could not be written or deleted.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+
+        int rowCount = Integer.parseInt(args[0]);
+        StorageFormat format = (args.length > 1) ? StorageFormat.valueOf(args[1].toUpperCase())
+                : StorageFormat.CSV;
+        Path directory = Files.createTempDirectory("footprint");
+        Path filePath = directory.resolve("data.txt");
+        try {
+            Storage storage = new Storage(filePath.toString());
+            storage.setFormat(format);
+            storage.saveInfo(DatasetGenerator.generate(rowCount));
+
+            long usedBefore = getUsedHeap();
+            EventList events = new EventList();
+            storage.loadInfo(events);
+            long usedAfter = getUsedHeap();
+            Reference.reachabilityFence(events);
+
+            System.out.printf("%d rows (%s): %.1f MB retained%n", rowCount, format,
+                    (usedAfter - usedBefore) / BYTES_PER_MEGABYTE);
+        } finally {
+            Files.deleteIfExists(filePath);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    /**
+     * Returns the used heap after a full garbage collection.
+     *
+     * @return the number of bytes of heap in use.
+     */
+    private static long getUsedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < GC_COUNT; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.manager.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import seedu.manager.benchmark.DatasetGenerator;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+//@@author jemehgoh
+/**
+ * Measures the cost of looking up events by name, and of finding participants in an event, in event lists of
+ * increasing size.
+ * <p>
+ * The names looked up are picked at random, with a fixed seed, and are copies of the event names, so that the
+ * lookups do not find the names by reference.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventListBenchmark {
+    private static final int LOOKUP_COUNT = 1024;
+    private static final long SEED = 42;
+
+    @Param({"100", "10000", "1000000"})
+    private int rowCount;
+
+    private EventList events;
+    private String[] lookupNames;
+    private int lookupIndex;
+
+    /**
+     * Generates the event list, and picks the names to be looked up.
+     */
+    @Setup
+    public void setUp() {
+        events = DatasetGenerator.generate(rowCount);
+        lookupNames = new String[LOOKUP_COUNT];
+        Random random = new Random(SEED);
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            lookupNames[i] = new String(DatasetGenerator.getEventName(random.nextInt(events.getListSize())));
+        }
+    }
+
+    /**
+     * Looks up one event by name.
+     *
+     * @return the event found.
+     */
+    @Benchmark
+    public Event getEventByName() {
+        lookupIndex = (lookupIndex + 1) % LOOKUP_COUNT;
+        return events.getEventByName(lookupNames[lookupIndex]).orElseThrow();
+    }
+
+    /**
+     * Finds the participants of one event whose names contain a keyword.
+     *
+     * @param blackhole the sink for the participants found.
+     */
+    @Benchmark
+    public void findParticipants(Blackhole blackhole) {
+        lookupIndex = (lookupIndex + 1) % LOOKUP_COUNT;
+        Event event = events.getEventByName(lookupNames[lookupIndex]).orElseThrow();
+        blackhole.consume(event.findParticipants("Participant 1"));
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.manager.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import seedu.manager.enumeration.Priority;
+import seedu.manager.item.Participant;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+//@@author jemehgoh
+/**
+ * Measures the cost of finding and listing the participants of one event, with the participants in a list and
+ * in a {@link ParticipantStore}.
+ * <p>
+ * An event with {@link Event#PARTICIPANT_STORE_THRESHOLD} or more participants always keeps them in a store, so
+ * the larger event is only measured with its participants in columns.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParticipantStoreBenchmark {
+    @Param({"1000", "100000"})
+    private int participantCount;
+
+    @Param({"false", "true"})
+    private boolean isStoredInColumns;
+
+    private Event event;
+
+    /**
+     * Builds the event and its participants.
+     */
+    @Setup
+    public void setUp() {
+        event = new Event("Event", LocalDateTime.of(2030, 1, 1, 9, 0), "Venue", Priority.HIGH);
+        for (int i = 0; i < participantCount; i++) {
+            event.addParticipant("Participant " + i, "participant" + i + "@example.com", i % 2 == 0);
+        }
+        if (isStoredInColumns) {
+            event.storeParticipantsInColumns();
+        }
+    }
+
+    /**
+     * Finds the participants whose names contain a keyword.
+     *
+     * @param blackhole the sink for the participants found.
+     */
+    @Benchmark
+    public void findParticipants(Blackhole blackhole) {
+        blackhole.consume(event.findParticipants("Participant 1"));
+    }
+
+    /**
+     * Renders the line of every participant, as the view command does.
+     *
+     * @return the rendered lines.
+     */
+    @Benchmark
+    public StringBuilder viewParticipants() {
+        StringBuilder output = new StringBuilder();
+        for (Participant participant : event.getParticipantList()) {
+            participant.appendTo(output);
+            output.append('\n');
+        }
+        return output;
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.manager.parser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+//@@author jemehgoh
+/**
+ * Measures the cost of parsing the {@code yyyy-MM-dd HH:mm} date-times of a list of events.
+ * <p>
+ * The {@code simpleDateFormat} benchmark parses each date-time with a new {@link SimpleDateFormat} and converts
+ * it through the default time zone, as date-times were parsed before {@link DateTimeParser} was added. The
+ * {@code dateTimeFormatter} benchmark uses one shared strict {@link DateTimeFormatter}, and the
+ * {@code dateTimeParser} benchmark uses the fixed-width {@link DateTimeParser}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateTimeParsingBenchmark {
+    private static final int DATE_TIME_COUNT = 1000;
+    private static final LocalDateTime FIRST_EVENT_TIME = LocalDateTime.of(2030, 1, 1, 9, 0);
+    private static final DateTimeFormatter STRICT_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm")
+            .withResolverStyle(ResolverStyle.STRICT);
+
+    private String[] dateTimes;
+
+    /**
+     * Creates the date-times to be parsed, an hour and a minute apart.
+     */
+    @Setup
+    public void setUp() {
+        dateTimes = new String[DATE_TIME_COUNT];
+        for (int i = 0; i < DATE_TIME_COUNT; i++) {
+            dateTimes[i] = DateTimeParser.formatDateTime(FIRST_EVENT_TIME.plusMinutes(61L * i));
+        }
+    }
+
+    /**
+     * Parses the date-times with a new {@link SimpleDateFormat} each.
+     *
+     * @param blackhole the sink for each parsed date-time.
+     * @throws ParseException if a date-time cannot be parsed.
+     */
+    @Benchmark
+    public void simpleDateFormat(Blackhole blackhole) throws ParseException {
+        for (String dateTime : dateTimes) {
+            SimpleDateFormat dateTimeFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm");
+            dateTimeFormat.setLenient(false);
+            Date parsedDateTime = dateTimeFormat.parse(dateTime);
+            blackhole.consume(LocalDateTime.ofInstant(parsedDateTime.toInstant(), ZoneId.systemDefault()));
+        }
+    }
+
+    /**
+     * Parses the date-times with one shared strict {@link DateTimeFormatter}.
+     *
+     * @param blackhole the sink for each parsed date-time.
+     */
+    @Benchmark
+    public void dateTimeFormatter(Blackhole blackhole) {
+        for (String dateTime : dateTimes) {
+            blackhole.consume(LocalDateTime.parse(dateTime, STRICT_FORMATTER));
+        }
+    }
+
+    /**
+     * Parses the date-times with {@link DateTimeParser}.
+     *
+     * @param blackhole the sink for each parsed date-time.
+     * @throws ParseException if a date-time cannot be parsed.
+     */
+    @Benchmark
+    public void dateTimeParser(Blackhole blackhole) throws ParseException {
+        for (String dateTime : dateTimes) {
+            blackhole.consume(DateTimeParser.parseDateTime(dateTime));
+        }
+    }
+}
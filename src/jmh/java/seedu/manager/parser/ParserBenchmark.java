@@ -0,0 +1,133 @@
+package seedu.manager.parser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import seedu.manager.exception.InvalidCommandException;
+
+import java.util.concurrent.TimeUnit;
+
+//@@author jemehgoh
+/**
+ * Measures the cost of parsing a mix of user commands with {@link Parser#parseCommand(String)}.
+ * <p>
+ * The mix covers the commands that take flags, dates and times, as well as a command that is rejected, so that
+ * the cost of building the error message is included.
+ * </p>
+ * <p>
+ * The field values of the same commands are also split both with {@link CommandArguments} and with the regexes
+ * of the parser before it, from {@link RegexArgumentSplitter}, so the two ways of splitting can be compared.
+ * The event name in the mix is repeated to lengthen the inputs, as the lazy groups of the regexes backtrack
+ * further on longer values.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+    private static final String EVENT_NAME = "Event 1";
+    private static final String[] COMMANDS = {
+        "add -e Event 1 -t 2099-10-10 10:00 -v Venue 1 -u high",
+        "add -p Participant 1 -email participant1@example.com -e Event 1",
+        "add -m Item 1 -e Event 1",
+        "edit -e Event 1 -name Event 2 -t 2099-10-11 12:00 -v Venue 2 -u low",
+        "mark -p Participant 1 -e Event 1 -s present",
+        "filter -x 2099-10-10 10:00",
+        "find -e Event 1 -p Participant",
+        "sort -by name",
+        "view -e Event 1 -y participant -page 2 -size 20",
+        "list",
+        "add -e Event 1 -t 10-10-2099 -v Venue 1 -u high"
+    };
+
+    @Param({"1", "50"})
+    private int nameRepeatCount;
+
+    private Parser parser;
+    private String[] commands;
+    private RegexArgumentSplitter.Syntax[] syntaxes;
+
+    /**
+     * Creates the parser, builds the mix with the event name repeated, and looks up the syntax of each command
+     * of the mix.
+     */
+    @Setup
+    public void setUp() {
+        parser = new Parser();
+        String eventName = (EVENT_NAME + " ").repeat(nameRepeatCount).trim();
+        commands = new String[COMMANDS.length];
+        syntaxes = new RegexArgumentSplitter.Syntax[COMMANDS.length];
+        for (int i = 0; i < COMMANDS.length; i++) {
+            commands[i] = COMMANDS[i].replace(EVENT_NAME, eventName);
+            syntaxes[i] = RegexArgumentSplitter.getSyntax(commands[i]);
+        }
+    }
+
+    /**
+     * Parses each command of the mix once.
+     *
+     * @param blackhole the sink for each parsed command or error.
+     */
+    @Benchmark
+    public void parseCommands(Blackhole blackhole) {
+        for (String command : commands) {
+            try {
+                blackhole.consume(parser.parseCommand(command));
+            } catch (InvalidCommandException exception) {
+                blackhole.consume(exception);
+            }
+        }
+    }
+
+    /**
+     * Splits the field values of each command of the mix once with {@link CommandArguments}.
+     *
+     * @param blackhole the sink for each split input and whether it has the expected flags.
+     */
+    @Benchmark
+    public void splitArguments(Blackhole blackhole) {
+        for (int i = 0; i < commands.length; i++) {
+            if (syntaxes[i] == null) {
+                continue;
+            }
+            try {
+                CommandArguments arguments = CommandArguments.tokenize(commands[i], syntaxes[i].getFlags());
+                blackhole.consume(arguments.hasFlags(syntaxes[i].getFlags()) && !arguments.hasBlankValue());
+                blackhole.consume(arguments);
+            } catch (InvalidCommandException exception) {
+                blackhole.consume(exception);
+            }
+        }
+    }
+
+    /**
+     * Splits the field values of each command of the mix once with the regexes of the old parser.
+     *
+     * @param blackhole the sink for each list of field values or error.
+     */
+    @Benchmark
+    public void splitArgumentsWithRegex(Blackhole blackhole) {
+        for (int i = 0; i < commands.length; i++) {
+            if (syntaxes[i] == null) {
+                continue;
+            }
+            try {
+                blackhole.consume(syntaxes[i].split(commands[i]));
+            } catch (InvalidCommandException exception) {
+                blackhole.consume(exception);
+            }
+        }
+    }
+}
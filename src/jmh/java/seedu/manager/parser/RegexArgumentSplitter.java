@@ -0,0 +1,205 @@
+package seedu.manager.parser;
+
+import seedu.manager.exception.InvalidCommandException;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+//@@author jemehgoh
+/**
+ * Splits user inputs into their field values the way {@link Parser} did before {@link CommandArguments}, as a
+ * baseline for the parser benchmarks.
+ * <p>
+ * Each command has a regex for its flags and a regex for the whole input, as in the old parser. The flag regex is
+ * compiled on every call to reject duplicate flags, and the input regex is compiled on every call and matched
+ * with lazy groups, so the cost of the old path is kept as it was.
+ * </p>
+ */
+public class RegexArgumentSplitter {
+    private static final String INVALID_COMMAND_MESSAGE = "Invalid command!";
+    private static final String DUPLICATE_FLAG_MESSAGE = """
+            Duplicate flags found!
+            Please only use each flag once!
+            """;
+    private static final String EMPTY_INPUT_MESSAGE = """
+            Invalid input!
+            One of your input fields are empty!
+            """;
+    private static final String SPACE = " ";
+
+    private static final String EVENT_FLAG_REGEX = "(?<!\\S)(-e|-t|-v|-u)(?!\\S)";
+    private static final String PARTICIPANT_FLAG_REGEX = "(?<!\\S)(-p|-email|-e)(?!\\S)";
+    private static final String ITEM_FLAG_REGEX = "(?<!\\S)(-m|-e)(?!\\S)";
+    private static final String REMOVE_EVENT_FLAG_REGEX = "(?<!\\S)(-e)(?!\\S)";
+    private static final String REMOVE_PARTICIPANT_FLAG_REGEX = "(?<!\\S)(-p|-e)(?!\\S)";
+    private static final String EDIT_EVENT_ATTRIBUTE_FLAG_REGEX = "(?<!\\S)(-e|-name|-t|-v|-u)(?!\\S)";
+    private static final String VIEW_FLAG_REGEX = "(?<!\\S)(-e|-y)(?!\\S)";
+    private static final String MARK_EVENT_FLAG_REGEX = "(?<!\\S)(-e|-s)(?!\\S)";
+    private static final String MARK_PARTICIPANT_FLAG_REGEX = "(?<!\\S)(-p|-e|-s)(?!\\S)";
+    private static final String MARK_ITEM_FLAG_REGEX = "(?<!\\S)(-m|-e|-s)(?!\\S)";
+    private static final String COPY_FLAG_REGEX = "(?<!\\S)(>)(?!\\S)";
+    private static final String SORT_FLAG_REGEX = "(?<!\\S)(-by)(?!\\S)";
+    private static final String FILTER_FLAG_REGEX = "(?<!\\S)(-e|-d|-t|-x|-u)(?!\\S)";
+    private static final String FIND_FLAG_REGEX = "(?<!\\S)(-e|-p)(?!\\S)";
+
+    private static final String ADD_EVENT_REGEX = "add\\s+-e\\s+(.*?)\\s+-t\\s+(.*?)\\s+-v\\s+(.*?)\\s+-u\\s+(.*)";
+    private static final String ADD_PARTICIPANT_REGEX = "add\\s+-p\\s+(.*?)\\s+" +
+            "-email\\s+(.*?)\\s+-e\\s+(.*)";
+    private static final String ADD_ITEM_REGEX = "add\\s+-m\\s+(.*?)\\s+-e\\s+(.*)";
+    private static final String REMOVE_EVENT_REGEX = "remove\\s+-e\\s+(.*)";
+    private static final String REMOVE_PARTICIPANT_REGEX = "remove\\s+-p\\s+(.*?)\\s+-e\\s+(.*)";
+    private static final String REMOVE_ITEM_REGEX = "remove\\s+-m\\s+(.*?)\\s+-e\\s+(.*)";
+    private static final String EDIT_EVENT_ATTRIBUTE_REGEX = "edit\\s+-e\\s+(.*?)\\s+" +
+            "-name\\s+(.*?)\\s+-t\\s+(.*?)\\s+-v\\s+(.*?)\\s+-u\\s+(.*)";
+    private static final String EDIT_PARTICIPANT_REGEX = "edit\\s+-p\\s+(.*?)\\s+-name\\s+(.*?)" +
+            "-email\\s+(.*?)\\s+-e\\s+(.*)";
+    private static final String EDIT_ITEM_REGEX = "edit\\s+-m\\s+(.*?)\\s+-e\\s+(.*)";
+    private static final String VIEW_REGEX = "view\\s+-e\\s+(.*?)\\s+-y\\s+(.*)";
+    private static final String MARK_EVENT_REGEX = "mark\\s+-e\\s+(.*?)\\s+-s\\s+(.*)";
+    private static final String MARK_PARTICIPANT_REGEX = "mark\\s+-p\\s+(.*?)\\s+-e\\s+(.*?)\\s+-s\\s+(.*)";
+    private static final String MARK_ITEM_REGEX = "mark\\s+-m\\s+(.*?)\\s+-e\\s+(.*?)\\s+-s\\s+(.*)";
+    private static final String COPY_REGEX = "copy\\s+(.*?)\\s\\>\\s+(.*)";
+    private static final String SORT_REGEX = "sort\\s+-by\\s+(.*)";
+    private static final String FILTER_REGEX = "filter\\s+(-[e|d|t|x|u])\\s(.*)";
+    private static final String FIND_REGEX = "find\\s+-e\\s+(.*?)\\s+-p\\s+(.*)";
+
+    private static final Map<String, Syntax> SYNTAXES = Map.ofEntries(
+            Map.entry("add -e", new Syntax(ADD_EVENT_REGEX, EVENT_FLAG_REGEX,
+                    List.of("-e", "-t", "-v", "-u"))),
+            Map.entry("add -p", new Syntax(ADD_PARTICIPANT_REGEX, PARTICIPANT_FLAG_REGEX,
+                    List.of("-p", "-email", "-e"))),
+            Map.entry("add -m", new Syntax(ADD_ITEM_REGEX, ITEM_FLAG_REGEX, List.of("-m", "-e"))),
+            Map.entry("remove -e", new Syntax(REMOVE_EVENT_REGEX, REMOVE_EVENT_FLAG_REGEX, List.of("-e"))),
+            Map.entry("remove -p", new Syntax(REMOVE_PARTICIPANT_REGEX, REMOVE_PARTICIPANT_FLAG_REGEX,
+                    List.of("-p", "-e"))),
+            Map.entry("remove -m", new Syntax(REMOVE_ITEM_REGEX, ITEM_FLAG_REGEX, List.of("-m", "-e"))),
+            Map.entry("edit -e", new Syntax(EDIT_EVENT_ATTRIBUTE_REGEX, EDIT_EVENT_ATTRIBUTE_FLAG_REGEX,
+                    List.of("-e", "-name", "-t", "-v", "-u"))),
+            Map.entry("edit -p", new Syntax(EDIT_PARTICIPANT_REGEX, PARTICIPANT_FLAG_REGEX,
+                    List.of("-p", "-name", "-email", "-e"))),
+            Map.entry("edit -m", new Syntax(EDIT_ITEM_REGEX, ITEM_FLAG_REGEX, List.of("-m", "-e"))),
+            Map.entry("view -e", new Syntax(VIEW_REGEX, VIEW_FLAG_REGEX, List.of("-e", "-y"))),
+            Map.entry("mark -e", new Syntax(MARK_EVENT_REGEX, MARK_EVENT_FLAG_REGEX, List.of("-e", "-s"))),
+            Map.entry("mark -p", new Syntax(MARK_PARTICIPANT_REGEX, MARK_PARTICIPANT_FLAG_REGEX,
+                    List.of("-p", "-e", "-s"))),
+            Map.entry("mark -m", new Syntax(MARK_ITEM_REGEX, MARK_ITEM_FLAG_REGEX, List.of("-m", "-e", "-s"))),
+            Map.entry("copy", new Syntax(COPY_REGEX, COPY_FLAG_REGEX, List.of(">"))),
+            Map.entry("sort", new Syntax(SORT_REGEX, SORT_FLAG_REGEX, List.of("-by"))),
+            Map.entry("filter", new Syntax(FILTER_REGEX, FILTER_FLAG_REGEX, List.of("-e", "-d", "-t", "-x", "-u"))),
+            Map.entry("find", new Syntax(FIND_REGEX, FIND_FLAG_REGEX, List.of("-e", "-p")))
+    );
+
+    /**
+     * Returns the syntax of the command of a given user input, or null if the command takes no fields.
+     * Commands with more than one form are told apart by their first flag, as in the old parser.
+     *
+     * @param input the given user input.
+     * @return the syntax of the command of input, or null if the command takes no fields.
+     */
+    public static Syntax getSyntax(String input) {
+        String[] commandParts = input.trim().split(SPACE);
+        String commandWord = commandParts[0].toLowerCase();
+        Syntax syntax = SYNTAXES.get(commandWord);
+        if (syntax == null && commandParts.length > 1) {
+            syntax = SYNTAXES.get(commandWord + SPACE + commandParts[1]);
+        }
+        return syntax;
+    }
+
+    /**
+     * Represents the regexes of one command of the old parser, along with the flags that
+     * {@link CommandArguments} expects for the same command.
+     */
+    public static class Syntax {
+        private final String regex;
+        private final String flagRegex;
+        private final List<String> flags;
+
+        /**
+         * Constructs a Syntax with a given input regex, flag regex and flags.
+         *
+         * @param regex the regex of the whole input, with one group per field.
+         * @param flagRegex the regex of a single flag of the command.
+         * @param flags the flags of the command, in order.
+         */
+        private Syntax(String regex, String flagRegex, List<String> flags) {
+            this.regex = regex;
+            this.flagRegex = flagRegex;
+            this.flags = flags;
+        }
+
+        /**
+         * Returns the flags of the command, in order.
+         *
+         * @return the flags of the command.
+         */
+        public List<String> getFlags() {
+            return flags;
+        }
+
+        /**
+         * Returns the field values of a given user input, split with the old regexes.
+         *
+         * @param input the given user input.
+         * @return the trimmed field values of input, in order.
+         * @throws InvalidCommandException if input has a duplicate flag, does not match the command, or has an
+         *         empty field.
+         */
+        public String[] split(String input) throws InvalidCommandException {
+            input = input.trim();
+            checkForDuplicateFlags(input, flagRegex);
+            Matcher matcher = getMatcher(input, regex);
+
+            if (!matcher.matches()) {
+                throw new InvalidCommandException(INVALID_COMMAND_MESSAGE);
+            }
+
+            String[] values = new String[matcher.groupCount()];
+            for (int i = 0; i < values.length; i++) {
+                if (matcher.group(i + 1).isBlank()) {
+                    throw new InvalidCommandException(EMPTY_INPUT_MESSAGE);
+                }
+                values[i] = matcher.group(i + 1).trim();
+            }
+            return values;
+        }
+
+        /**
+         * Checks a given input for duplicate flags, compiling the flag regex on each call.
+         *
+         * @param input the given user input.
+         * @param flagRegex the regex of a single flag.
+         * @throws InvalidCommandException if a flag appears more than once in input.
+         */
+        private static void checkForDuplicateFlags(String input, String flagRegex) throws InvalidCommandException {
+            Pattern flagPattern = Pattern.compile(flagRegex);
+            Matcher flagMatcher = flagPattern.matcher(input + " ");
+
+            Set<String> seenFlags = new HashSet<>();
+
+            while (flagMatcher.find()) {
+                String flag = flagMatcher.group();
+
+                if (!seenFlags.add(flag)) {
+                    throw new InvalidCommandException(DUPLICATE_FLAG_MESSAGE);
+                }
+            }
+        }
+
+        /**
+         * Gets a {@link Matcher} from a given input string and regex, compiling the regex on each call.
+         *
+         * @param input the given input string.
+         * @param regex the given regex.
+         * @return a {@link Matcher} for input and regex.
+         */
+        private static Matcher getMatcher(String input, String regex) {
+            Pattern pattern = Pattern.compile(regex);
+            return pattern.matcher(input);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.manager.storage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.manager.benchmark.DatasetGenerator;
+import seedu.manager.enumeration.StorageFormat;
+import seedu.manager.event.Event;
+import seedu.manager.event.EventList;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+//@@author jemehgoh
+/**
+ * Measures the cost of saving and loading event lists of increasing size, in each storage format.
+ * <p>
+ * {@code saveInfo} marks one event as done or not done before each save, so that the events always have
+ * unsaved changes and are written in full. {@code loadInfo} loads the saved file into a new event list, which
+ * goes through {@link FileParser#parseFile(EventList, String)} for a CSV file, and {@link SnapshotFile} for a
+ * binary file.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StorageBenchmark {
+    private static final String FILE_NAME = "data.txt";
+
+    @Param({"100", "10000", "1000000"})
+    private int rowCount;
+
+    @Param({"CSV", "BINARY"})
+    private StorageFormat format;
+
+    private Path directory;
+    private Storage storage;
+    private EventList events;
+    private Event changedEvent;
+
+    /**
+     * Generates the event list, and saves it once so that there is a file to load.
+     *
+     * @throws IOException if the file could not be saved.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("storage-benchmark");
+        storage = new Storage(directory.resolve(FILE_NAME).toString());
+        storage.setFormat(format);
+        events = DatasetGenerator.generate(rowCount);
+        changedEvent = events.getEvent(0);
+        storage.saveInfo(events);
+    }
+
+    /**
+     * Deletes the saved files.
+     *
+     * @throws IOException if the files could not be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Changes one event, and saves the events.
+     *
+     * @throws IOException if the events could not be saved.
+     */
+    @Benchmark
+    public void saveInfo() throws IOException {
+        changedEvent.setDone(!changedEvent.isDone());
+        storage.saveInfo(events);
+    }
+
+    /**
+     * Loads the saved file into a new event list.
+     *
+     * @return the loaded event list.
+     * @throws IOException if the file could not be loaded.
+     */
+    @Benchmark
+    public EventList loadInfo() throws IOException {
+        EventList loadedEvents = new EventList();
+        storage.loadInfo(loadedEvents);
+        return loadedEvents;
+    }
+}
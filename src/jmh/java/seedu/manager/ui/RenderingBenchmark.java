@@ -0,0 +1,136 @@
+package seedu.manager.ui;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import seedu.manager.enumeration.Priority;
+import seedu.manager.event.Event;
+import seedu.manager.item.Participant;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//@@author jemehgoh
+/**
+ * Measures the cost of rendering the numbered lines of a list of events and participants.
+ * <p>
+ * The {@code format} benchmarks render each line with {@link String#format} and a new
+ * {@link DateTimeFormatter}, as lines were rendered before {@link Renderable} was added. The {@code append}
+ * benchmarks append each line into one reused {@link StringBuilder}, as list commands now do.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderingBenchmark {
+    private static final LocalDateTime FIRST_EVENT_TIME = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    @Param({"100", "10000", "1000000"})
+    private int rowCount;
+
+    private List<Event> events;
+    private List<Participant> participants;
+
+    /**
+     * Creates the events and participants to be rendered.
+     */
+    @Setup
+    public void setUp() {
+        events = new ArrayList<>(rowCount);
+        participants = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            events.add(new Event("Event " + i, FIRST_EVENT_TIME.plusMinutes(i), "Venue " + i, Priority.MEDIUM));
+            participants.add(new Participant("Participant " + i, "participant" + i + "@example.com", i % 2 == 0));
+        }
+    }
+
+    /**
+     * Renders the events with {@link String#format}.
+     *
+     * @param blackhole the sink for each rendered line.
+     */
+    @Benchmark
+    public void formatEvents(Blackhole blackhole) {
+        for (int i = 0; i < events.size(); i++) {
+            blackhole.consume(String.format("%d. %s\n", i + 1, formatEvent(events.get(i))));
+        }
+    }
+
+    /**
+     * Renders the events into one reused {@link StringBuilder}.
+     *
+     * @param blackhole the sink for the rendered lines.
+     */
+    @Benchmark
+    public void appendEvents(Blackhole blackhole) {
+        blackhole.consume(appendLines(events));
+    }
+
+    /**
+     * Renders the participants with {@link String#format}.
+     *
+     * @param blackhole the sink for each rendered line.
+     */
+    @Benchmark
+    public void formatParticipants(Blackhole blackhole) {
+        for (int i = 0; i < participants.size(); i++) {
+            Participant participant = participants.get(i);
+            blackhole.consume(String.format("%d. %s\n", i + 1, String.format("Name: %s / Email: %s [%s]",
+                    participant.getName(), participant.getEmail(), participant.markIfPresent())));
+        }
+    }
+
+    /**
+     * Renders the participants into one reused {@link StringBuilder}.
+     *
+     * @param blackhole the sink for the rendered lines.
+     */
+    @Benchmark
+    public void appendParticipants(Blackhole blackhole) {
+        blackhole.consume(appendLines(participants));
+    }
+
+    /**
+     * Appends the numbered lines of the given rows into one {@link StringBuilder}.
+     *
+     * @param rows the rows to render.
+     * @return the number of characters rendered.
+     */
+    private static int appendLines(List<? extends Renderable> rows) {
+        StringBuilder output = new StringBuilder();
+        for (int i = 0; i < rows.size(); i++) {
+            output.append(i + 1).append(". ");
+            rows.get(i).appendTo(output);
+            output.append('\n');
+        }
+        return output.length();
+    }
+
+    /**
+     * Returns the line of an event, rendered as it was before {@link Renderable} was added.
+     *
+     * @param event the event to render.
+     * @return the line of the event.
+     */
+    private static String formatEvent(Event event) {
+        String eventTimeString = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm").format(event.getEventTime());
+        return String.format("Event name: %s / Event time: %s / Event venue: %s / Event Priority: %s / Done: %s",
+                event.getEventName(), eventTimeString, event.getEventVenue(), event.getEventPriority(),
+                event.markIfDone());
+    }
+}
@@ -1,48 +1,163 @@
 package seedu.manager;
 
 import seedu.manager.command.Command;
+import seedu.manager.enumeration.CommandPhase;
+import seedu.manager.enumeration.StorageFormat;
+import seedu.manager.event.ConcurrentEventList;
 import seedu.manager.event.EventList;
 import seedu.manager.exception.InvalidCommandException;
+import seedu.manager.logging.LogFile;
 import seedu.manager.parser.Parser;
+import seedu.manager.server.Server;
+import seedu.manager.stats.CommandStats;
+import seedu.manager.stats.PhaseTimer;
+import seedu.manager.storage.Persister;
 import seedu.manager.ui.Ui;
 import seedu.manager.storage.Storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 
 public class Main {
-    private static final Ui ui = new Ui();
+    private static final String SCRIPT_OPTION = "--script";
+    private static final String STANDARD_INPUT_PATH = "-";
+    private static final String SERVE_OPTION = "--serve";
+    private static final String FORMAT_OPTION = "--format";
+    private static Ui ui = new Ui();
     private static EventList events = new EventList();
     private static final String EVENT_FILE_PATH = "data.txt";
     private static final Storage storage = new Storage(EVENT_FILE_PATH);
+    private static final Parser parser = new Parser();
+    private static ConcurrentEventList sharedEvents;
+    private static Persister persister;
 
     /**
      * Main entry-point for the EventManagerCLI application.
+     * <p>
+     * Running with {@code --script FILE} executes the commands in FILE (or standard input, if FILE is {@code -})
+     * without prompting, and saves the events once all the commands have been executed.
+     * Running with {@code --serve PORT} serves the events to clients connecting to PORT on the loopback address,
+     * until the program is terminated.
+     * Either may be preceded by {@code --format csv} or {@code --format binary}, which sets the format that the
+     * events are saved in.
+     * </p>
      */
     public static void main(String[] args) {
+        if (args.length >= 2 && args[0].equals(FORMAT_OPTION)) {
+            setStorageFormat(args[1]);
+            args = Arrays.copyOfRange(args, 2, args.length);
+        }
+        if (args.length == 2 && args[0].equals(SERVE_OPTION)) {
+            runServer(args[1]);
+            return;
+        }
+        if (args.length == 2 && args[0].equals(SCRIPT_OPTION)) {
+            openScript(args[1]);
+        }
         ui.greetUser();
         loadData();
+        startPersister();
         runCommandLoop();
+        persister.close();
+        saveData();
+        ui.flush();
+        LogFile.close();
         System.exit(0);
     }
 
+    //@@author jemehgoh
+    /**
+     * Sets the Ui to read commands from a script file in batch mode. Exits the program if the file cannot be read.
+     *
+     * @param scriptPath the path to the script file, or {@code -} for standard input.
+     */
+    private static void openScript(String scriptPath) {
+        try {
+            if (scriptPath.equals(STANDARD_INPUT_PATH)) {
+                ui = new Ui(System.in, true);
+            } else {
+                ui = new Ui(Files.newInputStream(Path.of(scriptPath)), true);
+            }
+        } catch (IOException exception) {
+            ui.showErrorMessageToUser(new IOException("Script file cannot be read: " + scriptPath));
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Sets the format that the events are saved in. Exits the program if the format is not valid.
+     *
+     * @param format the name of the format, in any case.
+     */
+    private static void setStorageFormat(String format) {
+        try {
+            storage.setFormat(StorageFormat.valueOf(format.toUpperCase()));
+        } catch (IllegalArgumentException exception) {
+            ui.showErrorMessageToUser(new IOException("Invalid storage format: " + format));
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Starts saving the changes made by each command in the background. The changes not yet saved are saved
+     * before the program exits, including when it is terminated.
+     */
+    private static void startPersister() {
+        sharedEvents = new ConcurrentEventList(events);
+        persister = new Persister(storage, sharedEvents);
+        Runtime.getRuntime().addShutdownHook(new Thread(persister::close));
+    }
+
+    /**
+     * Loads the events, and serves them to clients on a given port until the program is terminated.
+     * The events are saved when the program is terminated.
+     *
+     * @param port the port to listen on.
+     */
+    private static void runServer(String port) {
+        loadData();
+        sharedEvents = new ConcurrentEventList(events);
+        try {
+            Server server = new Server(Integer.parseInt(port), sharedEvents, storage);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                server.stop();
+                saveSharedData();
+            }));
+            ui.showMessage("Listening for clients on port " + server.getPort());
+            server.run();
+        } catch (IllegalArgumentException exception) {
+            ui.showErrorMessageToUser(new IOException("Invalid port: " + port));
+        } catch (IOException exception) {
+            ui.showErrorMessageToUser(exception);
+        }
+    }
+
     //@@author MatchaRRR
     /**
      * Run command loop to get command from users
      * Parse the command and execute it
-     * The loop ends when ExitCommand is triggered
+     * The loop ends when ExitCommand is triggered, or when there are no more commands
+     * Changes are saved in the background, except in batch mode, where they are only saved after the loop ends
+     * Each phase of each command is timed, and recorded in the {@link CommandStats}
      */
     private static void runCommandLoop() {
-        Command command;
         boolean isGettingCommands = true;
         while (isGettingCommands){
             try {
                 String userCommandText = ui.getCommand();
-                command = new Parser().parseCommand(userCommandText);
-                command.setData(events);
-                command.execute();
+                if (userCommandText == null) {
+                    break;
+                }
+                PhaseTimer timer = new PhaseTimer();
+                Command command = parseCommand(userCommandText, timer);
+                sharedEvents.write(changedEvents -> executeCommand(command, changedEvents, timer));
                 ui.showOutputToUser(command);
-                saveData();
+                timer.endPhase(CommandPhase.RENDER);
+                CommandStats.record(command.getCommandWord(), timer);
                 isGettingCommands = !command.getCanExit();
+                persister.checkError();
             } catch (InvalidCommandException | IOException exception) {
                 ui.showErrorMessageToUser(exception);
             }
@@ -56,12 +171,53 @@ public class Main {
     private static void loadData() {
         try {
             storage.loadInfo(events);
+            events.markClean();
             ui.showMessage("Events loaded successfully. Any erroneous lines have been ignored.");
         } catch (IOException exception) {
             ui.showErrorMessageToUser(exception);
         }
     }
 
+    //@@author jemehgoh
+    /**
+     * Parses a user command, and ends its parse phase. A command that cannot be parsed is recorded as invalid.
+     *
+     * @param userCommandText the command entered by the user.
+     * @param timer the timer of the command.
+     * @return the parsed command.
+     * @throws InvalidCommandException if the command cannot be parsed.
+     */
+    private static Command parseCommand(String userCommandText, PhaseTimer timer)
+            throws InvalidCommandException {
+        Command command;
+        try {
+            command = parser.parseCommand(userCommandText);
+        } catch (InvalidCommandException exception) {
+            CommandStats.recordInvalid(timer);
+            throw exception;
+        }
+        timer.endPhase(CommandPhase.PARSE);
+        return command;
+    }
+
+    /**
+     * Executes a command on the events, and queues its changes to be saved unless in batch mode.
+     * This is called under the write lock of the events, so that the events are not saved in the middle
+     * of a change.
+     *
+     * @param command the command to execute.
+     * @param changedEvents the events to execute the command on.
+     * @param timer the timer of the command.
+     */
+    private static void executeCommand(Command command, EventList changedEvents, PhaseTimer timer) {
+        command.execute(changedEvents);
+        timer.endPhase(CommandPhase.EXECUTE);
+        if (!ui.isBatchMode()) {
+            persister.saveChanges(changedEvents, command);
+            timer.endPhase(CommandPhase.PERSIST);
+        }
+    }
+
     //@@author KuanHsienn
     /**
      * Saves events to file and handles exceptions.
@@ -73,4 +229,16 @@ public class Main {
             ui.showErrorMessageToUser(exception);
         }
     }
+
+    //@@author jemehgoh
+    /**
+     * Saves events shared with a server to file and handles exceptions.
+     */
+    private static void saveSharedData() {
+        try {
+            sharedEvents.write(storage::saveInfo);
+        } catch (IOException exception) {
+            ui.showErrorMessageToUser(exception);
+        }
+    }
 }
@@ -1,9 +1,9 @@
 package seedu.manager.command;
 
 import seedu.manager.enumeration.Priority;
+import seedu.manager.parser.DateTimeParser;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 //@@author KuanHsienn
 /**
@@ -13,6 +13,9 @@ import java.time.format.DateTimeFormatter;
  */
 public class AddCommand extends Command {
     public static final String COMMAND_WORD = "add";
+    public static final String ADD_EVENT_RECORD = "ADD_EVENT";
+    public static final String ADD_PARTICIPANT_RECORD = "ADD_PARTICIPANT";
+    public static final String ADD_ITEM_RECORD = "ADD_ITEM";
     private static final String ADD_EVENT_MESSAGE = "Event added successfully:\n";
     private static final String ADD_PARTICIPANT_MESSAGE = "Participant added successfully:\n";
     private static final String ADD_ITEM_MESSAGE = "Item added successfully:\n";
@@ -98,6 +101,22 @@ public class AddCommand extends Command {
         }
     }
 
+    /**
+     * Returns the fields of a journal record for the event, participant or item added.
+     *
+     * @return the journal record fields of the command.
+     */
+    @Override
+    public String[] getJournalFields() {
+        if (participantName != null) {
+            return new String[]{ADD_PARTICIPANT_RECORD, participantName, participantEmail, eventName};
+        } else if (itemName != null) {
+            return new String[]{ADD_ITEM_RECORD, itemName, eventName};
+        }
+        return new String[]{ADD_EVENT_RECORD, eventName, DateTimeParser.formatDateTime(time), venue,
+                priority.name()};
+    }
+
     /**
      * Adds a participant to an event.
      */
@@ -138,10 +157,20 @@ public class AddCommand extends Command {
 
         StringBuilder outputMessage = new StringBuilder();
         outputMessage.append(ADD_EVENT_MESSAGE);
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
-        String dateTimeString = formatter.format(time);
+        String dateTimeString = DateTimeParser.formatDateTime(time);
         outputMessage.append(String.format("Event name: %s / Event time: %s / Event venue: %s / Event priority: %s",
                 nameToShow, dateTimeString, venue, priority));
         message = outputMessage.toString();
     }
+
+    //@@author jemehgoh
+    /**
+     * Returns the command word of the add command.
+     *
+     * @return the command word.
+     */
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
 }
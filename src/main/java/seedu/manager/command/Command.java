@@ -2,6 +2,8 @@ package seedu.manager.command;
 
 import seedu.manager.event.EventList;
 
+import java.util.function.Consumer;
+
 //@@author jemehgoh
 /**
  * Represents an executable command
@@ -36,6 +38,28 @@ public abstract class Command {
      */
     public abstract void execute();
 
+    //@@author jemehgoh
+    /**
+     * Executes the command on a given event list, recording a {@link CommandExecutionEvent} for Flight Recorder.
+     *
+     * @param events the event list to execute the command on.
+     */
+    public void execute(EventList events) {
+        CommandExecutionEvent executionEvent = new CommandExecutionEvent();
+        executionEvent.begin();
+        setData(events);
+        execute();
+        executionEvent.end();
+
+        if (executionEvent.shouldCommit()) {
+            executionEvent.commandWord = getCommandWord();
+            executionEvent.isReadOnly = isReadOnly();
+            executionEvent.eventCount = events.getListSize();
+            executionEvent.listedCount = getListedCount();
+            executionEvent.commit();
+        }
+    }
+
     /**
      * Returns the command's message
      *
@@ -46,6 +70,52 @@ public abstract class Command {
         return message;
     }
 
+    //@@author jemehgoh
+    /**
+     * Writes the command's message to a given output, one part at a time.
+     *
+     * @param output the output that each part of the message is written to.
+     */
+    public void writeMessage(Consumer<String> output) {
+        output.accept(getMessage());
+    }
+
+    /**
+     * Returns true if the command only reads the event list, returns false if it may change the event list.
+     *
+     * @return true if the command does not change the event list, false otherwise.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
+    /**
+     * Returns the fields of a journal record describing the changes the command makes to the event list.
+     * Returns null if the command does not change the event list.
+     *
+     * @return the journal record fields of the command, or null if the command does not change the event list.
+     */
+    public String[] getJournalFields() {
+        return null;
+    }
+
+    /**
+     * Returns the number of events, participants or items listed by the command, or 0 if the command does not
+     * list any.
+     *
+     * @return the number of events, participants or items listed.
+     */
+    protected int getListedCount() {
+        return 0;
+    }
+
+    /**
+     * Returns the command word that the command is entered with.
+     *
+     * @return the command word of the command.
+     */
+    public abstract String getCommandWord();
+
     /**
      * Returns true if the program can be exited from, returns false otherwise
      *
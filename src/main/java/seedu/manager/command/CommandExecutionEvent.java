@@ -0,0 +1,35 @@
+package seedu.manager.command;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+//@@author jemehgoh
+/**
+ * Represents a Flight Recorder event for the execution of one command by
+ * {@link Command#execute(seedu.manager.event.EventList)}.
+ */
+@Name("seedu.manager.CommandExecution")
+@Label("Command Execution")
+@Category({"EventManagerCLI", "Commands"})
+@Description("The execution of a command on the event list")
+@StackTrace(false)
+class CommandExecutionEvent extends Event {
+    @Label("Command Word")
+    String commandWord;
+
+    @Label("Read Only")
+    @Description("Whether the command only reads the event list")
+    boolean isReadOnly;
+
+    @Label("Event Count")
+    @Description("The number of events in the event list after the command")
+    int eventCount;
+
+    @Label("Listed Count")
+    @Description("The number of events, participants or items listed by the command")
+    int listedCount;
+}
@@ -4,6 +4,7 @@ import seedu.manager.event.Event;
 import seedu.manager.item.Participant;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 //@@author LTK-1606
@@ -12,6 +13,7 @@ import java.util.Optional;
  */
 public class CopyCommand extends Command {
     public static final String COMMAND_WORD = "copy";
+    public static final String COPY_RECORD = "COPY";
 
     private static final String EVENT_NOT_FOUND = "Event(s) not found!";
     private static final String PARTICIPANT_NOT_FOUND = "Participant list is empty!";
@@ -52,7 +54,7 @@ public class CopyCommand extends Command {
             if (eventFrom.get().getParticipantList().isEmpty()) {
                 outputMessage.append(PARTICIPANT_NOT_FOUND);
             } else {
-                ArrayList<Participant> participants = eventFrom.get().getParticipantList();
+                List<Participant> participants = eventFrom.get().getParticipantList();
                 ArrayList<Participant> copyOfParticipants = copyParticipantList(participants);
                 eventTo.get().setParticipantList(copyOfParticipants);
                 outputMessage.append(COPY_SUCCESSFUL);
@@ -64,13 +66,23 @@ public class CopyCommand extends Command {
         this.message = outputMessage.toString();
     }
 
+    /**
+     * Returns the fields of a journal record for the participant list copied.
+     *
+     * @return the journal record fields of the command.
+     */
+    @Override
+    public String[] getJournalFields() {
+        return new String[]{COPY_RECORD, copyFrom, copyTo};
+    }
+
     /**
      * Returns a copy of a given list of {@link Participant}s.
      *
      * @param participants the list of Participants.
      * @return a copy of participants.
      */
-    private ArrayList<Participant> copyParticipantList(ArrayList<Participant> participants) {
+    private ArrayList<Participant> copyParticipantList(List<Participant> participants) {
         ArrayList<Participant> copyOfParticipants = new ArrayList<>();
         for (Participant participant : participants) {
             Participant participantCopy = copyParticipant(participant);
@@ -92,4 +104,15 @@ public class CopyCommand extends Command {
 
         return new Participant(name, email, false);
     }
+
+    //@@author jemehgoh
+    /**
+     * Returns the command word of the copy command.
+     *
+     * @return the command word.
+     */
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
 }
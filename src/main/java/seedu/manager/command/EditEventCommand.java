@@ -1,9 +1,9 @@
 package seedu.manager.command;
 
 import seedu.manager.enumeration.Priority;
+import seedu.manager.parser.DateTimeParser;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 /**
  * Represents a command to edit an event to the event list.
@@ -11,6 +11,7 @@ import java.time.format.DateTimeFormatter;
  */
 public class EditEventCommand extends Command{
     public static final String COMMAND_WORD = "edit";
+    public static final String EDIT_EVENT_RECORD = "EDIT_EVENT";
     private static final String EDIT_EVENT_MESSAGE = "The event has been updated to:\n";
     private static final String EDIT_FAILURE_MESSAGE = "Event not found!";
     protected String eventName;
@@ -54,6 +55,17 @@ public class EditEventCommand extends Command{
         }
     }
 
+    /**
+     * Returns the fields of a journal record for the event edited.
+     *
+     * @return the journal record fields of the command.
+     */
+    @Override
+    public String[] getJournalFields() {
+        return new String[]{EDIT_EVENT_RECORD, eventName, eventNewName, DateTimeParser.formatDateTime(eventTime),
+                eventVenue, eventPriority.name()};
+    }
+
     /**
      * Returns a success output message with the given event details.
      *
@@ -64,8 +76,7 @@ public class EditEventCommand extends Command{
      * @return an output message with name, time, venue and priority.
      */
     private String getOutputMessage(String name, LocalDateTime time, String venue, Priority priority) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
-        String dateTimeString = formatter.format(time);
+        String dateTimeString = DateTimeParser.formatDateTime(time);
         StringBuilder outputMessage = new StringBuilder();
         outputMessage.append(EDIT_EVENT_MESSAGE);
         String formattedString = String.format("Event name: %s / Event time: %s / Event venue: %s / " +
@@ -73,4 +84,15 @@ public class EditEventCommand extends Command{
         outputMessage.append(formattedString);
         return outputMessage.toString();
     }
+
+    //@@author jemehgoh
+    /**
+     * Returns the command word of the edit event command.
+     *
+     * @return the command word.
+     */
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
 }
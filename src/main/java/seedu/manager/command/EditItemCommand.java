@@ -6,6 +6,7 @@ package seedu.manager.command;
  */
 public class EditItemCommand extends Command {
     public static final String COMMAND_WORD = "edit";
+    public static final String EDIT_ITEM_RECORD = "EDIT_ITEM";
     private static final String EDIT_ITEM_MESSAGE = "The item has been updated to:\n";
     private static final String EDIT_FAILURE_MESSAGE = "Event/Item not found!";
     protected String itemName;
@@ -38,6 +39,16 @@ public class EditItemCommand extends Command {
         }
     }
 
+    /**
+     * Returns the fields of a journal record for the item edited.
+     *
+     * @return the journal record fields of the command.
+     */
+    @Override
+    public String[] getJournalFields() {
+        return new String[]{EDIT_ITEM_RECORD, itemName, itemNewName, eventName};
+    }
+
     /**
      * Returns a success output message with the given item details.
      *
@@ -51,4 +62,15 @@ public class EditItemCommand extends Command {
         outputMessage.append(formattedString);
         return outputMessage.toString();
     }
+
+    //@@author jemehgoh
+    /**
+     * Returns the command word of the edit item command.
+     *
+     * @return the command word.
+     */
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
 }
@@ -6,6 +6,7 @@ package seedu.manager.command;
  */
 public class EditParticipantCommand extends Command{
     public static final String COMMAND_WORD = "edit";
+    public static final String EDIT_PARTICIPANT_RECORD = "EDIT_PARTICIPANT";
     private static final String EDIT_PARTICIPANT_MESSAGE = "The participant has been updated to:\n";
     private static final String EDIT_FAILURE_MESSAGE = "Event/Participant not found!";
     protected String eventName;
@@ -50,6 +51,17 @@ public class EditParticipantCommand extends Command{
         }
     }
 
+    /**
+     * Returns the fields of a journal record for the participant edited.
+     *
+     * @return the journal record fields of the command.
+     */
+    @Override
+    public String[] getJournalFields() {
+        return new String[]{EDIT_PARTICIPANT_RECORD, participantName, newParticipantName, participantEmail,
+                eventName};
+    }
+
     /**
      * Returns a success output message with the given participant details.
      *
@@ -65,4 +77,15 @@ public class EditParticipantCommand extends Command{
         outputMessage.append(formattedString);
         return outputMessage.toString();
     }
+
+    //@@author jemehgoh
+    /**
+     * Returns the command word of the edit participant command.
+     *
+     * @return the command word.
+     */
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
 }
@@ -21,4 +21,24 @@ public class ExitCommand extends Command {
     public void execute() {
         this.message = EXIT_MESSAGE;
     }
+
+    /**
+     * Returns true, as the exit command does not change the event list.
+     *
+     * @return true.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    /**
+     * Returns the command word of the exit command.
+     *
+     * @return the command word.
+     */
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
 }
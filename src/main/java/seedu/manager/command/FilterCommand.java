@@ -2,19 +2,20 @@ package seedu.manager.command;
 
 import seedu.manager.enumeration.Priority;
 import seedu.manager.event.EventList;
+import seedu.manager.parser.DateTimeParser;
 
-import java.text.SimpleDateFormat;
 import java.text.ParseException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Date;
-import java.time.ZoneId;
+import java.time.LocalTime;
+import java.util.List;
 
 //@@author LTK-1606
 /**
  * Represents a command to filter out events from the event list.
  * The filter command will filter out and display all events with the specified details
  */
-public class FilterCommand extends Command {
+public class FilterCommand extends ListingCommand {
     public static final String COMMAND_WORD = "filter";
 
     private static final String FILTER_BY_NAME_MESSAGE = "Events successfully filtered by name!";
@@ -24,6 +25,7 @@ public class FilterCommand extends Command {
     private static final String FILTER_BY_PRIORITY_MESSAGE = "Events successfully filtered by priority!";
     private static final String FILTER_NOT_FOUND = "Filter flag matched no events!";
     private static final String FILTER_RESULT_EMPTY_MESSAGE = "No events found!";
+    private static final String RANGE_SEPARATOR = "..";
 
     private static final String INVALID_DATE_FORMAT_MESSAGE = """
             Invalid date format!
@@ -52,6 +54,10 @@ public class FilterCommand extends Command {
             
             Please also take into account leap years!
             """;
+    private static final String INVALID_RANGE_MESSAGE = """
+            Invalid range!
+            The start of the range must not be after the end of the range.
+            """;
     private static final String INVALID_PRIORITY_FORMAT_MESSAGE = """
             Invalid priority format!
             Please use the following format for priority: high/medium/low
@@ -69,7 +75,7 @@ public class FilterCommand extends Command {
      * @param filterWord the word to filter by, based on the specified flag.
      */
     public FilterCommand(String flag, String filterWord) {
-        super(false);
+        super();
         this.flag = flag;
         this.filterWord = filterWord;
     }
@@ -81,7 +87,7 @@ public class FilterCommand extends Command {
     @Override
     public void execute() {
         StringBuilder outputMessage = new StringBuilder();
-        filteredEvents = new EventList();
+        filteredEvents = null;
 
         switch (flag) {
         case "-e":
@@ -103,15 +109,13 @@ public class FilterCommand extends Command {
             break;
         }
 
-        if (isValidFields && filteredEvents.getListSize() == 0) {
+        boolean hasFilteredEvents = filteredEvents != null && filteredEvents.getListSize() > 0;
+        if (isValidFields && !hasFilteredEvents) {
             outputMessage.setLength(0);
             outputMessage.append(FILTER_NOT_FOUND);
-        } else {
-            for (int i = 0; i < filteredEvents.getListSize(); i++) {
-                outputMessage.append(String.format("%d. %s\n", i + 1, filteredEvents.getEvent(i).toString()));
-            }
         }
         this.message = outputMessage.toString();
+        this.listedItems = (filteredEvents == null) ? List.of() : filteredEvents.getList();
     }
 
     /**
@@ -129,17 +133,21 @@ public class FilterCommand extends Command {
     }
 
     /**
-     * Filters the even list by date and updates {@code filteredEvents} with the filtered list.
+     * Filters the even list by date, or by a range of dates written as {@code START..END},
+     * and updates {@code filteredEvents} with the filtered list.
      *
      * @return successful message for filter by date or an error message if date is invalid.
      */
     private String filterEventsByDate() {
         try {
-            SimpleDateFormat dateTimeFormat = new SimpleDateFormat("yyyy-MM-dd");
-            dateTimeFormat.setLenient(false);
-            Date parsedDateTime = dateTimeFormat.parse(filterWord);
-            LocalDateTime eventTime = LocalDateTime.ofInstant(parsedDateTime.toInstant(), ZoneId.systemDefault());
-            filteredEvents = eventList.filterByDate(eventTime.toLocalDate());
+            String[] range = getRange(filterWord);
+            LocalDate startDate = DateTimeParser.parseDate(range[0]);
+            LocalDate endDate = DateTimeParser.parseDate(range[1]);
+            if (startDate.isAfter(endDate)) {
+                isValidFields = false;
+                return INVALID_RANGE_MESSAGE;
+            }
+            filteredEvents = eventList.filterByDateRange(startDate, endDate);
             if (filteredEvents.getListSize() == 0) {
                 return FILTER_RESULT_EMPTY_MESSAGE;
             }
@@ -157,11 +165,8 @@ public class FilterCommand extends Command {
      */
     private String filterEventsByTime() {
         try {
-            SimpleDateFormat dateTimeFormat = new SimpleDateFormat("HH:mm");
-            dateTimeFormat.setLenient(false);
-            Date parsedDateTime = dateTimeFormat.parse(filterWord);
-            LocalDateTime eventTime = LocalDateTime.ofInstant(parsedDateTime.toInstant(), ZoneId.systemDefault());
-            filteredEvents = eventList.filterByTime(eventTime.toLocalTime());
+            LocalTime eventTime = DateTimeParser.parseTime(filterWord);
+            filteredEvents = eventList.filterByTime(eventTime);
             if (filteredEvents.getListSize() == 0) {
                 return FILTER_RESULT_EMPTY_MESSAGE;
             }
@@ -173,17 +178,21 @@ public class FilterCommand extends Command {
     }
 
     /**
-     * Filters the even list by date-time and updates {@code filteredEvents} with the filtered list.
+     * Filters the even list by date-time, or by a range of date-times written as {@code START..END},
+     * and updates {@code filteredEvents} with the filtered list.
      *
      * @return successful message for filter by date-time or an error message if date is invalid.
      */
     private String filterEventsByDateTime() {
         try {
-            SimpleDateFormat dateTimeFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm");
-            dateTimeFormat.setLenient(false);
-            Date parsedDateTime = dateTimeFormat.parse(filterWord);
-            LocalDateTime eventTime = LocalDateTime.ofInstant(parsedDateTime.toInstant(), ZoneId.systemDefault());
-            filteredEvents = eventList.filterByDateTime(eventTime);
+            String[] range = getRange(filterWord);
+            LocalDateTime startTime = DateTimeParser.parseDateTime(range[0]);
+            LocalDateTime endTime = DateTimeParser.parseDateTime(range[1]);
+            if (startTime.isAfter(endTime)) {
+                isValidFields = false;
+                return INVALID_RANGE_MESSAGE;
+            }
+            filteredEvents = eventList.filterByTimeRange(startTime, endTime);
             if (filteredEvents.getListSize() == 0) {
                 return FILTER_RESULT_EMPTY_MESSAGE;
             }
@@ -212,4 +221,43 @@ public class FilterCommand extends Command {
             return INVALID_PRIORITY_FORMAT_MESSAGE;
         }
     }
+
+    //@@author jemehgoh
+    /**
+     * Returns the start and end of a filter description written as {@code START..END}.
+     * A description without a range separator is a range that starts and ends at the same value.
+     *
+     * @param description the filter description.
+     * @return the start and end of the range, with surrounding whitespace removed.
+     */
+    private static String[] getRange(String description) {
+        int separatorIndex = description.indexOf(RANGE_SEPARATOR);
+        if (separatorIndex < 0) {
+            return new String[]{description, description};
+        }
+        return new String[]{description.substring(0, separatorIndex).trim(),
+                description.substring(separatorIndex + RANGE_SEPARATOR.length()).trim()};
+    }
+
+    //@@author LTK-1606
+    /**
+     * Returns true, as the filter command does not change the event list.
+     *
+     * @return true.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    //@@author jemehgoh
+    /**
+     * Returns the command word of the filter command.
+     *
+     * @return the command word.
+     */
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
 }
@@ -60,7 +60,9 @@ public class FindCommand extends Command{
 
                 // print out the list of people.
                 for (int i = 0; i < participantsFound.size(); i++) {
-                    outputMessage.append(String.format("%d. %s\n", i + 1, participantsFound.get(i).toString()));
+                    outputMessage.append(i + 1).append(". ");
+                    participantsFound.get(i).appendTo(outputMessage);
+                    outputMessage.append('\n');
                 }
 
             } else {
@@ -74,4 +76,24 @@ public class FindCommand extends Command{
         this.message = outputMessage.toString();
     }
 
+    /**
+     * Returns true, as the find command does not change the event list.
+     *
+     * @return true.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    //@@author jemehgoh
+    /**
+     * Returns the command word of the find command.
+     *
+     * @return the command word.
+     */
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
 }
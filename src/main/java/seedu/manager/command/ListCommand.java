@@ -1,7 +1,7 @@
 package seedu.manager.command;
 
 //@@author MatchaRRR
-public class ListCommand extends Command {
+public class ListCommand extends ListingCommand {
     public static final String COMMAND_WORD = "list";
     private static final String LIST_MESSAGE = "There are %1$d events in your list! " +
             "Here are your scheduled events:";
@@ -13,29 +13,41 @@ public class ListCommand extends Command {
      * Constructs a new ListCommand
      */
     public ListCommand() {
-        super(false);
+        super();
     }
 
     /**
      * Executes the ListCommand by getting a list of all events
      */
     public void execute() {
-        StringBuilder outputMessage;
         if (eventList.getListSize() == 0) {
-            outputMessage = new StringBuilder(
-                    String.format(EMPTY_LIST_MESSAGE, eventList.getListSize()) + "\n");
+            this.message = String.format(EMPTY_LIST_MESSAGE, eventList.getListSize()) + "\n";
         } else if (eventList.getListSize() == 1) {
-            outputMessage = new StringBuilder(
-                    String.format(ONE_EVENT_LIST_MESSAGE, eventList.getListSize()) + "\n");
+            this.message = String.format(ONE_EVENT_LIST_MESSAGE, eventList.getListSize()) + "\n";
         } else {
-            outputMessage = new StringBuilder(
-                    String.format(LIST_MESSAGE, eventList.getListSize()) + "\n");
-        }
-        for (int i = 0; i < eventList.getListSize(); i++) {
-            assert eventList.getEvent(i) != null : "Event at index " + i + " should not be null.";
-            outputMessage.append(String.format("%d. %s\n", i + 1, eventList.getEvent(i).toString()));
+            this.message = String.format(LIST_MESSAGE, eventList.getListSize()) + "\n";
         }
+        this.listedItems = eventList.getList();
+    }
+
+    /**
+     * Returns true, as the list command does not change the event list.
+     *
+     * @return true.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 
-        this.message = outputMessage.toString();
+    //@@author jemehgoh
+    /**
+     * Returns the command word of the list command.
+     *
+     * @return the command word.
+     */
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
     }
 }
@@ -0,0 +1,129 @@
+package seedu.manager.command;
+
+import seedu.manager.ui.Renderable;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+//@@author jemehgoh
+/**
+ * Represents an executable command whose output is a heading followed by a numbered list.
+ * <p>
+ * The listed events, participants or items are kept as they are, rather than as text, and are written out
+ * in blocks of lines by {@link #writeMessage(Consumer)}, so that a long list is never built into one string.
+ * Each line is appended straight into the block, without formatting a string for each line.
+ * A page of the list may be selected with {@link #setPage(int, int)}, so that only that page is written out.
+ * </p>
+ */
+public abstract class ListingCommand extends Command {
+    private static final String PAGE_MESSAGE = "Page %d of %d\n";
+    private static final int WHOLE_LIST = 0;
+    private static final int BLOCK_SIZE = 8192;
+
+    protected List<? extends Renderable> listedItems;
+    private int pageNumber;
+    private int pageSize;
+
+    /**
+     * Constructs a new ListingCommand that lists the whole list.
+     */
+    protected ListingCommand() {
+        super(false);
+        this.listedItems = List.of();
+        this.pageNumber = 1;
+        this.pageSize = WHOLE_LIST;
+    }
+
+    /**
+     * Sets the command to only list one page of the list.
+     *
+     * @param pageNumber the number of the page to list, starting from 1.
+     * @param pageSize the number of lines on each page.
+     */
+    public void setPage(int pageNumber, int pageSize) {
+        assert pageNumber > 0 && pageSize > 0 : "Page number and size must be positive";
+        this.pageNumber = pageNumber;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Returns the command's message, with the listed page.
+     *
+     * @return the command's message.
+     */
+    @Override
+    public String getMessage() {
+        StringBuilder outputMessage = new StringBuilder();
+        writeMessage(outputMessage::append);
+        return outputMessage.toString();
+    }
+
+    /**
+     * Writes the heading of the command's message, followed by the lines of the listed page, a block at a time.
+     *
+     * @param output the output that each part of the message is written to.
+     */
+    @Override
+    public void writeMessage(Consumer<String> output) {
+        output.accept(super.getMessage());
+
+        StringBuilder block = new StringBuilder(BLOCK_SIZE);
+        int lastIndex = getPageStart() + getPageLength();
+        for (int i = getPageStart(); i < lastIndex; i++) {
+            block.append(i + 1).append(". ");
+            listedItems.get(i).appendTo(block);
+            block.append('\n');
+            if (block.length() >= BLOCK_SIZE) {
+                output.accept(block.toString());
+                block.setLength(0);
+            }
+        }
+        output.accept(block.toString());
+
+        if (pageSize != WHOLE_LIST && !listedItems.isEmpty()) {
+            output.accept(String.format(PAGE_MESSAGE, pageNumber, getPageCount()));
+        }
+    }
+
+    /**
+     * Returns the number of events, participants or items listed by the command, on every page.
+     *
+     * @return the number of events, participants or items listed.
+     */
+    @Override
+    protected int getListedCount() {
+        return listedItems.size();
+    }
+
+    /**
+     * Returns the index of the first line of the listed page, or the size of the list if the page is past
+     * the end of the list.
+     *
+     * @return the index of the first line of the listed page.
+     */
+    private int getPageStart() {
+        if (pageSize == WHOLE_LIST) {
+            return 0;
+        }
+        return (int) Math.min((long) (pageNumber - 1) * pageSize, listedItems.size());
+    }
+
+    /**
+     * Returns the number of lines on the listed page.
+     *
+     * @return the number of lines on the listed page.
+     */
+    private int getPageLength() {
+        int remainingLength = listedItems.size() - getPageStart();
+        return (pageSize == WHOLE_LIST) ? remainingLength : Math.min(pageSize, remainingLength);
+    }
+
+    /**
+     * Returns the number of pages in the list.
+     *
+     * @return the number of pages in the list.
+     */
+    private int getPageCount() {
+        return (int) ((listedItems.size() + (long) pageSize - 1) / pageSize);
+    }
+}
@@ -8,6 +8,8 @@ public abstract class MarkCommand extends Command {
     public static final String COMMAND_WORD = "mark";
 
     protected static final String INVALID_EVENT_MESSAGE = "Event not found!";
+    protected static final String MARK_RECORD_STATUS = "Y";
+    protected static final String UNMARK_RECORD_STATUS = "N";
 
     protected String eventName;
     protected boolean isToMark;
@@ -29,4 +31,23 @@ public abstract class MarkCommand extends Command {
      */
     @Override
     public abstract void execute();
+
+    /**
+     * Returns the mark status to be written to a journal record.
+     *
+     * @return "Y" if the command marks, "N" if it unmarks.
+     */
+    protected String getRecordStatus() {
+        return (isToMark) ? MARK_RECORD_STATUS : UNMARK_RECORD_STATUS;
+    }
+
+    /**
+     * Returns the command word of the mark command.
+     *
+     * @return the command word.
+     */
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
 }
@@ -11,6 +11,7 @@ import java.util.Optional;
 public class MarkEventCommand extends MarkCommand {
     public static final String EVENT_MARK_STATUS = "done";
     public static final String EVENT_UNMARK_STATUS = "undone";
+    public static final String MARK_EVENT_RECORD = "MARK_EVENT";
     private static final String EVENT_MARK_MESSAGE = "Event marked as done";
     private static final String EVENT_UNMARK_MESSAGE = "Event marked not done";
 
@@ -39,4 +40,14 @@ public class MarkEventCommand extends MarkCommand {
             this.message = INVALID_EVENT_MESSAGE;
         }
     }
+
+    /**
+     * Returns the fields of a journal record for the event marked.
+     *
+     * @return the journal record fields of the command.
+     */
+    @Override
+    public String[] getJournalFields() {
+        return new String[]{MARK_EVENT_RECORD, eventName, getRecordStatus()};
+    }
 }
@@ -11,6 +11,7 @@ import java.util.Optional;
 public class MarkItemCommand extends MarkCommand {
     public static final String ITEM_MARK_STATUS = "accounted";
     public static final String ITEM_UNMARK_STATUS = "unaccounted";
+    public static final String MARK_ITEM_RECORD = "MARK_ITEM";
     private static final String ITEM_MARK_MESSAGE = "Item accounted for.";
     private static final String ITEM_UNMARK_MESSAGE = "Item unaccounted for.";
     private static final String INVALID_ITEM_MESSAGE = "Item not found!";
@@ -50,4 +51,14 @@ public class MarkItemCommand extends MarkCommand {
             message = INVALID_ITEM_MESSAGE;
         }
     }
+
+    /**
+     * Returns the fields of a journal record for the item marked.
+     *
+     * @return the journal record fields of the command.
+     */
+    @Override
+    public String[] getJournalFields() {
+        return new String[]{MARK_ITEM_RECORD, itemName, eventName, getRecordStatus()};
+    }
 }
@@ -11,6 +11,7 @@ import java.util.Optional;
 public class MarkParticipantCommand extends MarkCommand {
     public static final String PARTICIPANT_MARK_STATUS = "present";
     public static final String PARTICIPANT_UNMARK_STATUS = "absent";
+    public static final String MARK_PARTICIPANT_RECORD = "MARK_PARTICIPANT";
     private static final String PARTICIPANT_MARK_MESSAGE = "Participant marked present.";
     private static final String PARTICIPANT_UNMARK_MESSAGE = "Participant marked absent.";
     private static final String INVALID_PARTICIPANT_MESSAGE = "Participant not found!";
@@ -50,4 +51,14 @@ public class MarkParticipantCommand extends MarkCommand {
             message = INVALID_PARTICIPANT_MESSAGE;
         }
     }
+
+    /**
+     * Returns the fields of a journal record for the participant marked.
+     *
+     * @return the journal record fields of the command.
+     */
+    @Override
+    public String[] getJournalFields() {
+        return new String[]{MARK_PARTICIPANT_RECORD, participantName, eventName, getRecordStatus()};
+    }
 }
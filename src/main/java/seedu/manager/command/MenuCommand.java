@@ -28,6 +28,7 @@ public class MenuCommand extends Command {
             sort -by KEYWORD: Sorts events by name/time/priority.
             filter -e/-d/-t/-x/-u FILTER_DESCRIPTION: Filters events by name/date/time/date-time/priority.
             find -e EVENT -p NAME: Finds all participants with a specified name in an event.
+            stats -o FILE: Displays the latency of each command, optionally saving it to FILE on exit.
             exit: Exits program.""";
 
     /**
@@ -44,4 +45,25 @@ public class MenuCommand extends Command {
     public void execute() {
         this.message = MENU_MESSAGE;
     }
+
+    /**
+     * Returns true, as the menu command does not change the event list.
+     *
+     * @return true.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    //@@author jemehgoh
+    /**
+     * Returns the command word of the menu command.
+     *
+     * @return the command word.
+     */
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
 }
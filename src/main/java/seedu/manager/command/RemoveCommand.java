@@ -7,6 +7,9 @@ package seedu.manager.command;
  */
 public class RemoveCommand extends Command {
     public static final String COMMAND_WORD = "remove";
+    public static final String REMOVE_EVENT_RECORD = "REMOVE_EVENT";
+    public static final String REMOVE_PARTICIPANT_RECORD = "REMOVE_PARTICIPANT";
+    public static final String REMOVE_ITEM_RECORD = "REMOVE_ITEM";
     private static final String REMOVE_SUCCESS = "Removed successfully";
     private static final String REMOVE_FAILURE = "Not found";
     protected String eventName;
@@ -70,4 +73,30 @@ public class RemoveCommand extends Command {
             this.message = REMOVE_FAILURE;
         }
     }
+
+    /**
+     * Returns the fields of a journal record for the event, participant or item removed.
+     *
+     * @return the journal record fields of the command.
+     */
+    @Override
+    public String[] getJournalFields() {
+        if (participantName != null) {
+            return new String[]{REMOVE_PARTICIPANT_RECORD, participantName, eventName};
+        } else if (itemName != null) {
+            return new String[]{REMOVE_ITEM_RECORD, itemName, eventName};
+        }
+        return new String[]{REMOVE_EVENT_RECORD, eventName};
+    }
+
+    //@@author jemehgoh
+    /**
+     * Returns the command word of the remove command.
+     *
+     * @return the command word.
+     */
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
 }
@@ -1,12 +1,14 @@
 package seedu.manager.command;
 
-import seedu.manager.event.EventList;
+import seedu.manager.event.Event;
+
+import java.util.List;
 
 /**
  * Represents a command to sort the events in different ways.
  * The sort command will store the sorting keyword.
  */
-public class SortCommand extends Command {
+public class SortCommand extends ListingCommand {
     public static final String COMMAND_WORD = "sort";
 
     private static final String SORT_BY_NAME_MESSAGE = "Events successfully sorted by name!";
@@ -21,7 +23,7 @@ public class SortCommand extends Command {
      * @param keyword the keyword of sorting
      */
     public SortCommand(String keyword) {
-        super(false);
+        super();
         this.keyword = keyword;
     }
 
@@ -32,28 +34,47 @@ public class SortCommand extends Command {
     @Override
     public void execute() {
         StringBuilder outputMessage = new StringBuilder();
-        EventList sortedEventList = new EventList(eventList);  // deep copy
+        List<Event> sortedEvents = eventList.getList();
 
+        // the sorted events are returned without sorting the event list itself.
         switch(keyword){
         case "name":
-            sortedEventList.sortByName();
+            sortedEvents = eventList.getEventsByName();
             outputMessage.append(SORT_BY_NAME_MESSAGE + "\n");
             break;
         case "time":
-            sortedEventList.sortByTime();
+            sortedEvents = eventList.getEventsByTime();
             outputMessage.append(SORT_BY_TIME_MESSAGE + "\n");
             break;
         case "priority":
-            sortedEventList.sortByPriority();
+            sortedEvents = eventList.getEventsByPriority();
             outputMessage.append(SORT_BY_PRIORITY_MESSAGE + "\n");
             break;
         default:
         }
 
-        // print out the sorted new list.
-        for (int i = 0; i < sortedEventList.getListSize(); i++) {
-            outputMessage.append(String.format("%d. %s\n", i + 1, sortedEventList.getEvent(i).toString()));
-        }
         this.message = outputMessage.toString();
+        this.listedItems = sortedEvents;
+    }
+
+    /**
+     * Returns true, as the sort command does not change the event list.
+     *
+     * @return true.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    //@@author jemehgoh
+    /**
+     * Returns the command word of the sort command.
+     *
+     * @return the command word.
+     */
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
     }
 }
@@ -0,0 +1,66 @@
+package seedu.manager.command;
+
+import seedu.manager.stats.CommandStats;
+
+import java.nio.file.Path;
+
+//@@author jemehgoh
+/**
+ * Represents an executable command that shows the latencies of the commands run so far, and may set them to be
+ * saved to a file when the program exits.
+ */
+public class StatsCommand extends Command {
+    public static final String COMMAND_WORD = "stats";
+    private static final String DUMP_MESSAGE = "The statistics will be saved to %s on exit.";
+
+    private final Path dumpFilePath;
+
+    /**
+     * Constructs a new StatsCommand that only shows the latencies.
+     */
+    public StatsCommand() {
+        this(null);
+    }
+
+    /**
+     * Constructs a new StatsCommand that shows the latencies, and sets them to be saved to a given file on exit.
+     *
+     * @param dumpFilePath the path of the file, or null if the latencies are not to be saved.
+     */
+    public StatsCommand(Path dumpFilePath) {
+        super(false);
+        this.dumpFilePath = dumpFilePath;
+    }
+
+    /**
+     * Executes the stats command.
+     */
+    @Override
+    public void execute() {
+        this.message = CommandStats.getReport().stripTrailing();
+        if (dumpFilePath != null) {
+            CommandStats.dumpOnExit(dumpFilePath);
+            this.message += "\n" + String.format(DUMP_MESSAGE, dumpFilePath);
+        }
+    }
+
+    /**
+     * Returns true, as the stats command does not change the event list.
+     *
+     * @return true.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    /**
+     * Returns the command word of the stats command.
+     *
+     * @return the command word.
+     */
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+}
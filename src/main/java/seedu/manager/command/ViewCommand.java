@@ -11,7 +11,7 @@ import java.util.Optional;
  * Represents a command to view the list of participants in an event.
  * The view command will search for an event by its name and display all its participants if found.
  */
-public class ViewCommand extends Command {
+public class ViewCommand extends ListingCommand {
     public static final String COMMAND_WORD = "view";
     private static final String VIEW_PARTICIPANTS_MESSAGE = "There are %d participants in %s! " +
             "Here are your participants:";
@@ -34,7 +34,7 @@ public class ViewCommand extends Command {
      * @param eventName The name of the event to be viewed.
      */
     public ViewCommand(String eventName, boolean isViewingParticipants) {
-        super(false);
+        super();
         this.eventName = eventName;
         this.isViewingParticipants = isViewingParticipants;
     }
@@ -48,64 +48,66 @@ public class ViewCommand extends Command {
         if (eventToView.isEmpty()) {
             message = INVALID_EVENT_MESSAGE;
         } else if (isViewingParticipants) {
-            message = getParticipants(eventToView.get());
+            message = getParticipantsHeading(eventToView.get());
+            listedItems = eventToView.get().getParticipantList();
         } else {
-            message = getItems(eventToView.get());
+            message = getItemsHeading(eventToView.get());
+            listedItems = eventToView.get().getItemList();
         }
     }
 
     /**
-     * Gets the list of {@link Participant}s for a specified {@link Event}.
+     * Gets the heading of the list of {@link Participant}s for a specified {@link Event}.
      *
      * @param eventToView the specified {@link Event}.
-     * @return the list of {@link Participant}s stored in eventToView.
+     * @return the heading of the list of {@link Participant}s stored in eventToView.
      */
-    private String getParticipants(Event eventToView) {
+    private String getParticipantsHeading(Event eventToView) {
         assert eventToView != null : "eventToView cannot be null";
-        StringBuilder outputMessage;
         if (eventToView.getParticipantCount() == 0) {
-            outputMessage = new StringBuilder(String.format(
-                    VIEW_NO_PARTICIPANTS_MESSAGE, eventToView.getParticipantCount(), eventName) + "\n");
+            return String.format(VIEW_NO_PARTICIPANTS_MESSAGE, eventToView.getParticipantCount(), eventName) + "\n";
         } else if (eventToView.getParticipantCount() == 1) {
-            outputMessage = new StringBuilder(String.format(
-                    VIEW_ONE_PARTICIPANT_MESSAGE, eventToView.getParticipantCount(), eventName) + "\n");
+            return String.format(VIEW_ONE_PARTICIPANT_MESSAGE, eventToView.getParticipantCount(), eventName) + "\n";
         } else {
-            outputMessage = new StringBuilder(String.format(
-                    VIEW_PARTICIPANTS_MESSAGE, eventToView.getParticipantCount(), eventName) + "\n");
+            return String.format(VIEW_PARTICIPANTS_MESSAGE, eventToView.getParticipantCount(), eventName) + "\n";
         }
-        int count = 1;
-        for (Participant participant : eventToView.getParticipantList()) {
-            outputMessage.append(String.format("%d. %s\n", count, participant.toString()));
-            count++;
-        }
-        return outputMessage.toString();
     }
 
     //@@author jemehgoh
     /**
-     * Gets the list of {@link Item}s for a specified {@link Event}.
+     * Gets the heading of the list of {@link Item}s for a specified {@link Event}.
      *
      * @param eventToView the specified {@link Event}.
-     * @return the list of {@link Item}s stored in eventToView.
+     * @return the heading of the list of {@link Item}s stored in eventToView.
      */
-    private String getItems(Event eventToView) {
+    private String getItemsHeading(Event eventToView) {
         assert eventToView != null : "eventToView cannot be null";
-        StringBuilder outputMessage;
         if (eventToView.getItemCount() == 0) {
-            outputMessage = new StringBuilder(
-                    String.format(VIEW_NO_ITEMS_MESSAGE, eventToView.getItemCount(), eventName) + "\n");
+            return String.format(VIEW_NO_ITEMS_MESSAGE, eventToView.getItemCount(), eventName) + "\n";
         } else if (eventToView.getItemCount() == 1) {
-            outputMessage = new StringBuilder(
-                    String.format(VIEW_ONE_ITEM_MESSAGE, eventToView.getItemCount(), eventName) + "\n");
+            return String.format(VIEW_ONE_ITEM_MESSAGE, eventToView.getItemCount(), eventName) + "\n";
         } else {
-            outputMessage = new StringBuilder(
-                    String.format(VIEW_ITEMS_MESSAGE, eventToView.getItemCount(), eventName) + "\n");
-        }
-        int count = 1;
-        for (Item item : eventToView.getItemList()) {
-            outputMessage.append(String.format("%d. %s\n", count, item.toString()));
-            count++;
+            return String.format(VIEW_ITEMS_MESSAGE, eventToView.getItemCount(), eventName) + "\n";
         }
-        return outputMessage.toString();
+    }
+
+    /**
+     * Returns true, as the view command does not change the event list.
+     *
+     * @return true.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    /**
+     * Returns the command word of the view command.
+     *
+     * @return the command word.
+     */
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
     }
 }
@@ -0,0 +1,9 @@
+package seedu.manager.enumeration;
+
+//@@author jemehgoh
+/**
+ * Represents the phases of running a command, which are timed separately.
+ */
+public enum CommandPhase {
+    PARSE, EXECUTE, RENDER, PERSIST
+}
@@ -0,0 +1,9 @@
+package seedu.manager.enumeration;
+
+//@@author jemehgoh
+/**
+ * Represents the formats that the events can be saved to file in.
+ */
+public enum StorageFormat {
+    CSV, BINARY
+}
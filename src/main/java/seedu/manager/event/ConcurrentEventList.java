@@ -0,0 +1,127 @@
+package seedu.manager.event;
+
+import seedu.manager.command.Command;
+
+import java.io.IOException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+//@@author jemehgoh
+/**
+ * Represents an {@link EventList} that is shared by several threads, such as the sessions of a server.
+ * <p>
+ * Commands that only read the event list run under a shared read lock, so they never block each other.
+ * Commands that change the event list run one at a time under an exclusive write lock, together with any work
+ * that has to follow the change in the same order, such as journaling it.
+ * </p>
+ */
+public class ConcurrentEventList {
+    private final EventList events;
+    private final ReentrantReadWriteLock lock;
+
+    /**
+     * Represents work done on the shared event list while holding its lock.
+     */
+    @FunctionalInterface
+    public interface EventListTask {
+        /**
+         * Runs the task on the event list.
+         *
+         * @param events the event list.
+         * @throws IOException if the task cannot be completed due to a file error.
+         */
+        void run(EventList events) throws IOException;
+    }
+
+    /**
+     * Constructs a ConcurrentEventList that shares a given event list.
+     *
+     * @param events the event list to be shared.
+     */
+    public ConcurrentEventList(EventList events) {
+        this.events = events;
+        this.lock = new ReentrantReadWriteLock();
+    }
+
+    /**
+     * Executes a command on the event list, and returns the command's message.
+     * The message is built before the lock is released, as it may refer to the event list.
+     *
+     * @param command the command to be executed.
+     * @return the message of the command.
+     */
+    public String execute(Command command) {
+        Lock commandLock = getLock(command);
+        commandLock.lock();
+        try {
+            command.execute(events);
+            return command.getMessage();
+        } finally {
+            commandLock.unlock();
+        }
+    }
+
+    /**
+     * Executes a command on the event list, and returns the command's message. If the command may change
+     * the event list, a given task is run afterwards, before any other command can run.
+     *
+     * @param command the command to be executed.
+     * @param afterChange the task to run after a command that may change the event list.
+     * @return the message of the command.
+     * @throws IOException if afterChange cannot be completed due to a file error.
+     */
+    public String execute(Command command, EventListTask afterChange) throws IOException {
+        if (command.isReadOnly()) {
+            return execute(command);
+        }
+
+        lock.writeLock().lock();
+        try {
+            command.execute(events);
+            afterChange.run(events);
+            return command.getMessage();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Runs a task that only reads the event list, alongside any other readers.
+     *
+     * @param task the task to run.
+     * @throws IOException if task cannot be completed due to a file error.
+     */
+    public void read(EventListTask task) throws IOException {
+        lock.readLock().lock();
+        try {
+            task.run(events);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Runs a task that may change the event list, while no other task or command runs.
+     *
+     * @param task the task to run.
+     * @throws IOException if task cannot be completed due to a file error.
+     */
+    public void write(EventListTask task) throws IOException {
+        lock.writeLock().lock();
+        try {
+            task.run(events);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the lock to hold while executing a given command.
+     *
+     * @param command the given command.
+     * @return the read lock if command does not change the event list, the write lock otherwise.
+     */
+    private Lock getLock(Command command) {
+        return command.isReadOnly() ? lock.readLock() : lock.writeLock();
+    }
+}
@@ -3,25 +3,42 @@ package seedu.manager.event;
 import seedu.manager.enumeration.Priority;
 import seedu.manager.item.Item;
 import seedu.manager.item.Participant;
+import seedu.manager.parser.DateTimeParser;
+import seedu.manager.ui.Renderable;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 //@@author MatchaRRR
 /**
  * The Event class represents an event with a name, time, and venue.
  * It provides methods to access and modify the time and venue of the event.
+ *
+ * <p>
+ * Once an event has {@link #PARTICIPANT_STORE_THRESHOLD} participants, they are moved from a list of
+ * {@link Participant}s with its indexes into a {@link ParticipantStore}, which keeps them in columns.
+ * </p>
  */
-public class Event {
+public class Event implements Renderable {
+    public static final int PARTICIPANT_STORE_THRESHOLD = 10000;
+
+    private static final StringPool VENUE_POOL = new StringPool();
+
     protected ArrayList<Participant> participantList;
     private ArrayList<Item> itemList;
+    private NameIndex<Participant> participantIndex;
+    private volatile SubstringIndex<Participant> participantSearchIndex;
+    private ParticipantStore participantStore;
+    private final NameIndex<Item> itemIndex;
     private String eventName;
     private LocalDateTime eventTime;
+    private String eventTimeString;
     private String eventVenue;
     private boolean isDone;
     private Priority eventPriority;
+    private EventList owner;
 
     //@@author LTK-1606
     /**
@@ -35,10 +52,13 @@ public class Event {
     public Event(String eventName, LocalDateTime eventTime, String eventVenue, Priority eventPriority) {
         this.eventName = eventName;
         this.eventTime = eventTime;
-        this.eventVenue = eventVenue;
+        this.eventTimeString = DateTimeParser.formatDateTime(eventTime);
+        this.eventVenue = VENUE_POOL.canonicalise(eventVenue);
         this.eventPriority = eventPriority;
         this.participantList = new ArrayList<>();
         this.itemList = new ArrayList<>();
+        this.participantIndex = new NameIndex<>();
+        this.itemIndex = new NameIndex<>();
         this.isDone = false;
     }
 
@@ -55,10 +75,13 @@ public class Event {
                  boolean isDone) {
         this.eventName = eventName;
         this.eventTime = eventTime;
-        this.eventVenue = eventVenue;
+        this.eventTimeString = DateTimeParser.formatDateTime(eventTime);
+        this.eventVenue = VENUE_POOL.canonicalise(eventVenue);
         this.eventPriority = eventPriority;
         this.participantList = new ArrayList<>();
         this.itemList = new ArrayList<>();
+        this.participantIndex = new NameIndex<>();
+        this.itemIndex = new NameIndex<>();
         this.isDone = isDone;
     }
 
@@ -68,7 +91,7 @@ public class Event {
      * @return the count of participants currently in the list.
      */
     public int getParticipantCount() {
-        return this.participantList.size();
+        return (participantStore != null) ? participantStore.size() : this.participantList.size();
     }
 
     /**
@@ -104,10 +127,13 @@ public class Event {
 
     //@@author LTK-1606
     /**
+     * Returns the event's participant list. If the participants are in a {@link ParticipantStore}, the list is
+     * an unmodifiable list of views of the store.
+     *
      * @return the event's participant list
      */
-    public ArrayList<Participant> getParticipantList() {
-        return this.participantList;
+    public List<Participant> getParticipantList() {
+        return (participantStore != null) ? participantStore.asList() : this.participantList;
     }
 
     //@@author jemehgoh
@@ -130,7 +156,7 @@ public class Event {
      * @return a String of the event priority.
      */
     public String getEventPriorityString() {
-        return String.format("%s", eventPriority);
+        return eventPriority.name();
     }
 
     /**
@@ -139,7 +165,21 @@ public class Event {
      * @param participantList the new participant list
      */
     public void setParticipantList(ArrayList<Participant> participantList) {
+        //@@author jemehgoh
+        if (participantStore != null || participantList.size() >= PARTICIPANT_STORE_THRESHOLD) {
+            this.participantStore = new ParticipantStore(participantList);
+            this.participantList = null;
+            this.participantIndex = null;
+            this.participantSearchIndex = null;
+            markChanged();
+            return;
+        }
+
+        //@@author LTK-1606
         this.participantList = participantList;
+        this.participantIndex = new NameIndex<>(participantList);
+        this.participantSearchIndex = null;
+        markChanged();
     }
 
     //@@author jemehgoh
@@ -150,6 +190,7 @@ public class Event {
      */
     public void setDone(boolean isDone) {
         this.isDone = isDone;
+        markChanged();
     }
 
     /**
@@ -166,6 +207,46 @@ public class Event {
         return isDone;
     }
 
+    /**
+     * Returns the event list that is told of changes to the event.
+     *
+     * @return the event list that owns the event, or {@code null} if there is none.
+     */
+    EventList getOwner() {
+        return owner;
+    }
+
+    /**
+     * Sets the event list that is told of changes to the event, which is the first event list it is added to.
+     *
+     * @param owner the event list that owns the event, or {@code null} if there is none.
+     */
+    void setOwner(EventList owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * Tells the event list that owns the event, if any, that the event or its participants or items have changed.
+     */
+    private void markChanged() {
+        if (owner != null) {
+            owner.markChanged();
+        }
+    }
+
+    /**
+     * Tells the event list that owns the event of a change, if a participant was changed.
+     *
+     * @param isChanged {@code true} if a participant was changed, {@code false} otherwise.
+     * @return isChanged.
+     */
+    private boolean markChangedIf(boolean isChanged) {
+        if (isChanged) {
+            markChanged();
+        }
+        return isChanged;
+    }
+
     //@@author LTK-1606
     /**
      * Adds a participant to the participant list for the event.
@@ -176,12 +257,52 @@ public class Event {
      */
     public String addParticipant(String participantName, String participantEmail,
             boolean isPresent) {
-        String name = getDuplicateParticipantName(participantName);
+        //@@author jemehgoh
+        if (participantStore != null) {
+            markChanged();
+            return participantStore.add(participantName, participantEmail, isPresent);
+        }
+
+        //@@author LTK-1606
+        String name = participantIndex.getFreeName(participantName);
         Participant participant = new Participant(name, participantEmail, isPresent);
         this.participantList.add(participant);
+        participantIndex.add(participant);
+        if (participantSearchIndex != null) {
+            participantSearchIndex.add(participant);
+        }
+        markChanged();
+        //@@author jemehgoh
+        if (participantList.size() >= PARTICIPANT_STORE_THRESHOLD) {
+            storeParticipantsInColumns();
+        }
         return name;
     }
 
+    /**
+     * Moves the participants of the event into a {@link ParticipantStore}, if they are not already in one.
+     * The participant list and its indexes are dropped.
+     */
+    public void storeParticipantsInColumns() {
+        if (participantStore != null) {
+            return;
+        }
+
+        participantStore = new ParticipantStore(participantList);
+        participantList = null;
+        participantIndex = null;
+        participantSearchIndex = null;
+    }
+
+    /**
+     * Returns true if the participants of the event are in a {@link ParticipantStore}, returns false otherwise.
+     *
+     * @return {@code true} if the participants are stored in columns, {@code false} otherwise.
+     */
+    public boolean isStoredInColumns() {
+        return participantStore != null;
+    }
+
     //@@author jemehgoh
     /**
      * Returns the name of an item added to the event's item list, with a given name.
@@ -190,9 +311,11 @@ public class Event {
      * @return the name of the item added.
      */
     public String addItem(String itemName, boolean isPresent) {
-        String name = getDuplicateItemName(itemName);
+        String name = itemIndex.getFreeName(itemName);
         Item item = new Item(name, isPresent);
         itemList.add(item);
+        itemIndex.add(item);
+        markChanged();
         return name;
     }
 
@@ -212,8 +335,24 @@ public class Event {
      *         {@code false} if the participant was not found in the list.
      */
     public boolean removeParticipant(String participantName) {
-        return this.participantList.removeIf((participant) ->
-                (participant.getName().equalsIgnoreCase(participantName)));
+        //@@author jemehgoh
+        if (participantStore != null) {
+            return markChangedIf(participantStore.remove(participantName));
+        }
+
+        //@@author LTK-1606
+        Optional<Participant> participant = getParticipantByName(participantName);
+        if (participant.isEmpty()) {
+            return false;
+        }
+
+        this.participantList.remove(participant.get());
+        participantIndex.remove(participant.get());
+        if (participantSearchIndex != null) {
+            participantSearchIndex.remove(participant.get());
+        }
+        markChanged();
+        return true;
     }
 
     //@@author jemehgoh
@@ -225,7 +364,15 @@ public class Event {
      * @return {@code true} if an item with itemName is successfully removed, {@code false} otherwise.
      */
     public boolean removeItem(String itemName) {
-        return itemList.removeIf((item) -> (item.getName().equalsIgnoreCase(itemName)));
+        Optional<Item> item = getItemByName(itemName);
+        if (item.isEmpty()) {
+            return false;
+        }
+
+        itemList.remove(item.get());
+        itemIndex.remove(item.get());
+        markChanged();
+        return true;
     }
 
     //@@author MatchaRRR
@@ -240,8 +387,10 @@ public class Event {
     public void updateEvent(String eventNewName, LocalDateTime eventTime, String eventVenue, Priority eventPriority) {
         this.eventName = eventNewName;
         this.eventTime = eventTime;
-        this.eventVenue = eventVenue;
+        this.eventTimeString = DateTimeParser.formatDateTime(eventTime);
+        this.eventVenue = VENUE_POOL.canonicalise(eventVenue);
         this.eventPriority = eventPriority;
+        markChanged();
     }
 
     //@@author KuanHsienn
@@ -253,15 +402,29 @@ public class Event {
      * @return the updated participant name if the details were updated. Otherwise, returns an empty string.
      */
     public String updateParticipant(String participantName, String newName, String newEmail) {
-        for (Participant participant : this.participantList) {
-            if (participant.getName().equalsIgnoreCase(participantName)) {
-                String nameToSet = getUpdatedParticipantName(newName, participant);
-                participant.setName(nameToSet);
-                participant.setEmail(newEmail);
-                return nameToSet;
-            }
+        //@@author jemehgoh
+        if (participantStore != null) {
+            String updatedName = participantStore.update(participantName, newName, newEmail);
+            markChangedIf(!updatedName.isEmpty());
+            return updatedName;
         }
-        return "";
+
+        //@@author KuanHsienn
+        Optional<Participant> participant = getParticipantByName(participantName);
+        if (participant.isEmpty()) {
+            return "";
+        }
+
+        participantIndex.remove(participant.get());
+        String nameToSet = participantIndex.getFreeName(newName);
+        participant.get().setName(nameToSet);
+        participant.get().setEmail(newEmail);
+        participantIndex.add(participant.get());
+        if (participantSearchIndex != null) {
+            participantSearchIndex.update(participant.get());
+        }
+        markChanged();
+        return nameToSet;
     }
 
     //@@author MatchaRRR
@@ -273,15 +436,18 @@ public class Event {
      * @return the updated name of the item if the details were updated; an empty string otherwise.
      */
     public String updateItem(String itemName, String itemNewName) {
-        for (Item item : this.itemList) {
-            if (item.getName().equalsIgnoreCase(itemName)) {
-                String updatedName = getUpdatedItemName(itemNewName, item);
-                item.setName(updatedName);
-                item.setPresent(false);
-                return updatedName;
-            }
+        Optional<Item> item = getItemByName(itemName);
+        if (item.isEmpty()) {
+            return "";
         }
-        return "";
+
+        itemIndex.remove(item.get());
+        String updatedName = itemIndex.getFreeName(itemNewName);
+        item.get().setName(updatedName);
+        item.get().setPresent(false);
+        itemIndex.add(item.get());
+        markChanged();
+        return updatedName;
     }
 
     //@@author jemehgoh
@@ -295,6 +461,10 @@ public class Event {
      *         {@code false} otherwise.
      */
     public boolean markParticipantByName(String participantName, boolean isPresent) {
+        if (participantStore != null) {
+            return markChangedIf(participantStore.mark(participantName, isPresent));
+        }
+
         Optional<Participant> participant = getParticipantByName(participantName);
         return markParticipant(participant, isPresent);
     }
@@ -308,13 +478,7 @@ public class Event {
      *     no such participant exists.
      */
     private Optional<Participant> getParticipantByName(String participantName) {
-        for (Participant participant : participantList) {
-            if (participant.getName().equalsIgnoreCase(participantName)) {
-                return Optional.of(participant);
-            }
-        }
-
-        return Optional.empty();
+        return participantIndex.get(participantName);
     }
 
     /**
@@ -331,6 +495,7 @@ public class Event {
         }
 
         participant.get().setPresent(isPresent);
+        markChanged();
         return true;
     }
 
@@ -355,13 +520,7 @@ public class Event {
      * @return the {@code Item} with name itemName, or null if the item is not found.
      */
     private Optional<Item> getItemByName(String itemName) {
-        for (Item item : itemList) {
-            if (item.getName().equalsIgnoreCase(itemName)) {
-                return Optional.of(item);
-            }
-        }
-
-        return Optional.empty();
+        return itemIndex.get(itemName);
     }
 
     /**
@@ -377,6 +536,7 @@ public class Event {
         }
 
         item.get().setPresent(isPresent);
+        markChanged();
         return true;
     }
 
@@ -384,33 +544,58 @@ public class Event {
     /**
      * Finds participants in the event whose names contain the specified person name.
      * <p>
-     * This method iterates through the list of participants and checks if their names
-     * contain the given {@code personName}, ignoring case and leading/trailing spaces.
-     * If a match is found, the participant is added to the result list.
+     * This method searches the participants' names for the given {@code personName},
+     * ignoring case and leading/trailing spaces, using a trigram index of the names. The index is only built the
+     * first time the participants are searched, and is dropped when the participant list is replaced. As
+     * searches may run together under a shared read lock, the index is built by only one of them. If the
+     * participants are in a {@link ParticipantStore}, the names are scanned instead.
+     * Matching participants are returned in the order of the participant list.
      * </p>
      *
      * @param personName the name or part of the name of the participant to search for
      * @return a list of {@code Participant} objects whose names contain the specified {@code personName}
      */
     public ArrayList<Participant> findParticipants(String personName) {
-        ArrayList<Participant> participants = new ArrayList<>();
-        for (Participant participant : this.participantList) {
-            if (participant.getName().toLowerCase().contains(personName.trim().toLowerCase())) {
-                participants.add(participant);
+        //@@author jemehgoh
+        if (participantStore != null) {
+            return participantStore.find(personName.trim());
+        }
+
+        //@@author LTK-1606
+        return getParticipantSearchIndex().find(personName.trim());
+    }
+
+    //@@author jemehgoh
+    /**
+     * Returns the trigram index of the participants' names, building it if it has not been built yet.
+     * The index is only changed by commands that hold the write lock, so searches that build it together only
+     * need to agree on which of them builds it.
+     *
+     * @return the trigram index of the participants' names.
+     */
+    private SubstringIndex<Participant> getParticipantSearchIndex() {
+        SubstringIndex<Participant> searchIndex = participantSearchIndex;
+        if (searchIndex != null) {
+            return searchIndex;
+        }
+
+        synchronized (this) {
+            if (participantSearchIndex == null) {
+                participantSearchIndex = new SubstringIndex<>(Participant::getName, participantList);
             }
+            return participantSearchIndex;
         }
-        return participants;
     }
 
     //@@author glenn-chew
     /**
      * Formats eventTime to a string in "yyyy-MM-dd HH:mm" format
+     * The string is formatted once whenever the time is set, rather than on every call.
      *
      * @return eventTime as a formated {@link String} object.
      */
     public String getEventTimeString() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
-        return formatter.format(eventTime);
+        return eventTimeString;
     }
 
     //@@author MatchaRRR
@@ -421,86 +606,24 @@ public class Event {
      */
     @Override
     public String toString(){
-        String eventTimeString = getEventTimeString();
-        return String.format("Event name: %s / Event time: %s / Event venue: %s / Event Priority: %s / Done: %s",
-                eventName, eventTimeString, eventVenue, eventPriority, markIfDone());
+        StringBuilder output = new StringBuilder();
+        appendTo(output);
+        return output.toString();
     }
 
     //@@author jemehgoh
     /**
-     * Returns a participant's name with an indexed suffix.
-     * The suffix value varies based on the number of participants with the same name.
+     * Appends the event's name, time, venue, priority and status to a given {@link StringBuilder},
+     * in the same format as {@link #toString()}.
      *
-     * @param name the given participant name.
-     * @return name with an indexed suffix.
+     * @param output the builder to append the line to.
      */
-    private String getDuplicateParticipantName(String name) {
-        int index = 1;
-        String duplicateName = name;
-
-        while (getParticipantByName(duplicateName).isPresent()) {
-            duplicateName = String.format("%s(%d)", name, index);
-            index++;
-        }
-
-        return duplicateName;
-    }
-
-    /**
-     * Returns an item's name with an indexed suffix.
-     * The suffix value varies based on the number of items with the same name.
-     *
-     * @param name the given item name.
-     * @return name with an indexed suffix.
-     */
-    private String getDuplicateItemName(String name) {
-        int index = 1;
-        String duplicateName = name;
-
-        while (getItemByName(duplicateName).isPresent()) {
-            duplicateName = String.format("%s(%d)", name, index);
-            index++;
-        }
-
-        return duplicateName;
-    }
-
-    /**
-     * Returns an updated participant name for editing participant details.
-     *
-     * @param name the given new participant name.
-     * @param participant the participant to be edited.
-     * @return the updated version of name.
-     */
-    private String getUpdatedParticipantName(String name, Participant participant) {
-        int index = 1;
-        String updatedName = name;
-
-        while (getParticipantByName(updatedName).isPresent() &&
-                !updatedName.equalsIgnoreCase(participant.getName())) {
-            updatedName = String.format("%s(%d)", name, index);
-            index++;
-        }
-
-        return updatedName;
-    }
-
-    /**
-     * Returns an updated item name for editing item details.
-     *
-     * @param name the given new item name.
-     * @param item the item to be edited.
-     * @return the updated version of name.
-     */
-    private String getUpdatedItemName(String name, Item item) {
-        int index = 1;
-        String updatedName = name;
-
-        while (getItemByName(updatedName).isPresent() && !updatedName.equalsIgnoreCase(item.getName())) {
-            updatedName = String.format("%s(%d)", name, index);
-            index++;
-        }
-
-        return updatedName;
+    @Override
+    public void appendTo(StringBuilder output) {
+        output.append("Event name: ").append(eventName)
+                .append(" / Event time: ").append(eventTimeString)
+                .append(" / Event venue: ").append(eventVenue)
+                .append(" / Event Priority: ").append(eventPriority.name())
+                .append(" / Done: ").append(markIfDone());
     }
 }
@@ -7,22 +7,84 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
 
 /**
  * The EventList class manages a list of Event objects.
  * It provides methods to manage an event list.
+ *
+ * <p>
+ * Besides the list itself, an index from event name to event is kept so that name lookups do not
+ * need to scan the list. A second index groups the events by time, in chronological order, so that sorting by
+ * time and filtering by a date or date-time range do not need to sort or scan the list, and a third groups the
+ * events by priority, so that sorting and filtering by priority do not either. Within each group, events are
+ * kept in the order they appear in the list. Each event is given a sequence number when it is added, which
+ * follows the list order, so an edited event is put back into or taken out of its group by a binary search of
+ * the group rather than a scan of the list. The list remains the source of the iteration order.
+ * </p>
+ * <p>
+ * Event lists also keep a trigram index of event names for filtering by name. Lists returned by the filter
+ * methods are only displayed, so they do not build one.
+ * </p>
+ * <p>
+ * For each base name, the lowest suffix that may still be free is also kept, so that a free "NAME(n)" for a
+ * duplicate event name is found without trying every suffix from 1. Event names are case-sensitive, so unlike the
+ * suffixes of participant and item names, these are kept by the exact base name.
+ * </p>
+ * <p>
+ * Unsaved changes are counted by a version number. An event tells the first event list it is added to of every
+ * change to it or to its participants and items, so checking and clearing the unsaved changes after a command
+ * takes constant time, however many events there are.
+ * </p>
  */
 public class EventList  {
+    private static final int FIRST_SUFFIX = 1;
+    private static final Pattern SUFFIX_PATTERN = Pattern.compile("\\([1-9][0-9]{0,8}\\)");
+
     private final ArrayList<Event> eventList;
+    private final HashMap<String, Event> eventsByName;
+    private final HashMap<String, Integer> nextSuffixes;
+    private final TreeMap<LocalDateTime, ArrayList<Event>> eventsByTime;
+    private final EnumMap<Priority, ArrayList<Event>> eventsByPriority;
+    private final IdentityHashMap<Event, Long> sequenceNumbers;
+    private final SubstringIndex<Event> eventNameIndex;
+    private boolean hasDuplicateNames;
+    private long nextSequenceNumber;
+    private long version;
+    private long cleanVersion;
 
     /**
      * Default constructor that initializes an empty event list.
      */
     public EventList(){
+        this(true);
+    }
+
+    //@@author jemehgoh
+    /**
+     * Constructor that initializes an empty event list, that may be filtered by name without a trigram index.
+     *
+     * @param isNameIndexed {@code true} if event names are to be indexed by trigram, {@code false} otherwise.
+     */
+    private EventList(boolean isNameIndexed) {
         eventList = new ArrayList<>();
+        eventsByName = new HashMap<>();
+        nextSuffixes = new HashMap<>();
+        eventsByTime = new TreeMap<>();
+        eventsByPriority = new EnumMap<>(Priority.class);
+        sequenceNumbers = new IdentityHashMap<>();
+        eventNameIndex = isNameIndexed ? new SubstringIndex<>(Event::getEventName, eventList) : null;
     }
 
+    //@@author LTK-1606
+
     /**
      * Constructor that initializes EventList with a given list of event.
      *
@@ -30,6 +92,18 @@ public class EventList  {
      */
     public EventList(EventList otherEventList) {
         this.eventList = new ArrayList<>(otherEventList.eventList);
+        this.eventsByName = new HashMap<>(otherEventList.eventsByName);
+        this.nextSuffixes = new HashMap<>(otherEventList.nextSuffixes);
+        this.eventsByTime = new TreeMap<>();
+        otherEventList.eventsByTime.forEach((time, events) -> eventsByTime.put(time, new ArrayList<>(events)));
+        this.eventsByPriority = new EnumMap<>(Priority.class);
+        otherEventList.eventsByPriority.forEach((priority, events) ->
+                eventsByPriority.put(priority, new ArrayList<>(events)));
+        this.sequenceNumbers = new IdentityHashMap<>(otherEventList.sequenceNumbers);
+        this.nextSequenceNumber = otherEventList.nextSequenceNumber;
+        this.eventNameIndex = otherEventList.eventNameIndex == null ? null
+                : new SubstringIndex<>(otherEventList.eventNameIndex);
+        this.hasDuplicateNames = otherEventList.hasDuplicateNames;
     }
 
     /**
@@ -60,7 +134,17 @@ public class EventList  {
      * @param event the event to be added to the list
      */
     public void addEvent(Event event) {
+        if (event.getOwner() == null) {
+            event.setOwner(this);
+        }
         eventList.add(event);
+        sequenceNumbers.put(event, nextSequenceNumber++);
+        indexEvent(event);
+        appendToGroups(event);
+        if (eventNameIndex != null) {
+            eventNameIndex.add(event);
+        }
+        markChanged();
     }
 
     /**
@@ -96,7 +180,7 @@ public class EventList  {
             Priority priority, boolean isDone) {
         String name = getDuplicateEventName(eventName);
         Event newEvent = new Event(name, time, venue, priority, isDone);
-        eventList.add(newEvent);
+        addEvent(newEvent);
         return name;
     }
 
@@ -128,10 +212,9 @@ public class EventList  {
      */
     public String addParticipantToEvent(String name, String email, boolean isPresent,
             String eventName) {
-        for (Event event : eventList) {
-            if (event.getEventName().equals(eventName)) {
-                return event.addParticipant(name, email, isPresent);
-            }
+        Optional<Event> event = getEventByName(eventName);
+        if (event.isPresent()) {
+            return event.get().addParticipant(name, email, isPresent);
         }
         return "";
     }
@@ -175,12 +258,7 @@ public class EventList  {
      * @return the event with a specified name, or null if the event is not found
      */
     public Optional<Event> getEventByName(String eventName) {
-        for (Event event : eventList) {
-            if (event.getEventName().equals(eventName)) {
-                return Optional.of(event);
-            }
-        }
-        return Optional.empty();
+        return Optional.ofNullable(eventsByName.get(eventName));
     }
 
     //@@author KuanHsienn
@@ -192,13 +270,25 @@ public class EventList  {
      *         {@code false} if no event with the specified name was found.
      */
     public boolean removeEvent(String eventName) {
-        for (Event event : eventList) {
-            if (event.getEventName().equals(eventName)) {
-                eventList.remove(event);
-                return true;
-            }
+        Optional<Event> event = getEventByName(eventName);
+        if (event.isEmpty()) {
+            return false;
         }
-        return false;
+
+        eventList.remove(event.get());
+        unindexEvent(event.get());
+        releaseName(eventName);
+        removeFromGroup(eventsByTime, event.get().getEventTime(), event.get());
+        removeFromGroup(eventsByPriority, event.get().getEventPriority(), event.get());
+        sequenceNumbers.remove(event.get());
+        if (eventNameIndex != null) {
+            eventNameIndex.remove(event.get());
+        }
+        if (event.get().getOwner() == this) {
+            event.get().setOwner(null);
+        }
+        markChanged();
+        return true;
     }
 
     //@@author LTK-1606
@@ -219,10 +309,9 @@ public class EventList  {
      *         {@code false} if the event does not exist or the participant was not found.
      */
     public boolean removeParticipantFromEvent(String participantName, String eventName) {
-        for (Event event : eventList) {
-            if (event.getEventName().equals(eventName)) {
-                return event.removeParticipant(participantName);
-            }
+        Optional<Event> event = getEventByName(eventName);
+        if (event.isPresent()) {
+            return event.get().removeParticipant(participantName);
         }
         return false;
     }
@@ -263,14 +352,37 @@ public class EventList  {
      */
     public String editEvent(String eventName, String eventNewName, LocalDateTime eventTime, String eventVenue,
             Priority eventPriority) {
-        for (Event event : eventList) {
-            if (event.getEventName().equals(eventName)) {
-                String name = getUpdatedEventName(eventNewName, event);
-                event.updateEvent(name, eventTime, eventVenue, eventPriority);
-                return name;
-            }
+        Optional<Event> event = getEventByName(eventName);
+        if (event.isEmpty()) {
+            return "";
         }
-        return "";
+
+        String name = getUpdatedEventName(eventNewName, event.get());
+        boolean isTimeChanged = !event.get().getEventTime().equals(eventTime);
+        boolean isPriorityChanged = event.get().getEventPriority() != eventPriority;
+        unindexEvent(event.get());
+        if (isTimeChanged) {
+            removeFromGroup(eventsByTime, event.get().getEventTime(), event.get());
+        }
+        if (isPriorityChanged) {
+            removeFromGroup(eventsByPriority, event.get().getEventPriority(), event.get());
+        }
+        String oldName = event.get().getEventName();
+        event.get().updateEvent(name, eventTime, eventVenue, eventPriority);
+        indexEvent(event.get());
+        if (!oldName.equals(name)) {
+            releaseName(oldName);
+        }
+        if (eventNameIndex != null) {
+            eventNameIndex.update(event.get());
+        }
+        if (isTimeChanged) {
+            addToGroup(eventsByTime, event.get().getEventTime(), event.get());
+        }
+        if (isPriorityChanged) {
+            addToGroup(eventsByPriority, event.get().getEventPriority(), event.get());
+        }
+        return name;
     }
 
     //@@author KuanHsienn
@@ -293,10 +405,9 @@ public class EventList  {
      *         an empty string if the event does not exist or the participant was not found.
      */
     public String editParticipant(String currentName, String newName, String email, String eventName) {
-        for (Event event : eventList) {
-            if (event.getEventName().equals(eventName)) {
-                return event.updateParticipant(currentName, newName, email);
-            }
+        Optional<Event> event = getEventByName(eventName);
+        if (event.isPresent()) {
+            return event.get().updateParticipant(currentName, newName, email);
         }
         return "";
     }
@@ -318,35 +429,50 @@ public class EventList  {
      *         an empty string if the item or event specified does not exist.
      */
     public String editItem(String itemName, String itemNewName, String eventName) {
-        for (Event event : eventList) {
-            if (event.getEventName().equals(eventName)) {
-                return event.updateItem(itemName, itemNewName);
-            }
+        Optional<Event> event = getEventByName(eventName);
+        if (event.isPresent()) {
+            return event.get().updateItem(itemName, itemNewName);
         }
         return "";
     }
 
-    //@@author LTK-1606
+    //@@author jemehgoh
     /**
-     * Sort the event list by name, alphabetically.
+     * Returns the events in the event list sorted by name alphabetically, without changing the event list.
+     *
+     * @return the events sorted by name.
      */
-    public void sortByName(){
-        eventList.sort(Comparator.comparing(event -> event.getEventName().toLowerCase()));
+    public List<Event> getEventsByName() {
+        ArrayList<Event> sortedEvents = new ArrayList<>(eventList);
+        sortedEvents.sort(Comparator.comparing(event -> event.getEventName().toLowerCase()));
+        return sortedEvents;
     }
 
     /**
-     *  Sort the event list by time in chronological order.
+     * Returns the events in the event list in chronological order, without changing the event list.
+     * Events with the same time are returned in the order they appear in the event list.
+     *
+     * @return the events in chronological order.
      */
-    public void sortByTime() {
-        eventList.sort(Comparator.comparing(Event::getEventTime));
+    public List<Event> getEventsByTime() {
+        ArrayList<Event> sortedEvents = new ArrayList<>(eventList.size());
+        eventsByTime.values().forEach(sortedEvents::addAll);
+        return sortedEvents;
     }
 
     /**
-     *  Sort the event list by priority level from highest to lowest priority.
+     * Returns the events in the event list from highest to lowest priority, without changing the event list.
+     * Events with the same priority are returned in the order they appear in the event list.
+     *
+     * @return the events from highest to lowest priority.
      */
-    public void sortByPriority() {
-        eventList.sort(Comparator.comparing(Event::getEventPriority));
+    public List<Event> getEventsByPriority() {
+        ArrayList<Event> sortedEvents = new ArrayList<>(eventList.size());
+        eventsByPriority.values().forEach(sortedEvents::addAll);
+        return sortedEvents;
     }
+
+    //@@author LTK-1606
   
     /**
      * Filters events in the event list by the specified priority level.
@@ -355,14 +481,8 @@ public class EventList  {
      * @return an {@code EventList} containing only events with the specified priority
      */
     public EventList filterByPriority(Priority priority) {
-        EventList filteredList = new EventList();
-
-        for (Event event : eventList) {
-            if (event.getEventPriority() == priority) {
-                filteredList.addEvent(event);
-            }
-        }
-
+        EventList filteredList = new EventList(false);
+        eventsByPriority.getOrDefault(priority, new ArrayList<>()).forEach(filteredList::addEvent);
         return filteredList;
     }
 
@@ -374,7 +494,11 @@ public class EventList  {
      * @return an {@code EventList} containing only events that the keyword can be found in the event name.
      */
     public EventList filterByName(String keyword) {
-        EventList filteredList = new EventList();
+        EventList filteredList = new EventList(false);
+        if (eventNameIndex != null) {
+            eventNameIndex.find(keyword).forEach(filteredList::addEvent);
+            return filteredList;
+        }
 
         for (Event event : eventList) {
             if (event.getEventName().toLowerCase().contains(keyword)) {
@@ -393,12 +517,37 @@ public class EventList  {
      * @return an {@code EventList} containing only events with of the specified date.
      */
     public EventList filterByDate(LocalDate eventDate) {
-        EventList filteredList = new EventList();
+        return filterByDateRange(eventDate, eventDate);
+    }
 
-        for (Event event : eventList) {
-            if (event.getEventTime().toLocalDate().equals(eventDate)) {
-                filteredList.addEvent(event);
-            }
+    //@@author jemehgoh
+    /**
+     * Filters events in the event list to only events on or between two dates, in chronological order.
+     *
+     * @param startDate the first date of the range.
+     * @param endDate the last date of the range.
+     * @return an {@code EventList} containing only events from {@code startDate} to {@code endDate}.
+     */
+    public EventList filterByDateRange(LocalDate startDate, LocalDate endDate) {
+        return filterByTimeRange(startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX));
+    }
+
+    /**
+     * Filters events in the event list to only events at or between two date-times, in chronological order.
+     * If {@code startTime} is after {@code endTime}, the filtered list is empty.
+     *
+     * @param startTime the earliest date-time of the range.
+     * @param endTime the latest date-time of the range.
+     * @return an {@code EventList} containing only events from {@code startTime} to {@code endTime}.
+     */
+    public EventList filterByTimeRange(LocalDateTime startTime, LocalDateTime endTime) {
+        EventList filteredList = new EventList(false);
+        if (startTime.isAfter(endTime)) {
+            return filteredList;
+        }
+
+        for (ArrayList<Event> events : eventsByTime.subMap(startTime, true, endTime, true).values()) {
+            events.forEach(filteredList::addEvent);
         }
 
         return filteredList;
@@ -412,7 +561,7 @@ public class EventList  {
      * @return an {@code EventList} containing only events with of the specified time.
      */
     public EventList filterByTime(LocalTime eventTime) {
-        EventList filteredList = new EventList();
+        EventList filteredList = new EventList(false);
 
         for (Event event : eventList) {
             if (event.getEventTime().toLocalTime().equals(eventTime)) {
@@ -431,35 +580,43 @@ public class EventList  {
      * @return an {@code EventList} containing only events with of the specified date-time.
      */
     public EventList filterByDateTime(LocalDateTime eventDateTime) {
-        EventList filteredList = new EventList();
+        return filterByTimeRange(eventDateTime, eventDateTime);
+    }
 
-        for (Event event : eventList) {
-            if (event.getEventTime().equals(eventDateTime)) {
-                filteredList.addEvent(event);
-            }
-        }
+    //@@author jemehgoh
+    /**
+     * Returns true if the event list, or any of its events, has changed since it was last marked clean.
+     * Returns false otherwise.
+     *
+     * @return {@code true} if the event list has unsaved changes, {@code false} otherwise.
+     */
+    public boolean isDirty() {
+        return version != cleanVersion;
+    }
 
-        return filteredList;
+    /**
+     * Marks the event list, and all of its events, as having no unsaved changes.
+     */
+    public void markClean() {
+        cleanVersion = version;
+    }
+
+    /**
+     * Records a change to the event list, or to one of the events it owns.
+     */
+    void markChanged() {
+        version++;
     }
 
-    //author jemehgoh
     /**
      * Returns an event's name with an indexed suffix.
-     * The suffix value varies based on the number of event with the same name in the event list.
+     * The suffix is the lowest one that no event in the event list has with the name.
      *
      * @param name the given event name.
      * @return name with an indexed suffix.
      */
     private String getDuplicateEventName(String name) {
-        int index = 1;
-        String duplicateName = name;
-
-        while (getEventByName(duplicateName).isPresent()) {
-            duplicateName = String.format("%s(%d)", name, index);
-            index++;
-        }
-
-        return duplicateName;
+        return getFreeEventName(name, null);
     }
 
     /**
@@ -470,14 +627,175 @@ public class EventList  {
      * @return the updated version of name.
      */
     private String getUpdatedEventName(String name, Event event) {
-        int index = 1;
-        String updatedName = name;
+        return getFreeEventName(name, event);
+    }
 
-        while (getEventByName(updatedName).isPresent() && !updatedName.equals(event.getEventName())) {
-            updatedName = String.format("%s(%d)", name, index);
-            index++;
+    /**
+     * Returns the given name if no event other than a given event has it. Otherwise, returns the name with the
+     * lowest indexed suffix that no event other than the given event has.
+     *
+     * @param name the given event name.
+     * @param event the event that is to have the name, or null if it is a new event.
+     * @return name, or name with an indexed suffix.
+     */
+    private String getFreeEventName(String name, Event event) {
+        String ownName = (event == null) ? null : event.getEventName();
+        if (!eventsByName.containsKey(name) || name.equals(ownName)) {
+            return name;
+        }
+
+        int suffix = nextSuffixes.getOrDefault(name, FIRST_SUFFIX);
+        Integer ownSuffix = getSuffix(ownName, name);
+        if (ownSuffix != null && ownSuffix < suffix) {
+            return ownName;
+        }
+
+        String freeName = name + "(" + suffix + ")";
+        while (eventsByName.containsKey(freeName) && !freeName.equals(ownName)) {
+            suffix++;
+            freeName = name + "(" + suffix + ")";
+        }
+
+        nextSuffixes.put(name, suffix + 1);
+        return freeName;
+    }
+
+    /**
+     * Frees the indexed suffix of a name that an event no longer has, so that the suffix is given to the next
+     * duplicate of its base name if it is lower than the suffix that would be given.
+     *
+     * @param name the name that an event no longer has.
+     */
+    private void releaseName(String name) {
+        int suffixStart = name.lastIndexOf('(');
+        if (suffixStart < 0) {
+            return;
         }
 
-        return updatedName;
+        String baseName = name.substring(0, suffixStart);
+        Integer suffix = getSuffix(name, baseName);
+        if (suffix != null) {
+            nextSuffixes.computeIfPresent(baseName, (base, nextSuffix) -> Math.min(nextSuffix, suffix));
+        }
+    }
+
+    /**
+     * Returns the indexed suffix of a name with a given base name, or null if the name is not the base name with
+     * an indexed suffix.
+     *
+     * @param name the given name, which may be null.
+     * @param baseName the given base name.
+     * @return the suffix of name, or null if name is not baseName with an indexed suffix.
+     */
+    private static Integer getSuffix(String name, String baseName) {
+        if (name == null || !name.startsWith(baseName)
+                || !SUFFIX_PATTERN.matcher(name).region(baseName.length(), name.length()).matches()) {
+            return null;
+        }
+        return Integer.parseInt(name.substring(baseName.length() + 1, name.length() - 1));
+    }
+
+    /**
+     * Adds an event to the name index.
+     * If another event with the same name is already indexed, that event is kept, so that lookups
+     * resolve to the earliest event in the list, as a scan of the list would.
+     *
+     * @param event the event to be indexed.
+     */
+    private void indexEvent(Event event) {
+        Event indexedEvent = eventsByName.putIfAbsent(event.getEventName(), event);
+        if (indexedEvent != null && indexedEvent != event) {
+            hasDuplicateNames = true;
+        }
+    }
+
+    /**
+     * Removes an event from the name index.
+     * If the list may hold other events with the same name, the next such event in the list is indexed instead.
+     *
+     * @param event the event to be removed from the index.
+     */
+    private void unindexEvent(Event event) {
+        String eventName = event.getEventName();
+        if (!eventsByName.remove(eventName, event) || !hasDuplicateNames) {
+            return;
+        }
+
+        for (Event otherEvent : eventList) {
+            if (otherEvent != event && otherEvent.getEventName().equals(eventName)) {
+                eventsByName.put(eventName, otherEvent);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Adds an event to the end of its time and priority groups.
+     * This keeps the groups in list order only if the event is the last event in the list.
+     *
+     * @param event the event to be added to its groups.
+     */
+    private void appendToGroups(Event event) {
+        eventsByTime.computeIfAbsent(event.getEventTime(), time -> new ArrayList<>()).add(event);
+        eventsByPriority.computeIfAbsent(event.getEventPriority(), priority -> new ArrayList<>()).add(event);
+    }
+
+    /**
+     * Adds an event to its group in an index, after the events in the same group that come before it in the list.
+     *
+     * @param groups the index that the event is to be added to.
+     * @param key the key of the event's group.
+     * @param event the event to be added.
+     * @param <K> the type of the group keys.
+     */
+    private <K> void addToGroup(Map<K, ArrayList<Event>> groups, K key, Event event) {
+        ArrayList<Event> events = groups.computeIfAbsent(key, groupKey -> new ArrayList<>());
+        events.add(findGroupPosition(events, event), event);
+    }
+
+    /**
+     * Removes an event from its group in an index.
+     *
+     * @param groups the index that the event is to be removed from.
+     * @param key the key of the event's group.
+     * @param event the event to be removed.
+     * @param <K> the type of the group keys.
+     */
+    private <K> void removeFromGroup(Map<K, ArrayList<Event>> groups, K key, Event event) {
+        ArrayList<Event> events = groups.get(key);
+        if (events == null) {
+            return;
+        }
+
+        int position = findGroupPosition(events, event);
+        if (position < events.size() && events.get(position) == event) {
+            events.remove(position);
+        }
+        if (events.isEmpty()) {
+            groups.remove(key);
+        }
+    }
+
+    /**
+     * Returns the position of the first event in a group that was not added to the list before a given event.
+     * This is the position of the given event if it is in the group, or the position it is to be added at if not.
+     *
+     * @param events the events in the group, in list order.
+     * @param event the given event.
+     * @return the position of event in events.
+     */
+    private int findGroupPosition(ArrayList<Event> events, Event event) {
+        long sequenceNumber = sequenceNumbers.get(event);
+        int low = 0;
+        int high = events.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sequenceNumbers.get(events.get(middle)) < sequenceNumber) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
     }
 }
@@ -0,0 +1,131 @@
+package seedu.manager.event;
+
+import seedu.manager.item.Item;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+//@@author jemehgoh
+/**
+ * Represents a case-insensitive index of the participants or items of an {@link Event}, by name.
+ * <p>
+ * For each base name, the index also keeps the lowest suffix that may still be free, so that a free
+ * "NAME(n)" for a duplicate name is found without trying every suffix from 1.
+ * </p>
+ *
+ * @param <T> the type of the indexed participants or items.
+ */
+public class NameIndex<T extends Item> {
+    private static final int FIRST_SUFFIX = 1;
+    private static final Pattern SUFFIX_PATTERN = Pattern.compile("\\([1-9][0-9]{0,8}\\)");
+
+    private final HashMap<String, T> itemsByName;
+    private final HashMap<String, Integer> nextSuffixes;
+
+    /**
+     * Constructs an empty NameIndex.
+     */
+    public NameIndex() {
+        this.itemsByName = new HashMap<>();
+        this.nextSuffixes = new HashMap<>();
+    }
+
+    /**
+     * Constructs a NameIndex of the given participants or items.
+     *
+     * @param items the participants or items to index.
+     */
+    public NameIndex(List<T> items) {
+        this.itemsByName = new HashMap<>(items.size() * 2);
+        this.nextSuffixes = new HashMap<>();
+        items.forEach(this::add);
+    }
+
+    /**
+     * Returns the participant or item with the given name, ignoring case.
+     *
+     * @param name the given name.
+     * @return the participant or item with name, or an empty {@link Optional} if there is none.
+     */
+    public Optional<T> get(String name) {
+        return Optional.ofNullable(itemsByName.get(toKey(name)));
+    }
+
+    /**
+     * Adds a participant or item to the index. If another participant or item already has the same name,
+     * the existing entry is kept.
+     *
+     * @param item the participant or item to add.
+     */
+    public void add(T item) {
+        itemsByName.putIfAbsent(toKey(item.getName()), item);
+    }
+
+    /**
+     * Removes a participant or item from the index, freeing its name for later duplicates.
+     *
+     * @param item the participant or item to remove.
+     */
+    public void remove(T item) {
+        String name = item.getName();
+        if (!itemsByName.remove(toKey(name), item)) {
+            return;
+        }
+
+        int suffixStart = name.lastIndexOf('(');
+        if (suffixStart < 0 || !isSuffix(name.substring(suffixStart))) {
+            return;
+        }
+
+        int suffix = Integer.parseInt(name.substring(suffixStart + 1, name.length() - 1));
+        nextSuffixes.computeIfPresent(toKey(name.substring(0, suffixStart)),
+                (baseKey, nextSuffix) -> Math.min(nextSuffix, suffix));
+    }
+
+    /**
+     * Returns the given name if no participant or item has it. Otherwise, returns the name with the lowest
+     * indexed suffix that no participant or item has.
+     *
+     * @param name the given name.
+     * @return name, or name with an indexed suffix.
+     */
+    public String getFreeName(String name) {
+        if (!itemsByName.containsKey(toKey(name))) {
+            return name;
+        }
+
+        String baseKey = toKey(name);
+        int suffix = nextSuffixes.getOrDefault(baseKey, FIRST_SUFFIX);
+        String freeName = String.format("%s(%d)", name, suffix);
+        while (itemsByName.containsKey(toKey(freeName))) {
+            suffix++;
+            freeName = String.format("%s(%d)", name, suffix);
+        }
+
+        nextSuffixes.put(baseKey, suffix + 1);
+        return freeName;
+    }
+
+    /**
+     * Returns true if the given text is an indexed suffix, such as "(2)". Returns false otherwise.
+     *
+     * @param text the given text.
+     * @return {@code true} if text is an indexed suffix, {@code false} otherwise.
+     */
+    private static boolean isSuffix(String text) {
+        return SUFFIX_PATTERN.matcher(text).matches();
+    }
+
+    /**
+     * Returns the key of a given name in the index.
+     *
+     * @param name the given name.
+     * @return the key of name.
+     */
+    private static String toKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
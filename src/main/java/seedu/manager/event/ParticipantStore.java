@@ -0,0 +1,567 @@
+package seedu.manager.event;
+
+import seedu.manager.item.Participant;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+//@@author jemehgoh
+/**
+ * Represents the participants of an {@link Event} stored in columns: an array of names, an array of emails, and a
+ * bitset of whether each participant is present, with one row for each participant in list order.
+ * <p>
+ * A participant in a list of {@link Participant}s also has an entry in a {@link NameIndex} and in a
+ * {@link SubstringIndex}, which together take far more memory than the participant. A row of the store only takes
+ * two references, a bit, and a slot or two in a table of row numbers by name, with open addressing. Participants
+ * are found by keyword by scanning the names, which are next to each other in memory.
+ * </p>
+ * <p>
+ * As in a {@link NameIndex}, the store keeps the lowest suffix that may still be free for each duplicated name,
+ * so that a free "NAME(n)" is found without trying every suffix from 1.
+ * </p>
+ * <p>
+ * Participant objects are only created as flyweight views of a row, by {@link #getParticipant(int)} and
+ * {@link #asList()}. A view reads and writes its row, so it is only valid until a participant before it is
+ * removed.
+ * </p>
+ */
+public class ParticipantStore {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int EMPTY_SLOT = -1;
+    private static final int FIRST_SUFFIX = 1;
+    private static final Pattern SUFFIX_PATTERN = Pattern.compile("\\([1-9][0-9]{0,8}\\)");
+
+    private final HashMap<String, Integer> nextSuffixes;
+    private String[] names;
+    private String[] emails;
+    private long[] presence;
+    private int[] slots;
+    private int size;
+
+    /**
+     * Constructs an empty ParticipantStore.
+     */
+    public ParticipantStore() {
+        this.names = new String[INITIAL_CAPACITY];
+        this.emails = new String[INITIAL_CAPACITY];
+        this.presence = new long[getWordCount(INITIAL_CAPACITY)];
+        this.slots = createSlots(2 * INITIAL_CAPACITY);
+        this.nextSuffixes = new HashMap<>();
+    }
+
+    /**
+     * Constructs a ParticipantStore of the given participants, in list order. The names of the participants are
+     * kept as they are.
+     *
+     * @param participants the participants to store.
+     */
+    public ParticipantStore(List<Participant> participants) {
+        int capacity = Math.max(INITIAL_CAPACITY, participants.size());
+        this.names = new String[capacity];
+        this.emails = new String[capacity];
+        this.presence = new long[getWordCount(capacity)];
+        this.slots = createSlots(Integer.highestOneBit(capacity - 1) << 2);
+        this.nextSuffixes = new HashMap<>();
+        for (Participant participant : participants) {
+            append(participant.getName(), participant.getEmail(), participant.isPresent());
+        }
+    }
+
+    /**
+     * Returns the number of participants in the store.
+     *
+     * @return the number of participants.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a flyweight view of the participant in a given row.
+     *
+     * @param row the row of the participant.
+     * @return a view of the participant in row.
+     */
+    public Participant getParticipant(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException(row);
+        }
+        return new ParticipantView(row);
+    }
+
+    /**
+     * Returns an unmodifiable list of flyweight views of the participants, in list order. A view is only created
+     * when its participant is read from the list.
+     *
+     * @return the participants in the store.
+     */
+    public List<Participant> asList() {
+        return new AbstractList<>() {
+            @Override
+            public Participant get(int row) {
+                return getParticipant(row);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Adds a participant to the end of the store. If another participant has the same name, ignoring case, the
+     * participant is added with the lowest indexed suffix that no participant has, such as "NAME(1)".
+     *
+     * @param name the name of the participant.
+     * @param email the email of the participant.
+     * @param isPresent {@code true} if the participant is present, {@code false} otherwise.
+     * @return the name of the added participant.
+     */
+    public String add(String name, String email, boolean isPresent) {
+        String freeName = getFreeName(name);
+        append(freeName, email, isPresent);
+        return freeName;
+    }
+
+    /**
+     * Removes the participant with a given name, ignoring case, and moves every later participant up a row.
+     * Only the slots of the moved rows are renumbered, so removing a participant near the end of the store does
+     * not touch the rest of the table.
+     *
+     * @param name the name of the participant.
+     * @return {@code true} if a participant was removed, {@code false} if there is no participant named name.
+     */
+    public boolean remove(String name) {
+        int row = findRow(name);
+        if (row < 0) {
+            return false;
+        }
+
+        removeSlot(row);
+        releaseName(names[row]);
+        for (int movedRow = row + 1; movedRow < size; movedRow++) {
+            slots[findSlot(movedRow)] = movedRow - 1;
+        }
+
+        int movedCount = size - row - 1;
+        System.arraycopy(names, row + 1, names, row, movedCount);
+        System.arraycopy(emails, row + 1, emails, row, movedCount);
+        removePresence(row);
+        size--;
+        names[size] = null;
+        emails[size] = null;
+        return true;
+    }
+
+    /**
+     * Updates the name and email of the participant with a given name, ignoring case. If another participant has
+     * the new name, the participant is given the new name with the lowest free indexed suffix.
+     *
+     * @param name the name of the participant.
+     * @param newName the new name of the participant.
+     * @param newEmail the new email of the participant.
+     * @return the name the participant was given, or an empty string if there is no participant named name.
+     */
+    public String update(String name, String newName, String newEmail) {
+        int row = findRow(name);
+        if (row < 0) {
+            return "";
+        }
+
+        removeSlot(row);
+        releaseName(names[row]);
+        String nameToSet = getFreeName(newName);
+        names[row] = nameToSet;
+        emails[row] = newEmail;
+        insertSlot(row);
+        return nameToSet;
+    }
+
+    /**
+     * Marks the participant with a given name, ignoring case, as present or absent.
+     *
+     * @param name the name of the participant.
+     * @param isPresent {@code true} if the participant is to be marked present, {@code false} otherwise.
+     * @return {@code true} if the participant was marked, {@code false} if there is no participant named name.
+     */
+    public boolean mark(String name, boolean isPresent) {
+        int row = findRow(name);
+        if (row < 0) {
+            return false;
+        }
+
+        setPresence(row, isPresent);
+        return true;
+    }
+
+    /**
+     * Returns views of the participants whose names contain a keyword, ignoring case, in list order.
+     *
+     * @param keyword the keyword to search for.
+     * @return the participants whose names contain keyword.
+     */
+    public ArrayList<Participant> find(String keyword) {
+        ArrayList<Participant> matches = new ArrayList<>();
+        if (keyword.isEmpty()) {
+            for (int row = 0; row < size; row++) {
+                matches.add(new ParticipantView(row));
+            }
+            return matches;
+        }
+
+        char foldedFirst = foldCase(keyword.charAt(0));
+        for (int row = 0; row < size; row++) {
+            if (containsIgnoreCase(names[row], keyword, foldedFirst)) {
+                matches.add(new ParticipantView(row));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the given name if no participant has it, ignoring case. Otherwise, returns the name with the lowest
+     * indexed suffix that no participant has, starting from the lowest suffix that may still be free for name.
+     *
+     * @param name the given name.
+     * @return name, or name with an indexed suffix.
+     */
+    private String getFreeName(String name) {
+        if (findRow(name) < 0) {
+            return name;
+        }
+
+        String baseKey = toKey(name);
+        int suffix = nextSuffixes.getOrDefault(baseKey, FIRST_SUFFIX);
+        String freeName = name + "(" + suffix + ")";
+        while (findRow(freeName) >= 0) {
+            suffix++;
+            freeName = name + "(" + suffix + ")";
+        }
+
+        nextSuffixes.put(baseKey, suffix + 1);
+        return freeName;
+    }
+
+    /**
+     * Frees the indexed suffix of a name that no participant has any more, so that the suffix is given to the
+     * next duplicate of its base name if it is lower than the suffix that would be given.
+     *
+     * @param name the name that no participant has any more.
+     */
+    private void releaseName(String name) {
+        int suffixStart = name.lastIndexOf('(');
+        if (suffixStart < 0 || !SUFFIX_PATTERN.matcher(name).region(suffixStart, name.length()).matches()) {
+            return;
+        }
+
+        int suffix = Integer.parseInt(name.substring(suffixStart + 1, name.length() - 1));
+        nextSuffixes.computeIfPresent(toKey(name.substring(0, suffixStart)),
+                (baseKey, nextSuffix) -> Math.min(nextSuffix, suffix));
+    }
+
+    /**
+     * Adds a participant to the end of the store under the given name, growing the columns if they are full.
+     *
+     * @param name the name of the participant.
+     * @param email the email of the participant.
+     * @param isPresent {@code true} if the participant is present, {@code false} otherwise.
+     */
+    private void append(String name, String email, boolean isPresent) {
+        if (size == names.length) {
+            names = Arrays.copyOf(names, 2 * size);
+            emails = Arrays.copyOf(emails, 2 * size);
+            presence = Arrays.copyOf(presence, getWordCount(2 * size));
+        }
+        if (2 * (size + 1) > slots.length) {
+            rehash(2 * slots.length);
+        }
+
+        names[size] = name;
+        emails[size] = email;
+        setPresence(size, isPresent);
+        insertSlot(size);
+        size++;
+    }
+
+    /**
+     * Returns the row of the participant with a given name, ignoring case.
+     *
+     * @param name the given name.
+     * @return the row of the participant named name, or -1 if there is no such participant.
+     */
+    private int findRow(String name) {
+        int mask = slots.length - 1;
+        for (int i = hashName(name) & mask; slots[i] != EMPTY_SLOT; i = (i + 1) & mask) {
+            if (names[slots[i]].equalsIgnoreCase(name)) {
+                return slots[i];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Puts a row in the first empty slot at or after the slot of its name.
+     *
+     * @param row the row to put in the table.
+     */
+    private void insertSlot(int row) {
+        int mask = slots.length - 1;
+        int i = hashName(names[row]) & mask;
+        while (slots[i] != EMPTY_SLOT) {
+            i = (i + 1) & mask;
+        }
+        slots[i] = row;
+    }
+
+    /**
+     * Returns the slot of a row in the table. The row must still have the name it was put in the table under.
+     *
+     * @param row the row in the table.
+     * @return the slot holding row.
+     */
+    private int findSlot(int row) {
+        int mask = slots.length - 1;
+        int i = hashName(names[row]) & mask;
+        while (slots[i] != row) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    /**
+     * Removes a row from the table, moving back any later rows of the same run that can no longer be found.
+     * The row must still have the name it was put in the table under.
+     *
+     * @param row the row to remove from the table.
+     */
+    private void removeSlot(int row) {
+        int mask = slots.length - 1;
+        int emptied = findSlot(row);
+
+        for (int i = (emptied + 1) & mask; slots[i] != EMPTY_SLOT; i = (i + 1) & mask) {
+            int home = hashName(names[slots[i]]) & mask;
+            boolean isFoundFromHome = (emptied <= i) ? (emptied < home && home <= i) : (emptied < home || home <= i);
+            if (!isFoundFromHome) {
+                slots[emptied] = slots[i];
+                emptied = i;
+            }
+        }
+        slots[emptied] = EMPTY_SLOT;
+    }
+
+    /**
+     * Replaces the table with an empty table with a given number of slots, and puts every row in it.
+     *
+     * @param slotCount the number of slots, which is a power of two.
+     */
+    private void rehash(int slotCount) {
+        slots = createSlots(slotCount);
+        for (int row = 0; row < size; row++) {
+            insertSlot(row);
+        }
+    }
+
+    /**
+     * Returns true if the participant in a given row is present, returns false otherwise.
+     *
+     * @param row the row of the participant.
+     * @return {@code true} if the participant is present, {@code false} otherwise.
+     */
+    private boolean getPresence(int row) {
+        return (presence[row >>> 6] & (1L << row)) != 0;
+    }
+
+    /**
+     * Sets the participant in a given row as present or absent.
+     *
+     * @param row the row of the participant.
+     * @param isPresent {@code true} if the participant is present, {@code false} otherwise.
+     */
+    private void setPresence(int row, boolean isPresent) {
+        if (isPresent) {
+            presence[row >>> 6] |= 1L << row;
+        } else {
+            presence[row >>> 6] &= ~(1L << row);
+        }
+    }
+
+    /**
+     * Removes the presence bit of a given row, moving the bits of every later row down by one, a word at a time.
+     * The bits of the rows after the last row must be clear.
+     *
+     * @param row the row whose bit is removed.
+     */
+    private void removePresence(int row) {
+        int word = row >>> 6;
+        int lastWord = (size - 1) >>> 6;
+        long lowerBits = (1L << row) - 1;
+        presence[word] = (presence[word] & lowerBits) | ((presence[word] >>> 1) & ~lowerBits);
+        for (int i = word; i < lastWord; i++) {
+            presence[i] |= presence[i + 1] << (Long.SIZE - 1);
+            presence[i + 1] >>>= 1;
+        }
+    }
+
+    /**
+     * Returns an empty table with a given number of slots.
+     *
+     * @param slotCount the number of slots, which is a power of two.
+     * @return the table.
+     */
+    private static int[] createSlots(int slotCount) {
+        int[] emptySlots = new int[slotCount];
+        Arrays.fill(emptySlots, EMPTY_SLOT);
+        return emptySlots;
+    }
+
+    /**
+     * Returns the number of words of the bitset needed for a given number of rows.
+     *
+     * @param rowCount the number of rows.
+     * @return the number of words.
+     */
+    private static int getWordCount(int rowCount) {
+        return (rowCount + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    /**
+     * Returns a hash of a name that is the same for names that are equal ignoring case.
+     *
+     * @param name the name.
+     * @return the hash of name.
+     */
+    private static int hashName(String name) {
+        int hash = 0;
+        for (int i = 0; i < name.length(); i++) {
+            hash = 31 * hash + foldCase(name.charAt(i));
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Returns the key of a given name in the table of next suffixes.
+     *
+     * @param name the given name.
+     * @return the key of name.
+     */
+    private static String toKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns true if a name contains a keyword, ignoring case. Returns false otherwise.
+     * The rest of the keyword is only compared where the first character of the keyword matches.
+     *
+     * @param name the name.
+     * @param keyword the keyword, which is not empty.
+     * @param foldedFirst the first character of the keyword, with its case folded by {@link #foldCase(char)}.
+     * @return {@code true} if name contains keyword, {@code false} otherwise.
+     */
+    private static boolean containsIgnoreCase(String name, String keyword, char foldedFirst) {
+        for (int i = 0; i + keyword.length() <= name.length(); i++) {
+            char character = name.charAt(i);
+            if ((character == foldedFirst || foldCase(character) == foldedFirst)
+                    && name.regionMatches(true, i + 1, keyword, 1, keyword.length() - 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a character with its case folded, so that characters equal ignoring case, as compared by
+     * {@link String#equalsIgnoreCase(String)}, have the same folded character.
+     *
+     * @param character the character.
+     * @return the folded character.
+     */
+    private static char foldCase(char character) {
+        return Character.toLowerCase(Character.toUpperCase(character));
+    }
+
+    /**
+     * Represents a flyweight view of a participant in the store, which reads and writes the participant's row.
+     */
+    private class ParticipantView extends Participant {
+        private final int row;
+
+        /**
+         * Constructs a view of the participant in a given row.
+         *
+         * @param row the row of the participant.
+         */
+        private ParticipantView(int row) {
+            super(null, null, false);
+            this.row = row;
+        }
+
+        /**
+         * Returns the name of the participant.
+         *
+         * @return the name of the participant.
+         */
+        @Override
+        public String getName() {
+            return names[row];
+        }
+
+        /**
+         * Sets the name of the participant, without checking if another participant has it.
+         *
+         * @param newName the new name of the participant.
+         */
+        @Override
+        public void setName(String newName) {
+            removeSlot(row);
+            releaseName(names[row]);
+            names[row] = newName;
+            insertSlot(row);
+        }
+
+        /**
+         * Returns the contact email of the participant.
+         *
+         * @return the contact email of the participant.
+         */
+        @Override
+        public String getEmail() {
+            return emails[row];
+        }
+
+        /**
+         * Sets the contact email of the participant.
+         *
+         * @param newEmail the new contact email of the participant.
+         */
+        @Override
+        public void setEmail(String newEmail) {
+            emails[row] = newEmail;
+        }
+
+        /**
+         * Returns true if the participant is present, returns false otherwise.
+         *
+         * @return {@code true} if the participant is present, {@code false} otherwise.
+         */
+        @Override
+        public boolean isPresent() {
+            return getPresence(row);
+        }
+
+        /**
+         * Sets the participant as present or absent.
+         *
+         * @param isPresent {@code true} if the participant is present, {@code false} otherwise.
+         */
+        @Override
+        public void setPresent(boolean isPresent) {
+            setPresence(row, isPresent);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.manager.event;
+
+import java.lang.ref.WeakReference;
+import java.util.WeakHashMap;
+
+//@@author jemehgoh
+/**
+ * Represents a pool of canonical strings, so that equal strings from different events share one copy.
+ * <p>
+ * The pool only holds its strings weakly, so a string is dropped from the pool once no event refers to it.
+ * It is meant for values that repeat across many events, such as venues. Values that are mostly unique, such as
+ * participant names, should not be pooled, as each entry of the pool costs more than the string it saves.
+ * </p>
+ */
+public class StringPool {
+    private final WeakHashMap<String, WeakReference<String>> strings;
+
+    /**
+     * Constructs an empty StringPool.
+     */
+    public StringPool() {
+        this.strings = new WeakHashMap<>();
+    }
+
+    /**
+     * Returns the canonical copy of a given string. If the pool has no string equal to value, value is added to
+     * the pool and returned.
+     *
+     * @param value the given string.
+     * @return the string in the pool equal to value, or {@code null} if value is {@code null}.
+     */
+    public synchronized String canonicalise(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        WeakReference<String> reference = strings.get(value);
+        String canonicalValue = (reference == null) ? null : reference.get();
+        if (canonicalValue == null) {
+            strings.put(value, new WeakReference<>(value));
+            return value;
+        }
+        return canonicalValue;
+    }
+
+    /**
+     * Returns the number of strings in the pool.
+     *
+     * @return the number of strings in the pool.
+     */
+    public synchronized int size() {
+        return strings.size();
+    }
+}
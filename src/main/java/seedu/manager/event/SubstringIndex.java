@@ -0,0 +1,223 @@
+package seedu.manager.event;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+//@@author jemehgoh
+/**
+ * Represents a case-insensitive index of names by their trigrams (runs of three characters), that finds the names
+ * containing a keyword without checking every name.
+ * <p>
+ * A name can only contain a keyword of three or more characters if it has every trigram of the keyword, so only
+ * the names under the keyword's rarest trigram need to be checked. Shorter keywords are checked against every
+ * name. Each name is kept in lower case, so that checking a name does not create any strings.
+ * </p>
+ * <p>
+ * Matches are returned in the order their entries were first added, which is the order of the list the index
+ * was built from, as long as new entries are only added to the end of that list.
+ * </p>
+ *
+ * @param <T> the type of the named entries.
+ */
+public class SubstringIndex<T> {
+    private static final int GRAM_LENGTH = 3;
+
+    private final Function<T, String> nameFunction;
+    private final IdentityHashMap<T, IndexedName> indexedNames;
+    private final HashMap<Long, Set<T>> entriesByGram;
+    private long nextPosition;
+
+    /**
+     * Constructs a SubstringIndex of the given entries.
+     *
+     * @param nameFunction the function giving the name of an entry.
+     * @param entries the entries to index, in list order.
+     */
+    public SubstringIndex(Function<T, String> nameFunction, List<T> entries) {
+        this.nameFunction = nameFunction;
+        this.indexedNames = new IdentityHashMap<>();
+        this.entriesByGram = new HashMap<>();
+        entries.forEach(this::add);
+    }
+
+    /**
+     * Constructs a copy of another SubstringIndex.
+     *
+     * @param otherIndex the index to copy.
+     */
+    public SubstringIndex(SubstringIndex<T> otherIndex) {
+        this.nameFunction = otherIndex.nameFunction;
+        this.indexedNames = new IdentityHashMap<>(otherIndex.indexedNames);
+        this.entriesByGram = new HashMap<>();
+        otherIndex.entriesByGram.forEach((gram, entries) -> entriesByGram.put(gram, new HashSet<>(entries)));
+        this.nextPosition = otherIndex.nextPosition;
+    }
+
+    /**
+     * Adds an entry to the index, after every entry already in it.
+     *
+     * @param entry the entry to add.
+     */
+    public void add(T entry) {
+        IndexedName indexedName = new IndexedName(nextPosition, toKey(nameFunction.apply(entry)));
+        nextPosition++;
+        indexedNames.put(entry, indexedName);
+        addGrams(entry, indexedName.key);
+    }
+
+    /**
+     * Removes an entry from the index.
+     *
+     * @param entry the entry to remove.
+     */
+    public void remove(T entry) {
+        IndexedName indexedName = indexedNames.remove(entry);
+        if (indexedName != null) {
+            removeGrams(entry, indexedName.key);
+        }
+    }
+
+    /**
+     * Indexes an entry under its current name, after it has been renamed. The entry keeps its position.
+     *
+     * @param entry the renamed entry.
+     */
+    public void update(T entry) {
+        IndexedName indexedName = indexedNames.get(entry);
+        if (indexedName == null) {
+            return;
+        }
+
+        String newKey = toKey(nameFunction.apply(entry));
+        removeGrams(entry, indexedName.key);
+        indexedNames.put(entry, new IndexedName(indexedName.position, newKey));
+        addGrams(entry, newKey);
+    }
+
+    /**
+     * Removes every entry from the index.
+     */
+    public void clear() {
+        indexedNames.clear();
+        entriesByGram.clear();
+        nextPosition = 0;
+    }
+
+    /**
+     * Returns the entries whose names contain a keyword, ignoring case, in the order they were added.
+     *
+     * @param keyword the keyword to search for.
+     * @return the entries whose names contain keyword.
+     */
+    public ArrayList<T> find(String keyword) {
+        String keywordKey = toKey(keyword);
+        Collection<T> candidates = keywordKey.length() < GRAM_LENGTH ? indexedNames.keySet()
+                : getCandidates(keywordKey);
+
+        ArrayList<T> matches = new ArrayList<>();
+        for (T candidate : candidates) {
+            if (indexedNames.get(candidate).key.contains(keywordKey)) {
+                matches.add(candidate);
+            }
+        }
+        matches.sort(Comparator.comparingLong(match -> indexedNames.get(match).position));
+        return matches;
+    }
+
+    /**
+     * Returns the entries under the rarest trigram of a keyword, which include every entry whose name contains
+     * the keyword.
+     *
+     * @param keywordKey the keyword in lower case, with at least three characters.
+     * @return the entries that may contain the keyword.
+     */
+    private Collection<T> getCandidates(String keywordKey) {
+        Set<T> candidates = null;
+        for (int i = 0; i + GRAM_LENGTH <= keywordKey.length(); i++) {
+            Set<T> gramEntries = entriesByGram.get(toGram(keywordKey, i));
+            if (gramEntries == null) {
+                return Set.of();
+            }
+            if (candidates == null || gramEntries.size() < candidates.size()) {
+                candidates = gramEntries;
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Lists an entry under every trigram of its name.
+     *
+     * @param entry the entry.
+     * @param key the name of the entry in lower case.
+     */
+    private void addGrams(T entry, String key) {
+        for (int i = 0; i + GRAM_LENGTH <= key.length(); i++) {
+            entriesByGram.computeIfAbsent(toGram(key, i), gram -> new HashSet<>()).add(entry);
+        }
+    }
+
+    /**
+     * Removes an entry from under every trigram of its name.
+     *
+     * @param entry the entry.
+     * @param key the name the entry was indexed under, in lower case.
+     */
+    private void removeGrams(T entry, String key) {
+        for (int i = 0; i + GRAM_LENGTH <= key.length(); i++) {
+            Long gram = toGram(key, i);
+            Set<T> gramEntries = entriesByGram.get(gram);
+            if (gramEntries != null && gramEntries.remove(entry) && gramEntries.isEmpty()) {
+                entriesByGram.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Returns the trigram of a string starting at a given index, packed into a number.
+     *
+     * @param key the string.
+     * @param start the index of the first character of the trigram.
+     * @return the trigram.
+     */
+    private static long toGram(String key, int start) {
+        return ((long) key.charAt(start) << (2 * Character.SIZE)) | ((long) key.charAt(start + 1) << Character.SIZE)
+                | key.charAt(start + 2);
+    }
+
+    /**
+     * Returns the key of a given name or keyword in the index.
+     *
+     * @param name the given name or keyword.
+     * @return the key of name.
+     */
+    private static String toKey(String name) {
+        return name.toLowerCase();
+    }
+
+    /**
+     * Represents the position of an entry in the index, and the name it is indexed under.
+     */
+    private static class IndexedName {
+        private final long position;
+        private final String key;
+
+        /**
+         * Constructs an IndexedName.
+         *
+         * @param position the position of the entry.
+         * @param key the name of the entry in lower case.
+         */
+        private IndexedName(long position, String key) {
+            this.position = position;
+            this.key = key;
+        }
+    }
+}
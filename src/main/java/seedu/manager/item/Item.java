@@ -1,11 +1,12 @@
 package seedu.manager.item;
 
 import seedu.manager.event.Event;
+import seedu.manager.ui.Renderable;
 
 /**
  * Represents an item, in an item list of an {@link Event}.
  */
-public class Item {
+public class Item implements Renderable {
     protected String name;
     protected boolean isPresent;
 
@@ -47,13 +48,22 @@ public class Item {
         this.isPresent = isPresent;
     }
 
+    /**
+     * Returns true if the item is present, returns false otherwise.
+     *
+     * @return {@code true} if the item is present, {@code false} otherwise.
+     */
+    public boolean isPresent() {
+        return isPresent;
+    }
+
     /**
      * Returns "X" if isPresent is true, " " otherwise.
      *
      * @return "X" if isPresent is true, " " otherwise.
      */
     public String markIfPresent() {
-        return (this.isPresent) ? "X" : " ";
+        return isPresent() ? "X" : " ";
     }
 
     /**
@@ -63,7 +73,18 @@ public class Item {
      * @return "Y" if isPresent is true, "N" otherwise.
      */
     public String markFileLineIfPresent() {
-        return (this.isPresent) ? "Y" : "N";
+        return isPresent() ? "Y" : "N";
+    }
+
+    //@@author jemehgoh
+    /**
+     * Appends a formatted line of the item to a given {@link StringBuilder}.
+     *
+     * @param output the builder to append the line to.
+     */
+    @Override
+    public void appendTo(StringBuilder output) {
+        output.append(this.name).append(" [").append(this.markIfPresent()).append(']');
     }
 
     /**
@@ -73,7 +94,9 @@ public class Item {
      */
     @Override
     public String toString() {
-        return String.format("%s [%s]", this.name, this.markIfPresent());
+        StringBuilder output = new StringBuilder();
+        appendTo(output);
+        return output.toString();
     }
 }
 
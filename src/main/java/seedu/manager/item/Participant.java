@@ -51,13 +51,13 @@ public class Participant extends Item {
 
     //@@author glenn-chew
     /**
-     * Returns a formatted string of the participant.
+     * Appends a formatted line of the participant to a given {@link StringBuilder}.
      *
-     * @return a formatted string of the participant.
+     * @param output the builder to append the line to.
      */
     @Override
-    public String toString() {
-        return String.format("Name: %s / Email: %s [%s]",
-                this.name, this.email, this.markIfPresent());
+    public void appendTo(StringBuilder output) {
+        output.append("Name: ").append(getName()).append(" / Email: ").append(getEmail())
+                .append(" [").append(this.markIfPresent()).append(']');
     }
 }
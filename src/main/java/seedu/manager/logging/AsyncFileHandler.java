@@ -0,0 +1,163 @@
+package seedu.manager.logging;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+//@@author jemehgoh
+/**
+ * Represents a log handler that appends log records to a file from a background thread.
+ *
+ * <p>
+ * The file is opened once, when the handler is constructed. Publishing a record only places it in a
+ * bounded queue, so logging never waits for the disk. The background thread writes queued records
+ * in batches, and flushes the file after each batch.
+ * </p>
+ */
+public class AsyncFileHandler extends Handler {
+    private static final int QUEUE_CAPACITY = 8192;
+    private static final int BATCH_SIZE = 256;
+    private static final long POLL_INTERVAL_MILLIS = 200;
+    private static final String RECORD_FORMAT = "%1$tF %1$tT %2$s %3$s: %4$s%n";
+
+    private final BlockingQueue<LogRecord> queue;
+    private final Writer writer;
+    private final Thread writerThread;
+    private volatile boolean isOpen;
+    private final AtomicLong droppedCount;
+
+    /**
+     * Constructs a new AsyncFileHandler that appends to the file at a given path.
+     *
+     * @param filePath the path of the log file.
+     * @throws IOException if the log file cannot be opened.
+     */
+    public AsyncFileHandler(String filePath) throws IOException {
+        this.queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        this.writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(filePath, true),
+                StandardCharsets.UTF_8));
+        this.droppedCount = new AtomicLong();
+        this.isOpen = true;
+        setFormatter(new RecordFormatter());
+        this.writerThread = new Thread(this::writeRecords, "log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Queues a log record to be written to the log file.
+     * If the queue is full, the record is dropped rather than waiting for the background thread.
+     *
+     * @param record the log record to be written.
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (!isOpen || !isLoggable(record)) {
+            return;
+        }
+
+        if (!queue.offer(record)) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Does nothing, as queued records are flushed by the background thread after each batch.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Writes all queued records to the log file, then stops the background thread and closes the file.
+     */
+    @Override
+    public void close() {
+        if (!isOpen) {
+            return;
+        }
+
+        isOpen = false;
+        writerThread.interrupt();
+        try {
+            writerThread.join();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            writeBatch(new ArrayList<>(queue));
+            queue.clear();
+            writer.close();
+        } catch (IOException exception) {
+            reportError("Log file cannot be closed", exception, ErrorManager.CLOSE_FAILURE);
+        }
+    }
+
+    /**
+     * Writes queued records to the log file in batches until the handler is closed.
+     */
+    private void writeRecords() {
+        ArrayList<LogRecord> batch = new ArrayList<>(BATCH_SIZE);
+        while (isOpen) {
+            try {
+                LogRecord record = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (record == null) {
+                    continue;
+                }
+
+                batch.add(record);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                writeBatch(batch);
+                batch.clear();
+            } catch (InterruptedException exception) {
+                break;
+            } catch (IOException exception) {
+                reportError("Log file cannot be written to", exception, ErrorManager.WRITE_FAILURE);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Writes a batch of records to the log file and flushes it.
+     *
+     * @param batch the records to be written.
+     * @throws IOException if the log file cannot be written to.
+     */
+    private void writeBatch(ArrayList<LogRecord> batch) throws IOException {
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            writer.write(String.format("%d log records dropped%n", dropped));
+        }
+
+        for (LogRecord record : batch) {
+            writer.write(getFormatter().format(record));
+        }
+        writer.flush();
+    }
+
+    /**
+     * Formats a log record as a single line with its time, level, logger name and message.
+     */
+    private static class RecordFormatter extends Formatter {
+        @Override
+        public String format(LogRecord record) {
+            return String.format(RECORD_FORMAT, new Date(record.getMillis()), record.getLevel(),
+                    record.getLoggerName(), formatMessage(record));
+        }
+    }
+}
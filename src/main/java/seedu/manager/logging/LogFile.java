@@ -0,0 +1,118 @@
+package seedu.manager.logging;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+//@@author jemehgoh
+/**
+ * Represents the log file shared by all loggers in the program.
+ *
+ * <p>
+ * Each logger is attached once, when it is created, to a shared handler that forwards its records to a single
+ * {@link AsyncFileHandler}. The log file is opened the first time a record is logged, so attaching a logger does
+ * not open it, and logging a record only takes a lock if the log file is not open yet. Closing the log file
+ * writes all pending records, and the log file is opened again if another record is logged.
+ * </p>
+ */
+public class LogFile {
+    private static final String LOG_FILE_PATH = "logs.txt";
+
+    private static final Set<Logger> attachedLoggers = ConcurrentHashMap.newKeySet();
+    private static final Handler forwardingHandler = new ForwardingHandler();
+    private static volatile AsyncFileHandler handler;
+    private static boolean isShutdownHookAdded = false;
+
+    /**
+     * Attaches a logger to the log file. Attaching a logger that is already attached has no effect.
+     *
+     * @param logger the logger to be attached.
+     */
+    public static void attach(Logger logger) {
+        if (attachedLoggers.add(logger)) {
+            logger.addHandler(forwardingHandler);
+        }
+    }
+
+    /**
+     * Closes the log file after writing all pending log records.
+     */
+    public static synchronized void close() {
+        if (handler == null) {
+            return;
+        }
+
+        handler.close();
+        handler = null;
+    }
+
+    /**
+     * Returns the handler of the open log file, opening the log file if it is not already open.
+     *
+     * @return the handler of the log file.
+     * @throws IOException if the log file cannot be opened.
+     */
+    private static AsyncFileHandler getOpenHandler() throws IOException {
+        AsyncFileHandler openHandler = handler;
+        if (openHandler != null) {
+            return openHandler;
+        }
+
+        synchronized (LogFile.class) {
+            if (handler == null) {
+                handler = new AsyncFileHandler(LOG_FILE_PATH);
+                addShutdownHook();
+            }
+            return handler;
+        }
+    }
+
+    /**
+     * Adds a JVM shutdown hook that closes the log file, so that pending log records are written on exit.
+     */
+    private static void addShutdownHook() {
+        if (isShutdownHookAdded) {
+            return;
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(LogFile::close, "log-shutdown"));
+        isShutdownHookAdded = true;
+    }
+
+    /**
+     * Represents the handler shared by all attached loggers, which forwards their records to the log file.
+     */
+    private static class ForwardingHandler extends Handler {
+        /**
+         * Queues a log record to be written to the log file, opening the log file if it is not already open.
+         *
+         * @param record the log record to be written.
+         */
+        @Override
+        public void publish(LogRecord record) {
+            try {
+                getOpenHandler().publish(record);
+            } catch (IOException exception) {
+                reportError("Log file cannot be opened", exception, ErrorManager.OPEN_FAILURE);
+            }
+        }
+
+        /**
+         * Does nothing, as queued records are flushed by the log file's background thread.
+         */
+        @Override
+        public void flush() {
+        }
+
+        /**
+         * Does nothing, as the log file is closed by {@link LogFile#close()}.
+         */
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package seedu.manager.parser;
+
+import seedu.manager.exception.InvalidCommandException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//@@author jemehgoh
+/**
+ * Represents a user input split into the values of its flags.
+ * <p>
+ * The input is split in a single pass. A flag is a whitespace-separated token that is one of the recognised
+ * flag names; every other token is part of the value of the flag before it. Text between the command word
+ * and the first flag is kept as the preamble.
+ * </p>
+ */
+public class CommandArguments {
+    private static final String DUPLICATE_FLAG_MESSAGE = """
+            Duplicate flags found!
+            Please only use each flag once!
+            """;
+
+    private final String preamble;
+    private final List<String> flags;
+    private final List<String> values;
+
+    /**
+     * Constructs a CommandArguments with a given preamble, flags and flag values.
+     *
+     * @param preamble the text between the command word and the first flag.
+     * @param flags the flags, in the order they appear in the input.
+     * @param values the values of the flags, in the same order as flags.
+     */
+    private CommandArguments(String preamble, List<String> flags, List<String> values) {
+        assert flags.size() == values.size();
+        this.preamble = preamble;
+        this.flags = flags;
+        this.values = values;
+    }
+
+    /**
+     * Splits a given user input into the values of its flags.
+     *
+     * @param input the given user input, starting with the command word.
+     * @param flagNames the flag names recognised for the command.
+     * @return the CommandArguments of input.
+     * @throws InvalidCommandException if a flag appears more than once in input.
+     */
+    public static CommandArguments tokenize(String input, List<String> flagNames) throws InvalidCommandException {
+        List<String> flags = new ArrayList<>(flagNames.size());
+        List<String> values = new ArrayList<>(flagNames.size());
+        String preamble = null;
+
+        int index = skipToken(input, skipWhitespace(input, 0));
+        int valueStart = index;
+        while (index < input.length()) {
+            int tokenStart = skipWhitespace(input, index);
+            int tokenEnd = skipToken(input, tokenStart);
+            String flag = getFlag(input, tokenStart, tokenEnd, flagNames);
+
+            if (flag != null) {
+                String value = input.substring(valueStart, tokenStart).trim();
+                if (preamble == null) {
+                    preamble = value;
+                } else {
+                    values.add(value);
+                }
+
+                if (flags.contains(flag)) {
+                    throw new InvalidCommandException(DUPLICATE_FLAG_MESSAGE);
+                }
+                flags.add(flag);
+                valueStart = tokenEnd;
+            }
+            index = tokenEnd;
+        }
+
+        String lastValue = input.substring(valueStart).trim();
+        if (preamble == null) {
+            preamble = lastValue;
+        } else {
+            values.add(lastValue);
+        }
+        return new CommandArguments(preamble, flags, values);
+    }
+
+    /**
+     * Returns the text between the command word and the first flag.
+     *
+     * @return the text between the command word and the first flag.
+     */
+    public String getPreamble() {
+        return preamble;
+    }
+
+    /**
+     * Returns the flags of the input, in the order they appear in the input.
+     *
+     * @return the flags of the input.
+     */
+    public List<String> getFlags() {
+        return flags;
+    }
+
+    /**
+     * Returns the value of a given flag.
+     *
+     * @param flag the given flag.
+     * @return the value of flag.
+     * @throws IndexOutOfBoundsException if flag is not present in the input.
+     */
+    public String getValue(String flag) throws IndexOutOfBoundsException {
+        return values.get(flags.indexOf(flag));
+    }
+
+    /**
+     * Returns true if the input has exactly the expected flags, in the expected order, with no preamble.
+     * Returns false otherwise.
+     *
+     * @param expectedFlags the expected flags.
+     * @return {@code true} if the input has exactly expectedFlags in order, {@code false} otherwise.
+     */
+    public boolean hasFlags(List<String> expectedFlags) {
+        return preamble.isEmpty() && flags.equals(expectedFlags);
+    }
+
+    /**
+     * Returns true if any flag in the input has a blank value, returns false otherwise.
+     *
+     * @return {@code true} if any flag has a blank value, {@code false} otherwise.
+     */
+    public boolean hasBlankValue() {
+        for (String value : values) {
+            if (value.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the flag name that matches the token between two given indices of the input.
+     *
+     * @param input the given user input.
+     * @param tokenStart the index of the first character of the token.
+     * @param tokenEnd the index after the last character of the token.
+     * @param flagNames the recognised flag names.
+     * @return the matching flag name, or null if the token is not a flag.
+     */
+    private static String getFlag(String input, int tokenStart, int tokenEnd, List<String> flagNames) {
+        int tokenLength = tokenEnd - tokenStart;
+        for (String flagName : flagNames) {
+            if (flagName.length() == tokenLength && input.startsWith(flagName, tokenStart)) {
+                return flagName;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the index of the first non-whitespace character of the input at or after a given index.
+     *
+     * @param input the given user input.
+     * @param index the given index.
+     * @return the index of the first non-whitespace character at or after index.
+     */
+    private static int skipWhitespace(String input, int index) {
+        while (index < input.length() && Character.isWhitespace(input.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the index of the first whitespace character of the input at or after a given index.
+     *
+     * @param input the given user input.
+     * @param index the given index.
+     * @return the index of the first whitespace character at or after index.
+     */
+    private static int skipToken(String input, int index) {
+        while (index < input.length() && !Character.isWhitespace(input.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.manager.parser;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+//@@author jemehgoh
+/**
+ * Represents a Flight Recorder event for the parsing of one user command by {@link Parser#parseCommand(String)}.
+ */
+@Name("seedu.manager.CommandParse")
+@Label("Command Parse")
+@Category({"EventManagerCLI", "Commands"})
+@Description("The parsing of a user command")
+@StackTrace(false)
+class CommandParseEvent extends Event {
+    @Label("Command Word")
+    @Description("The first word of the command, in lower case")
+    String commandWord;
+
+    @Label("Input Length")
+    @Description("The number of characters in the command")
+    int inputLength;
+
+    @Label("Valid")
+    @Description("Whether the command was parsed successfully")
+    boolean isValid;
+}
@@ -0,0 +1,171 @@
+package seedu.manager.parser;
+
+import java.text.ParseException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+//@@author jemehgoh
+/**
+ * Represents the strict parsing and formatting of the dates and times entered by the user and saved to file.
+ * <p>
+ * Dates are in {@code yyyy-MM-dd} format, times in {@code HH:mm} format, and date-times in
+ * {@code yyyy-MM-dd HH:mm} format. Every field has a fixed width, so the text is read digit by digit, without
+ * creating a formatter, a {@link java.util.Date} or a time zone for each call. The year must be at least 1.
+ * </p>
+ */
+public final class DateTimeParser {
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final int DATE_LENGTH = 10;
+    private static final int TIME_LENGTH = 5;
+    private static final int DATE_TIME_LENGTH = DATE_LENGTH + 1 + TIME_LENGTH;
+    private static final int MIN_YEAR = 1;
+
+    /**
+     * Prevents DateTimeParser from being constructed, as it only has static methods.
+     */
+    private DateTimeParser() {
+    }
+
+    /**
+     * Parses a date-time in {@code yyyy-MM-dd HH:mm} format.
+     *
+     * @param text the text to be parsed.
+     * @return the parsed date-time.
+     * @throws ParseException if text is not in the correct format, or is not a valid date-time.
+     */
+    public static LocalDateTime parseDateTime(String text) throws ParseException {
+        checkLength(text, DATE_TIME_LENGTH);
+        checkSeparator(text, DATE_LENGTH, ' ');
+        return LocalDateTime.of(readDate(text, 0), readTime(text, DATE_LENGTH + 1));
+    }
+
+    /**
+     * Parses a date in {@code yyyy-MM-dd} format.
+     *
+     * @param text the text to be parsed.
+     * @return the parsed date.
+     * @throws ParseException if text is not in the correct format, or is not a valid date.
+     */
+    public static LocalDate parseDate(String text) throws ParseException {
+        checkLength(text, DATE_LENGTH);
+        return readDate(text, 0);
+    }
+
+    /**
+     * Parses a time in {@code HH:mm} format.
+     *
+     * @param text the text to be parsed.
+     * @return the parsed time.
+     * @throws ParseException if text is not in the correct format, or is not a valid time.
+     */
+    public static LocalTime parseTime(String text) throws ParseException {
+        checkLength(text, TIME_LENGTH);
+        return readTime(text, 0);
+    }
+
+    /**
+     * Formats a date-time in {@code yyyy-MM-dd HH:mm} format.
+     *
+     * @param dateTime the date-time to be formatted.
+     * @return the formatted date-time.
+     */
+    public static String formatDateTime(LocalDateTime dateTime) {
+        return DATE_TIME_FORMATTER.format(dateTime);
+    }
+
+    /**
+     * Reads a date in {@code yyyy-MM-dd} format, starting at a given index of a text.
+     *
+     * @param text the text containing the date.
+     * @param start the index of the first character of the date.
+     * @return the date read.
+     * @throws ParseException if the date is not in the correct format, or is not a valid date.
+     */
+    private static LocalDate readDate(String text, int start) throws ParseException {
+        int year = readNumber(text, start, 4);
+        checkSeparator(text, start + 4, '-');
+        int month = readNumber(text, start + 5, 2);
+        checkSeparator(text, start + 7, '-');
+        int day = readNumber(text, start + 8, 2);
+
+        if (year < MIN_YEAR) {
+            throw new ParseException("Invalid year: " + text, start);
+        }
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException exception) {
+            throw new ParseException("Invalid date: " + text, start);
+        }
+    }
+
+    /**
+     * Reads a time in {@code HH:mm} format, starting at a given index of a text.
+     *
+     * @param text the text containing the time.
+     * @param start the index of the first character of the time.
+     * @return the time read.
+     * @throws ParseException if the time is not in the correct format, or is not a valid time.
+     */
+    private static LocalTime readTime(String text, int start) throws ParseException {
+        int hour = readNumber(text, start, 2);
+        checkSeparator(text, start + 2, ':');
+        int minute = readNumber(text, start + 3, 2);
+
+        try {
+            return LocalTime.of(hour, minute);
+        } catch (DateTimeException exception) {
+            throw new ParseException("Invalid time: " + text, start);
+        }
+    }
+
+    /**
+     * Reads a number with a fixed number of digits, starting at a given index of a text.
+     *
+     * @param text the text containing the number.
+     * @param start the index of the first digit.
+     * @param digitCount the number of digits.
+     * @return the number read.
+     * @throws ParseException if any of the characters read is not a digit.
+     */
+    private static int readNumber(String text, int start, int digitCount) throws ParseException {
+        int number = 0;
+        for (int i = start; i < start + digitCount; i++) {
+            char digit = text.charAt(i);
+            if (digit < '0' || digit > '9') {
+                throw new ParseException("Digit expected: " + text, i);
+            }
+            number = number * 10 + (digit - '0');
+        }
+        return number;
+    }
+
+    /**
+     * Checks that a text has a given length.
+     *
+     * @param text the text to check.
+     * @param length the expected length.
+     * @throws ParseException if text does not have the expected length.
+     */
+    private static void checkLength(String text, int length) throws ParseException {
+        if (text.length() != length) {
+            throw new ParseException("Unexpected length: " + text, Math.min(text.length(), length));
+        }
+    }
+
+    /**
+     * Checks that a text has a given separator at a given index.
+     *
+     * @param text the text to check.
+     * @param index the index of the separator.
+     * @param separator the expected separator.
+     * @throws ParseException if text does not have the expected separator at index.
+     */
+    private static void checkSeparator(String text, int index, char separator) throws ParseException {
+        if (text.charAt(index) != separator) {
+            throw new ParseException("'" + separator + "' expected: " + text, index);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import seedu.manager.command.CopyCommand;
 import seedu.manager.command.ExitCommand;
 import seedu.manager.command.FilterCommand;
 import seedu.manager.command.ListCommand;
+import seedu.manager.command.ListingCommand;
 import seedu.manager.command.MarkCommand;
 import seedu.manager.command.MarkEventCommand;
 import seedu.manager.command.MarkItemCommand;
@@ -16,27 +17,27 @@ import seedu.manager.command.EditParticipantCommand;
 import seedu.manager.command.EditEventCommand;
 import seedu.manager.command.EditItemCommand;
 import seedu.manager.command.SortCommand;
+import seedu.manager.command.StatsCommand;
 import seedu.manager.command.ViewCommand;
 import seedu.manager.command.FindCommand;
 import seedu.manager.enumeration.Priority;
 import seedu.manager.exception.InvalidCommandException;
+import seedu.manager.logging.LogFile;
 
-import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.time.ZoneId;
-import java.util.Date;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.logging.FileHandler;
+import java.util.List;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * Represents the command parser for EventManagerCLI
+ * <p>
+ * A Parser holds no state between commands, so a single instance can be reused to parse every command.
+ * </p>
  */
 public class Parser {
     private static final String INVALID_COMMAND_MESSAGE = "Invalid command!";
@@ -144,9 +145,15 @@ public class Parser {
             Invalid sort keyword!
             Please set the sort keyword as either "name"/"time"/"priority"
             """;
-    private static final String DUPLICATE_FLAG_MESSAGE = """
-            Duplicate flags found!
-            Please only use each flag once!
+    private static final String INVALID_PAGE_MESSAGE = """
+            Invalid page!
+            Please use -page PAGE -size SIZE, where PAGE and SIZE are positive whole numbers.
+            """;
+    private static final String INVALID_STATS_MESSAGE = """
+            Invalid command!
+            Please enter your commands in the following format:
+            stats
+            stats -o FILE
             """;
     private static final String EMPTY_INPUT_MESSAGE = """
             Invalid input!
@@ -157,92 +164,113 @@ public class Parser {
     private static final String EVENT_FLAG = "-e";
     private static final String PARTICIPANT_FLAG = "-p";
     private static final String ITEM_FLAG = "-m";
+    private static final String TIME_FLAG = "-t";
+    private static final String VENUE_FLAG = "-v";
+    private static final String PRIORITY_FLAG = "-u";
+    private static final String EMAIL_FLAG = "-email";
+    private static final String NAME_FLAG = "-name";
+    private static final String TYPE_FLAG = "-y";
+    private static final String STATUS_FLAG = "-s";
+    private static final String SORT_FLAG = "-by";
+    private static final String DATE_FLAG = "-d";
+    private static final String DATE_TIME_FLAG = "-x";
+    private static final String PAGE_FLAG = "-page";
+    private static final String PAGE_SIZE_FLAG = "-size";
+    private static final String OUTPUT_FLAG = "-o";
 
     private static final String SPACE = " ";
+    private static final int COMMAND_PARTS_LIMIT = 3;
+    private static final int FIRST_PAGE = 1;
+    private static final int DEFAULT_PAGE_SIZE = 20;
     private static final String ARROW = ">";
 
-    private static final String EVENT_FLAG_REGEX = "(?<!\\S)(-e|-t|-v|-u)(?!\\S)";
-    private static final String PARTICIPANT_FLAG_REGEX = "(?<!\\S)(-p|-email|-e)(?!\\S)";
-    private static final String ITEM_FLAG_REGEX = "(?<!\\S)(-m|-e)(?!\\S)";
-    private static final String REMOVE_EVENT_FLAG_REGEX = "(?<!\\S)(-e)(?!\\S)";
-    private static final String REMOVE_PARTICIPANT_FLAG_REGEX = "(?<!\\S)(-p|-e)(?!\\S)";
-    private static final String EDIT_EVENT_ATTRIBUTE_FLAG_REGEX = "(?<!\\S)(-e|-name|-t|-v|-u)(?!\\S)";
-    private static final String VIEW_FLAG_REGEX = "(?<!\\S)(-e|-y)(?!\\S)";
-    private static final String MARK_EVENT_FLAG_REGEX = "(?<!\\S)(-e|-s)(?!\\S)";
-    private static final String MARK_PARTICIPANT_FLAG_REGEX = "(?<!\\S)(-p|-e|-s)(?!\\S)";
-    private static final String MARK_ITEM_FLAG_REGEX = "(?<!\\S)(-m|-e|-s)(?!\\S)";
-    private static final String COPY_FLAG_REGEX = "(?<!\\S)(>)(?!\\S)";
-    private static final String SORT_FLAG_REGEX = "(?<!\\S)(-by)(?!\\S)";
-    private static final String FILTER_FLAG_REGEX = "(?<!\\S)(-e|-d|-t|-x|-u)(?!\\S)";
-    private static final String FIND_FLAG_REGEX = "(?<!\\S)(-e|-p)(?!\\S)";
-
-    private static final String ADD_EVENT_REGEX = "add\\s+-e\\s+(.*?)\\s+-t\\s+(.*?)\\s+-v\\s+(.*?)\\s+-u\\s+(.*)";
-    private static final String ADD_PARTICIPANT_REGEX = "add\\s+-p\\s+(.*?)\\s+" +
-            "-email\\s+(.*?)\\s+-e\\s+(.*)";
-    private static final String ADD_ITEM_REGEX = "add\\s+-m\\s+(.*?)\\s+-e\\s+(.*)";
-    private static final String REMOVE_EVENT_REGEX = "remove\\s+-e\\s+(.*)";
-    private static final String REMOVE_PARTICIPANT_REGEX = "remove\\s+-p\\s+(.*?)\\s+-e\\s+(.*)";
-    private static final String REMOVE_ITEM_REGEX = "remove\\s+-m\\s+(.*?)\\s+-e\\s+(.*)";
-    private static final String EDIT_EVENT_ATTRIBUTE_REGEX = "edit\\s+-e\\s+(.*?)\\s+" +
-            "-name\\s+(.*?)\\s+-t\\s+(.*?)\\s+-v\\s+(.*?)\\s+-u\\s+(.*)";
-    private static final String EDIT_PARTICIPANT_REGEX = "edit\\s+-p\\s+(.*?)\\s+-name\\s+(.*?)" +
-            "-email\\s+(.*?)\\s+-e\\s+(.*)";
-    private static final String EDIT_ITEM_REGEX = "edit\\s+-m\\s+(.*?)\\s+-e\\s+(.*)";
-    private static final String VIEW_REGEX = "view\\s+-e\\s+(.*?)\\s+-y\\s+(.*)";
-    private static final String MARK_EVENT_REGEX = "mark\\s+-e\\s+(.*?)\\s+-s\\s+(.*)";
-    private static final String MARK_PARTICIPANT_REGEX = "mark\\s+-p\\s+(.*?)\\s+-e\\s+(.*?)\\s+-s\\s+(.*)";
-    private static final String MARK_ITEM_REGEX = "mark\\s+-m\\s+(.*?)\\s+-e\\s+(.*?)\\s+-s\\s+(.*)";
-    private static final String COPY_REGEX = "copy\\s+(.*?)\\s\\>\\s+(.*)";
-    private static final String SORT_REGEX = "sort\\s+-by\\s+(.*)";
-    private static final String FILTER_REGEX = "filter\\s+(-[e|d|t|x|u])\\s(.*)";
-    private static final String FIND_REGEX = "find\\s+-e\\s+(.*?)\\s+-p\\s+(.*)";
+    private static final List<String> ADD_EVENT_FLAGS = List.of(EVENT_FLAG, TIME_FLAG, VENUE_FLAG, PRIORITY_FLAG);
+    private static final List<String> ADD_PARTICIPANT_FLAGS = List.of(PARTICIPANT_FLAG, EMAIL_FLAG, EVENT_FLAG);
+    private static final List<String> ITEM_FLAGS = List.of(ITEM_FLAG, EVENT_FLAG);
+    private static final List<String> REMOVE_EVENT_FLAGS = List.of(EVENT_FLAG);
+    private static final List<String> REMOVE_PARTICIPANT_FLAGS = List.of(PARTICIPANT_FLAG, EVENT_FLAG);
+    private static final List<String> EDIT_EVENT_FLAGS = List.of(EVENT_FLAG, NAME_FLAG, TIME_FLAG, VENUE_FLAG,
+            PRIORITY_FLAG);
+    private static final List<String> EDIT_PARTICIPANT_FLAGS = List.of(PARTICIPANT_FLAG, NAME_FLAG, EMAIL_FLAG,
+            EVENT_FLAG);
+    private static final List<String> VIEW_FLAGS = List.of(EVENT_FLAG, TYPE_FLAG);
+    private static final List<String> MARK_EVENT_FLAGS = List.of(EVENT_FLAG, STATUS_FLAG);
+    private static final List<String> MARK_PARTICIPANT_FLAGS = List.of(PARTICIPANT_FLAG, EVENT_FLAG, STATUS_FLAG);
+    private static final List<String> MARK_ITEM_FLAGS = List.of(ITEM_FLAG, EVENT_FLAG, STATUS_FLAG);
+    private static final List<String> COPY_FLAGS = List.of(ARROW);
+    private static final List<String> SORT_FLAGS = List.of(SORT_FLAG);
+    private static final List<String> FILTER_FLAGS = List.of(EVENT_FLAG, DATE_FLAG, TIME_FLAG, DATE_TIME_FLAG,
+            PRIORITY_FLAG);
+    private static final List<String> FIND_FLAGS = List.of(EVENT_FLAG, PARTICIPANT_FLAG);
+    private static final List<String> PAGE_FLAGS = List.of(PAGE_FLAG, PAGE_SIZE_FLAG);
+    private static final List<String> STATS_FLAGS = List.of(OUTPUT_FLAG);
     private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9-]+(\\.[A-Za-z0-9-]+)+$");
 
-    private final Logger logger;
+    private static final Logger logger = Logger.getLogger(Parser.class.getName());
 
-    /**
-     * Constructs a new Parser.
-     */
-    public Parser() {
-        logger = Logger.getLogger(Parser.class.getName());
+    static {
         logger.setUseParentHandlers(false);
+        LogFile.attach(logger);
     }
 
+    //@@author jemehgoh
     /**
      * Returns a command based on the given user command string.
      *
      * @param command The given command string from the user.
      * @throws InvalidCommandException if the given command string cannot be parsed to a valid command.
-     * @throws IOException if the log file cannot be written to.
      */
-    public Command parseCommand(String command) throws InvalidCommandException, IOException {
-        String[] commandParts = command.trim().split(SPACE);
+    public Command parseCommand(String command) throws InvalidCommandException {
+        CommandParseEvent parseEvent = new CommandParseEvent();
+        parseEvent.begin();
+        Command parsedCommand = null;
+        try {
+            parsedCommand = parseCommandText(command);
+            return parsedCommand;
+        } finally {
+            parseEvent.end();
+            if (parseEvent.shouldCommit()) {
+                parseEvent.commandWord = command.trim().split(SPACE, COMMAND_PARTS_LIMIT)[0].toLowerCase();
+                parseEvent.inputLength = command.length();
+                parseEvent.isValid = parsedCommand != null;
+                parseEvent.commit();
+            }
+        }
+    }
+
+    /**
+     * Returns a command based on the given user command string, without recording a {@link CommandParseEvent}.
+     *
+     * @param command The given command string from the user.
+     * @throws InvalidCommandException if the given command string cannot be parsed to a valid command.
+     */
+    private Command parseCommandText(String command) throws InvalidCommandException {
         command = command.trim();
+        String[] commandParts = command.split(SPACE, COMMAND_PARTS_LIMIT);
         String commandWord = commandParts[0].toLowerCase();
         try {
             switch (commandWord) {
             case MenuCommand.COMMAND_WORD:
                 return new MenuCommand();
             case ListCommand.COMMAND_WORD:
-                return new ListCommand();
+            case ViewCommand.COMMAND_WORD:
+            case SortCommand.COMMAND_WORD:
+            case FilterCommand.COMMAND_WORD:
+                return parseListingCommand(command, commandWord);
             case AddCommand.COMMAND_WORD:
                 return parseAddCommand(command, commandParts);
             case RemoveCommand.COMMAND_WORD:
                 return parseRemoveCommand(command, commandParts);
             case EditParticipantCommand.COMMAND_WORD:
                 return parseEditCommand(command, commandParts);
-            case ViewCommand.COMMAND_WORD:
-                return parseViewCommand(command, commandParts);
             case MarkCommand.COMMAND_WORD:
                 return parseMarkCommand(command, commandParts);
             case CopyCommand.COMMAND_WORD:
                 return parseCopyCommand(command, commandParts);
-            case SortCommand.COMMAND_WORD:
-                return parseSortCommand(command, commandParts);
-            case FilterCommand.COMMAND_WORD:
-                return parseFilterCommand(command, commandParts);
             case FindCommand.COMMAND_WORD:
                 return parseFindCommand(command, commandParts);
+            case StatsCommand.COMMAND_WORD:
+                return parseStatsCommand(command);
             case ExitCommand.COMMAND_WORD:
                 return new ExitCommand();
             default:
@@ -258,8 +286,6 @@ public class Parser {
         } catch (IllegalArgumentException exception) {
             logWarning("Invalid priority level status");
             throw new InvalidCommandException(INVALID_PRIORITY_MESSAGE);
-        } catch (IOException exception) {
-            throw new IOException("Log file cannot be written to");
         }
     }
 
@@ -284,10 +310,9 @@ public class Parser {
      * @throws IndexOutOfBoundsException if not all parameters are present.
      * @throws DateTimeParseException    if the time parameter is not entered in the correct format.
      * @throws IllegalArgumentException  if the priority parameter is not valid.
-     * @throws IOException if the log file cannot be written to.
      */
     public Command parseAddCommand(String input, String[] commandParts) throws InvalidCommandException,
-            IndexOutOfBoundsException, ParseException, IllegalArgumentException, IOException {
+            IndexOutOfBoundsException, ParseException, IllegalArgumentException {
         assert commandParts[0].equalsIgnoreCase(AddCommand.COMMAND_WORD);
         String commandFlag = commandParts[1];
 
@@ -312,32 +337,18 @@ public class Parser {
      * @throws IndexOutOfBoundsException if not all fields are present.
      * @throws ParseException    if the time parameter is not entered in the correct format.
      * @throws IllegalArgumentException  if the priority parameter is not valid.
-     * @throws IOException if the log file cannot be written to.
      */
     private Command getAddEventCommand(String input) throws IndexOutOfBoundsException, ParseException,
-            IllegalArgumentException, IOException {
-        checkForDuplicateFlags(input, EVENT_FLAG_REGEX);
-        Matcher matcher = getMatcher(input, ADD_EVENT_REGEX);
-
-        if (!matcher.matches()) {
-            throw new InvalidCommandException(INVALID_ADD_MESSAGE);
-        }
-
-        if (matcher.group(1).isBlank() || matcher.group(2).isBlank()
-                || matcher.group(3).isBlank() || matcher.group(4).isBlank()) {
-            throw new InvalidCommandException(EMPTY_INPUT_MESSAGE);
-        }
+            IllegalArgumentException {
+        CommandArguments arguments = getArguments(input, ADD_EVENT_FLAGS, INVALID_ADD_MESSAGE);
 
-        logInfo("Creating AddCommand for event with details: " +
-                matcher.group(1).trim() + ", " + matcher.group(2).trim() + ", " + matcher.group(3).trim());
+        logInfo("Creating AddCommand for event with details: " + arguments.getValue(EVENT_FLAG) + ", "
+                + arguments.getValue(TIME_FLAG) + ", " + arguments.getValue(VENUE_FLAG));
 
-        String eventName = matcher.group(1).trim();
-        SimpleDateFormat dateTimeFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm");
-        dateTimeFormat.setLenient(false);
-        Date parsedDateTime = dateTimeFormat.parse(matcher.group(2).trim());
-        LocalDateTime eventTime = LocalDateTime.ofInstant(parsedDateTime.toInstant(), ZoneId.systemDefault());
-        String venue = matcher.group(3).trim();
-        Priority eventPriority = Priority.valueOf(matcher.group(4).trim().toUpperCase());
+        String eventName = arguments.getValue(EVENT_FLAG);
+        LocalDateTime eventTime = DateTimeParser.parseDateTime(arguments.getValue(TIME_FLAG));
+        String venue = arguments.getValue(VENUE_FLAG);
+        Priority eventPriority = Priority.valueOf(arguments.getValue(PRIORITY_FLAG).toUpperCase());
 
         if (eventTime.isBefore(LocalDateTime.now())) {
             throw new InvalidCommandException(PAST_DATE_MESSAGE);
@@ -354,27 +365,15 @@ public class Parser {
      * @return an {@link AddCommand} that adds a participant with fields parsed from input.
      * @throws IndexOutOfBoundsException if not all fields are present.
      * @throws InvalidCommandException   if the input phone number and email are not in the correct format.
-     * @throws IOException if the log file cannot be written to.
      */
-    private Command getAddParticipantCommand(String input) throws IndexOutOfBoundsException, InvalidCommandException,
-            IOException {
-        checkForDuplicateFlags(input, PARTICIPANT_FLAG_REGEX);
-        Matcher matcher = getMatcher(input, ADD_PARTICIPANT_REGEX);
-
-        if (!matcher.matches()) {
-            throw new InvalidCommandException(INVALID_ADD_MESSAGE);
-        }
-
-        if (matcher.group(1).isBlank() || matcher.group(2).isBlank()
-                || matcher.group(3).isBlank()) {
-            throw new InvalidCommandException(EMPTY_INPUT_MESSAGE);
-        }
+    private Command getAddParticipantCommand(String input) throws IndexOutOfBoundsException, InvalidCommandException {
+        CommandArguments arguments = getArguments(input, ADD_PARTICIPANT_FLAGS, INVALID_ADD_MESSAGE);
 
         logInfo("Creating AddCommand for participant with details: " +
-                matcher.group(1).trim() + ", " + matcher.group(2).trim());
-        String participantName = matcher.group(1).trim();
-        String participantEmail = matcher.group(2).trim();
-        String eventName = matcher.group(3).trim();
+                arguments.getValue(PARTICIPANT_FLAG) + ", " + arguments.getValue(EMAIL_FLAG));
+        String participantName = arguments.getValue(PARTICIPANT_FLAG);
+        String participantEmail = arguments.getValue(EMAIL_FLAG);
+        String eventName = arguments.getValue(EVENT_FLAG);
 
         if (!isValidEmail(participantEmail)) {
             logWarning("Invalid email format");
@@ -391,22 +390,12 @@ public class Parser {
      * @param input the given user input.
      * @return an {@link AddCommand} that adds an item with fields parsed from input.
      * @throws IndexOutOfBoundsException if not all fields are present.
-     * @throws IOException if the log file cannot be written to.
      */
-    private Command getAddItemCommand(String input) throws IndexOutOfBoundsException, IOException {
-        checkForDuplicateFlags(input, ITEM_FLAG_REGEX);
-        Matcher matcher = getMatcher(input, ADD_ITEM_REGEX);
-
-        if (!matcher.matches()) {
-            throw new InvalidCommandException(INVALID_ADD_MESSAGE);
-        }
+    private Command getAddItemCommand(String input) throws IndexOutOfBoundsException {
+        CommandArguments arguments = getArguments(input, ITEM_FLAGS, INVALID_ADD_MESSAGE);
 
-        if (matcher.group(1).isBlank() || matcher.group(2).isBlank()) {
-            throw new InvalidCommandException(EMPTY_INPUT_MESSAGE);
-        }
-
-        String itemName = matcher.group(1).trim();
-        String eventName = matcher.group(2).trim();
+        String itemName = arguments.getValue(ITEM_FLAG);
+        String eventName = arguments.getValue(EVENT_FLAG);
         logInfo(String.format("Creating AddCommand for item with details: %s, %s", itemName,
                 eventName));
 
@@ -431,10 +420,9 @@ public class Parser {
      * @return a {@link Command} object representing the parsed command.
      * @throws InvalidCommandException   if the flags are not matched in the command parts.
      * @throws IndexOutOfBoundsException if not all fields are present.
-     * @throws IOException if the log file cannot be written to.
      */
     private Command parseRemoveCommand(String input, String[] commandParts) throws InvalidCommandException,
-            IndexOutOfBoundsException, IOException {
+            IndexOutOfBoundsException {
         assert commandParts[0].equalsIgnoreCase(RemoveCommand.COMMAND_WORD);
         String commandFlag = commandParts[1];
 
@@ -460,18 +448,9 @@ public class Parser {
      * @throws IndexOutOfBoundsException if not all fields are present in input.
      */
     private RemoveCommand getRemoveEventCommand(String input) throws IndexOutOfBoundsException {
-        checkForDuplicateFlags(input, REMOVE_EVENT_FLAG_REGEX);
-        Matcher matcher = getMatcher(input, REMOVE_EVENT_REGEX);
-
-        if (!matcher.matches()) {
-            throw new InvalidCommandException(INVALID_REMOVE_MESSAGE);
-        }
+        CommandArguments arguments = getArguments(input, REMOVE_EVENT_FLAGS, INVALID_REMOVE_MESSAGE);
 
-        if (matcher.group(1).isBlank()) {
-            throw new InvalidCommandException(EMPTY_INPUT_MESSAGE);
-        }
-
-        return new RemoveCommand(matcher.group(1).trim());
+        return new RemoveCommand(arguments.getValue(EVENT_FLAG));
     }
 
     //@@author LTK-1606
@@ -483,18 +462,9 @@ public class Parser {
      * @throws IndexOutOfBoundsException if not all fields are present in input.
      */
     private RemoveCommand getRemoveParticipantCommand(String input) throws IndexOutOfBoundsException {
-        checkForDuplicateFlags(input, REMOVE_PARTICIPANT_FLAG_REGEX);
-        Matcher matcher = getMatcher(input, REMOVE_PARTICIPANT_REGEX);
+        CommandArguments arguments = getArguments(input, REMOVE_PARTICIPANT_FLAGS, INVALID_REMOVE_MESSAGE);
 
-        if (!matcher.matches()) {
-            throw new InvalidCommandException(INVALID_REMOVE_MESSAGE);
-        }
-
-        if (matcher.group(1).isBlank() || matcher.group(2).isBlank()) {
-            throw new InvalidCommandException(EMPTY_INPUT_MESSAGE);
-        }
-
-        return new RemoveCommand(matcher.group(1).trim(), matcher.group(2).trim(), true);
+        return new RemoveCommand(arguments.getValue(PARTICIPANT_FLAG), arguments.getValue(EVENT_FLAG), true);
     }
 
     //@@author jemehgoh
@@ -506,18 +476,9 @@ public class Parser {
      * @throws IndexOutOfBoundsException if not all fields are present in input.
      */
     private RemoveCommand getRemoveItemCommand(String input) throws IndexOutOfBoundsException {
-        checkForDuplicateFlags(input, ITEM_FLAG_REGEX);
-        Matcher matcher = getMatcher(input, REMOVE_ITEM_REGEX);
+        CommandArguments arguments = getArguments(input, ITEM_FLAGS, INVALID_REMOVE_MESSAGE);
 
-        if (matcher.matches()) {
-            if (matcher.group(1).isBlank() || matcher.group(2).isBlank()) {
-                throw new InvalidCommandException(EMPTY_INPUT_MESSAGE);
-            }
-
-            return new RemoveCommand(matcher.group(1).trim(), matcher.group(2).trim(), false);
-        } else {
-            throw new InvalidCommandException(INVALID_REMOVE_MESSAGE);
-        }
+        return new RemoveCommand(arguments.getValue(ITEM_FLAG), arguments.getValue(EVENT_FLAG), false);
     }
 
     /**
@@ -532,7 +493,7 @@ public class Parser {
      * @throws IllegalArgumentException  if the priority parameter is not valid.
      */
     private Command parseEditCommand(String input, String[] commandParts) throws InvalidCommandException,
-            IOException, ParseException {
+            ParseException {
         assert commandParts[0].equalsIgnoreCase(EditParticipantCommand.COMMAND_WORD);
         String commandFlag = commandParts[1];
 
@@ -561,26 +522,13 @@ public class Parser {
      */
     private Command getEditEventCommand(String input) throws IndexOutOfBoundsException, ParseException,
             IllegalArgumentException {
-        checkForDuplicateFlags(input, EDIT_EVENT_ATTRIBUTE_FLAG_REGEX);
-        Matcher matcher = getMatcher(input, EDIT_EVENT_ATTRIBUTE_REGEX);
-
-        if (!matcher.matches()) {
-            throw new InvalidCommandException(INVALID_EDIT_MESSAGE);
-        }
-
-        if (matcher.group(1).isBlank() || matcher.group(2).isBlank()
-                || matcher.group(3).isBlank() || matcher.group(4).isBlank() || matcher.group(5).isBlank()) {
-            throw new InvalidCommandException(EMPTY_INPUT_MESSAGE);
-        }
+        CommandArguments arguments = getArguments(input, EDIT_EVENT_FLAGS, INVALID_EDIT_MESSAGE);
 
-        String eventName = matcher.group(1).trim();
-        String eventNewName = matcher.group(2).trim();
-        SimpleDateFormat dateTimeFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm");
-        dateTimeFormat.setLenient(false);
-        Date parsedDateTime = dateTimeFormat.parse(matcher.group(3).trim());
-        LocalDateTime eventTime = LocalDateTime.ofInstant(parsedDateTime.toInstant(), ZoneId.systemDefault());
-        String eventVenue = matcher.group(4).trim();
-        Priority eventPriority = Priority.valueOf(matcher.group(5).trim().toUpperCase());
+        String eventName = arguments.getValue(EVENT_FLAG);
+        String eventNewName = arguments.getValue(NAME_FLAG);
+        LocalDateTime eventTime = DateTimeParser.parseDateTime(arguments.getValue(TIME_FLAG));
+        String eventVenue = arguments.getValue(VENUE_FLAG);
+        Priority eventPriority = Priority.valueOf(arguments.getValue(PRIORITY_FLAG).toUpperCase());
 
         if (eventTime.isBefore(LocalDateTime.now())) {
             throw new InvalidCommandException(PAST_DATE_MESSAGE);
@@ -596,26 +544,14 @@ public class Parser {
      * @param input the given user input.
      * @return an {@link EditParticipantCommand} that edits a participant with fields parsed from input.
      * @throws IndexOutOfBoundsException if not all fields are present.
-     * @throws IOException if the log file cannot be written to.
      */
-    private Command getEditParticipantCommand(String input) throws IndexOutOfBoundsException, InvalidCommandException,
-            IOException {
-        checkForDuplicateFlags(input, PARTICIPANT_FLAG_REGEX);
-        Matcher matcher = getMatcher(input, EDIT_PARTICIPANT_REGEX);
+    private Command getEditParticipantCommand(String input) throws IndexOutOfBoundsException, InvalidCommandException {
+        CommandArguments arguments = getArguments(input, EDIT_PARTICIPANT_FLAGS, INVALID_EDIT_MESSAGE);
 
-        if (!matcher.matches()) {
-            throw new InvalidCommandException(INVALID_EDIT_MESSAGE);
-        }
-
-        if (matcher.group(1).isBlank() || matcher.group(2).isBlank()
-                || matcher.group(3).isBlank()) {
-            throw new InvalidCommandException(EMPTY_INPUT_MESSAGE);
-        }
-
-        String participantName = matcher.group(1).trim();
-        String newParticipantName = matcher.group(2).trim();
-        String newEmail = matcher.group(3).trim();
-        String eventName = matcher.group(4).trim();
+        String participantName = arguments.getValue(PARTICIPANT_FLAG);
+        String newParticipantName = arguments.getValue(NAME_FLAG);
+        String newEmail = arguments.getValue(EMAIL_FLAG);
+        String eventName = arguments.getValue(EVENT_FLAG);
 
         if (!isValidEmail(newEmail)) {
             logWarning("Invalid email format");
@@ -634,20 +570,12 @@ public class Parser {
      * @throws IndexOutOfBoundsException if not all fields are present.
      */
     private Command getEditItemCommand(String input) {
-        checkForDuplicateFlags(input, ITEM_FLAG_REGEX);
-        Matcher matcher = getMatcher(input, EDIT_ITEM_REGEX);
-
-        if (!matcher.matches()) {
-            throw new InvalidCommandException(INVALID_EDIT_MESSAGE);
-        }
-
-        if (matcher.group(1).isBlank() || matcher.group(2).isBlank()) {
-            throw new InvalidCommandException(EMPTY_INPUT_MESSAGE);
-        }
+        CommandArguments arguments = getArguments(input, ITEM_FLAGS, INVALID_EDIT_MESSAGE);
 
-        String itemName = matcher.group(1).split(ARROW)[0].trim();
-        String itemNewName = matcher.group(1).split(ARROW)[1].trim();
-        String eventName = matcher.group(2).trim();
+        String[] itemNames = arguments.getValue(ITEM_FLAG).split(ARROW);
+        String itemName = itemNames[0].trim();
+        String itemNewName = itemNames[1].trim();
+        String eventName = arguments.getValue(EVENT_FLAG);
 
         return new EditItemCommand(itemName, itemNewName, eventName);
     }
@@ -681,8 +609,8 @@ public class Parser {
      * @throws InvalidCommandException   if the flag is not matched.
      * @throws IndexOutOfBoundsException if not all fields are present.
      */
-    private Command parseViewCommand(String input, String[] commandParts) throws InvalidCommandException,
-            IndexOutOfBoundsException, IOException {
+    private ViewCommand parseViewCommand(String input, String[] commandParts) throws InvalidCommandException,
+            IndexOutOfBoundsException {
         assert commandParts[0].equalsIgnoreCase(ViewCommand.COMMAND_WORD);
         String commandFlag = commandParts[1];
 
@@ -704,19 +632,10 @@ public class Parser {
      * @throws InvalidCommandException   if the status parameter in input is invalid.
      */
     private ViewCommand getViewCommand(String input) throws IndexOutOfBoundsException, InvalidCommandException {
-        checkForDuplicateFlags(input, VIEW_FLAG_REGEX);
-        Matcher matcher = getMatcher(input, VIEW_REGEX);
+        CommandArguments arguments = getArguments(input, VIEW_FLAGS, INVALID_VIEW_MESSAGE);
 
-        if (!matcher.matches()) {
-            throw new InvalidCommandException(INVALID_VIEW_MESSAGE);
-        }
-
-        if (matcher.group(1).isBlank() || matcher.group(2).isBlank()) {
-            throw new InvalidCommandException(EMPTY_INPUT_MESSAGE);
-        }
-
-        String eventName = matcher.group(1).trim();
-        String viewType = matcher.group(2).trim();
+        String eventName = arguments.getValue(EVENT_FLAG);
+        String viewType = arguments.getValue(TYPE_FLAG);
 
         if (viewType.equalsIgnoreCase("participant")) {
             return new ViewCommand(eventName, true);
@@ -737,10 +656,9 @@ public class Parser {
      * @return a {@link MarkCommand} with fields parsed from input.
      * @throws InvalidCommandException   if the flag is not matched, or if the mark status is invalid.
      * @throws IndexOutOfBoundsException if not all fields are present.
-     * @throws IOException if the log file cannot be written to.
      */
     private Command parseMarkCommand(String input, String[] commandParts) throws InvalidCommandException,
-            IndexOutOfBoundsException, IOException {
+            IndexOutOfBoundsException {
         assert commandParts[0].equalsIgnoreCase(MarkCommand.COMMAND_WORD);
         String commandFlag = commandParts[1];
 
@@ -764,23 +682,12 @@ public class Parser {
      * @return a {@link MarkEventCommand} with fields from input.
      * @throws InvalidCommandException   if the status parameter is invalid.
      * @throws IndexOutOfBoundsException if not all fields are present.
-     * @throws IOException if the log file cannot be written to.
      */
-    private Command getMarkEventCommand(String input) throws InvalidCommandException, IndexOutOfBoundsException,
-            IOException {
-        checkForDuplicateFlags(input, MARK_EVENT_FLAG_REGEX);
-        Matcher matcher = getMatcher(input, MARK_EVENT_REGEX);
+    private Command getMarkEventCommand(String input) throws InvalidCommandException, IndexOutOfBoundsException {
+        CommandArguments arguments = getArguments(input, MARK_EVENT_FLAGS, INVALID_MARK_MESSAGE);
 
-        if (!matcher.matches()) {
-            throw new InvalidCommandException(INVALID_MARK_MESSAGE);
-        }
-
-        if (matcher.group(1).isBlank() || matcher.group(2).isBlank()) {
-            throw new InvalidCommandException(EMPTY_INPUT_MESSAGE);
-        }
-
-        String eventName = matcher.group(1).trim();
-        boolean isToMark = toMarkEvent(matcher.group(2).trim());
+        String eventName = arguments.getValue(EVENT_FLAG);
+        boolean isToMark = toMarkEvent(arguments.getValue(STATUS_FLAG));
 
         return new MarkEventCommand(eventName, isToMark);
     }
@@ -791,9 +698,8 @@ public class Parser {
      * @param status the status parameter.
      * @return true if status is to mark, returns false if status is to unmark.
      * @throws InvalidCommandException if status is invalid.
-     * @throws IOException if the log file cannot be written to.
      */
-    private boolean toMarkEvent(String status) throws InvalidCommandException, IOException {
+    private boolean toMarkEvent(String status) throws InvalidCommandException {
         if (status.equalsIgnoreCase(MarkEventCommand.EVENT_MARK_STATUS)) {
             return true;
         } else if (status.equalsIgnoreCase(MarkEventCommand.EVENT_UNMARK_STATUS)) {
@@ -811,24 +717,13 @@ public class Parser {
      * @return a {@link MarkParticipantCommand} with fields from input.
      * @throws InvalidCommandException   if the status parameter is invalid.
      * @throws IndexOutOfBoundsException if not all fields are present.
-     * @throws IOException if the log file cannot be written to.
      */
-    private Command getMarkParticipantCommand(String input) throws InvalidCommandException, IndexOutOfBoundsException,
-            IOException {
-        checkForDuplicateFlags(input, MARK_PARTICIPANT_FLAG_REGEX);
-        Matcher matcher = getMatcher(input, MARK_PARTICIPANT_REGEX);
+    private Command getMarkParticipantCommand(String input) throws InvalidCommandException, IndexOutOfBoundsException {
+        CommandArguments arguments = getArguments(input, MARK_PARTICIPANT_FLAGS, INVALID_MARK_MESSAGE);
 
-        if (!matcher.matches()) {
-            throw new InvalidCommandException(INVALID_MARK_MESSAGE);
-        }
-
-        if (matcher.group(1).isBlank() || matcher.group(2).isBlank() || matcher.group(3).isBlank()) {
-            throw new InvalidCommandException(EMPTY_INPUT_MESSAGE);
-        }
-
-        String participantName = matcher.group(1).trim();
-        String eventName = matcher.group(2).trim();
-        boolean isToMark = toMarkParticipant(matcher.group(3).trim());
+        String participantName = arguments.getValue(PARTICIPANT_FLAG);
+        String eventName = arguments.getValue(EVENT_FLAG);
+        boolean isToMark = toMarkParticipant(arguments.getValue(STATUS_FLAG));
 
         return new MarkParticipantCommand(participantName, eventName, isToMark);
     }
@@ -839,9 +734,8 @@ public class Parser {
      * @param status the status parameter.
      * @return true if status is to mark, returns false if status is to unmark.
      * @throws InvalidCommandException if status is invalid.
-     * @throws IOException if the log file cannot be written to.
      */
-    private boolean toMarkParticipant(String status) throws InvalidCommandException, IOException {
+    private boolean toMarkParticipant(String status) throws InvalidCommandException {
         if (status.equalsIgnoreCase(MarkParticipantCommand.PARTICIPANT_MARK_STATUS)) {
             return true;
         } else if (status.equalsIgnoreCase(MarkParticipantCommand.PARTICIPANT_UNMARK_STATUS)) {
@@ -859,24 +753,13 @@ public class Parser {
      * @return a {@link MarkItemCommand} with fields from input.
      * @throws InvalidCommandException   if the status parameter is invalid.
      * @throws IndexOutOfBoundsException if not all fields are present.
-     * @throws IOException if the log file cannot be written to.
      */
-    private Command getMarkItemCommand(String input) throws InvalidCommandException, IndexOutOfBoundsException,
-            IOException {
-        checkForDuplicateFlags(input, MARK_ITEM_FLAG_REGEX);
-        Matcher matcher = getMatcher(input, MARK_ITEM_REGEX);
-
-        if (!matcher.matches()) {
-            throw new InvalidCommandException(INVALID_MARK_MESSAGE);
-        }
+    private Command getMarkItemCommand(String input) throws InvalidCommandException, IndexOutOfBoundsException {
+        CommandArguments arguments = getArguments(input, MARK_ITEM_FLAGS, INVALID_MARK_MESSAGE);
 
-        if (matcher.group(1).isBlank() || matcher.group(2).isBlank() || matcher.group(3).isBlank()) {
-            throw new InvalidCommandException(EMPTY_INPUT_MESSAGE);
-        }
-
-        String itemName = matcher.group(1).trim();
-        String eventName = matcher.group(2).trim();
-        boolean isToMark = toMarkItem(matcher.group(3).trim());
+        String itemName = arguments.getValue(ITEM_FLAG);
+        String eventName = arguments.getValue(EVENT_FLAG);
+        boolean isToMark = toMarkItem(arguments.getValue(STATUS_FLAG));
 
         return new MarkItemCommand(itemName, eventName, isToMark);
     }
@@ -887,9 +770,8 @@ public class Parser {
      * @param status the status parameter.
      * @return true if status is "accounted", returns false if status is "unaccounted".
      * @throws InvalidCommandException if status is invalid.
-     * @throws IOException if the log file cannot be written to.
      */
-    private boolean toMarkItem(String status) throws InvalidCommandException, IOException {
+    private boolean toMarkItem(String status) throws InvalidCommandException {
         if (status.equalsIgnoreCase(MarkItemCommand.ITEM_MARK_STATUS)) {
             return true;
         } else if (status.equalsIgnoreCase(MarkItemCommand.ITEM_UNMARK_STATUS)) {
@@ -916,18 +798,17 @@ public class Parser {
      */
     private Command parseCopyCommand(String input, String[] commandParts) throws InvalidCommandException {
         assert commandParts[0].equalsIgnoreCase(CopyCommand.COMMAND_WORD);
-        checkForDuplicateFlags(input, COPY_FLAG_REGEX);
-        Matcher matcher = getMatcher(input, COPY_REGEX);
+        CommandArguments arguments = CommandArguments.tokenize(input, COPY_FLAGS);
 
-        if (!matcher.matches()) {
+        if (!arguments.getFlags().equals(COPY_FLAGS)) {
             throw new InvalidCommandException(INVALID_COPY_MESSAGE);
         }
 
-        if (matcher.group(1).isBlank() || matcher.group(2).isBlank()) {
+        if (arguments.getPreamble().isEmpty() || arguments.hasBlankValue()) {
             throw new InvalidCommandException(EMPTY_INPUT_MESSAGE);
         }
 
-        return new CopyCommand(matcher.group(1).trim(), matcher.group(2).trim());
+        return new CopyCommand(arguments.getPreamble(), arguments.getValue(ARROW));
     }
 
     //@@author MatchaRRR
@@ -947,25 +828,16 @@ public class Parser {
      * @return a {@link Command} object representing the parsed command.
      * @throws InvalidCommandException if the flag is not matched.
      */
-    private Command parseSortCommand(String input, String[] commandParts) throws InvalidCommandException {
+    private SortCommand parseSortCommand(String input, String[] commandParts) throws InvalidCommandException {
         assert commandParts[0].equalsIgnoreCase(SortCommand.COMMAND_WORD);
-        checkForDuplicateFlags(input, SORT_FLAG_REGEX);
-        Matcher matcher = getMatcher(input, SORT_REGEX);
-
-        if (!matcher.matches()) {
-            throw new InvalidCommandException(INVALID_SORT_MESSAGE);
-        }
+        CommandArguments arguments = getArguments(input, SORT_FLAGS, INVALID_SORT_MESSAGE);
+        String sortKeyword = arguments.getValue(SORT_FLAG);
 
-        if (matcher.group(1).isBlank()) {
-            throw new InvalidCommandException(EMPTY_INPUT_MESSAGE);
-        }
-
-        if (!matcher.group(1).equals("time") && !matcher.group(1).equals("name") &&
-                !matcher.group(1).equals("priority")) {
+        if (!sortKeyword.equals("time") && !sortKeyword.equals("name") && !sortKeyword.equals("priority")) {
             throw new InvalidCommandException(INVALID_SORT_KEYWORD_MESSAGE);
         }
 
-        return new SortCommand(matcher.group(1).trim());
+        return new SortCommand(sortKeyword);
     }
 
     //@@author LTK-1606
@@ -985,23 +857,18 @@ public class Parser {
      * @return a {@code FilterCommand} object initialized with the specified flag and filter criteria
      * @throws InvalidCommandException if the command format is invalid or an invalid flag is provided
      */
-    private Command parseFilterCommand(String input, String[] commandParts)
+    private FilterCommand parseFilterCommand(String input, String[] commandParts)
             throws InvalidCommandException, ParseException {
         assert commandParts[0].equalsIgnoreCase(FilterCommand.COMMAND_WORD);
-        checkForDuplicateFlags(input, FILTER_FLAG_REGEX);
-        Matcher matcher = getMatcher(input, FILTER_REGEX);
+        CommandArguments arguments = CommandArguments.tokenize(input, FILTER_FLAGS);
 
-        if (!matcher.matches()) {
+        if (!arguments.getPreamble().isEmpty() || arguments.getFlags().size() != 1) {
             throw new InvalidCommandException(INVALID_FILTER_MESSAGE);
         }
 
-        String filterFlag = matcher.group(1).trim();
-        String filterDesc = matcher.group(2).trim();
-        if (filterFlag.isBlank()) {
-            throw new InvalidCommandException(INVALID_FILTER_MESSAGE);
-        }
-
-        if (filterDesc.isBlank()) {
+        String filterFlag = arguments.getFlags().get(0);
+        String filterDesc = arguments.getValue(filterFlag);
+        if (filterDesc.isEmpty()) {
             throw new InvalidCommandException(EMPTY_INPUT_MESSAGE);
         }
 
@@ -1025,25 +892,108 @@ public class Parser {
      */
     private Command parseFindCommand(String input, String[] commandParts) throws InvalidCommandException {
         assert commandParts[0].equalsIgnoreCase(FindCommand.COMMAND_WORD);
-        checkForDuplicateFlags(input, FIND_FLAG_REGEX);
-        Matcher matcher = getMatcher(input, FIND_REGEX);
+        CommandArguments arguments = getArguments(input, FIND_FLAGS, INVALID_FIND_MESSAGE);
+
+        return new FindCommand(arguments.getValue(EVENT_FLAG), arguments.getValue(PARTICIPANT_FLAG));
+    }
+
+    //@@author jemehgoh
+    /**
+     * Returns a list, view, sort or filter command parsed from a given user input, which may end with the
+     * optional {@code -page PAGE} and {@code -size SIZE} flags to only list one page of the output.
+     * If only one of the two flags is given, the other takes its default value.
+     *
+     * @param input the user input to be parsed.
+     * @param commandWord the command word of input, in lower case.
+     * @return the command parsed from input.
+     * @throws InvalidCommandException if the input, or its page flags, are invalid.
+     * @throws IndexOutOfBoundsException if not all fields are present in input.
+     * @throws ParseException if a date-time in input cannot be parsed.
+     */
+    private ListingCommand parseListingCommand(String input, String commandWord) throws InvalidCommandException,
+            IndexOutOfBoundsException, ParseException {
+        CommandArguments pageArguments = CommandArguments.tokenize(input, PAGE_FLAGS);
+        String listingInput = (commandWord + SPACE + pageArguments.getPreamble()).trim();
+        String[] commandParts = listingInput.split(SPACE, COMMAND_PARTS_LIMIT);
+
+        ListingCommand command;
+        switch (commandWord) {
+        case ViewCommand.COMMAND_WORD:
+            command = parseViewCommand(listingInput, commandParts);
+            break;
+        case SortCommand.COMMAND_WORD:
+            command = parseSortCommand(listingInput, commandParts);
+            break;
+        case FilterCommand.COMMAND_WORD:
+            command = parseFilterCommand(listingInput, commandParts);
+            break;
+        default:
+            command = new ListCommand();
+            break;
+        }
 
-        if (!matcher.matches()) {
-            throw new InvalidCommandException(INVALID_FIND_MESSAGE);
+        if (!pageArguments.getFlags().isEmpty()) {
+            command.setPage(getPageValue(pageArguments, PAGE_FLAG, FIRST_PAGE),
+                    getPageValue(pageArguments, PAGE_SIZE_FLAG, DEFAULT_PAGE_SIZE));
         }
+        return command;
+    }
 
-        if (matcher.group(1).isBlank() || matcher.group(2).isBlank()) {
+    /**
+     * Returns a stats command parsed from a given user input, which may have the {@code -o FILE} flag to save
+     * the statistics to FILE on exit.
+     *
+     * @param input the user input to be parsed.
+     * @return the stats command parsed from input.
+     * @throws InvalidCommandException if the input is invalid.
+     */
+    private StatsCommand parseStatsCommand(String input) throws InvalidCommandException {
+        CommandArguments arguments = CommandArguments.tokenize(input, STATS_FLAGS);
+        if (!arguments.getPreamble().isEmpty()) {
+            throw new InvalidCommandException(INVALID_STATS_MESSAGE);
+        }
+        if (arguments.getFlags().isEmpty()) {
+            return new StatsCommand();
+        }
+        if (arguments.hasBlankValue()) {
             throw new InvalidCommandException(EMPTY_INPUT_MESSAGE);
         }
 
-        if (matcher.groupCount() < 2 || matcher.group(1).isBlank()) {
-            throw new InvalidCommandException(INVALID_FIND_MESSAGE);
+        try {
+            return new StatsCommand(Path.of(arguments.getValue(OUTPUT_FLAG)));
+        } catch (InvalidPathException exception) {
+            throw new InvalidCommandException(INVALID_STATS_MESSAGE);
+        }
+    }
+
+    /**
+     * Returns the value of a page flag as a positive number, or a default value if the flag is not present.
+     *
+     * @param pageArguments the page flags of a user input.
+     * @param flag the page flag.
+     * @param defaultValue the value if flag is not present.
+     * @return the value of flag.
+     * @throws InvalidCommandException if the value of flag is not a positive whole number.
+     */
+    private int getPageValue(CommandArguments pageArguments, String flag, int defaultValue)
+            throws InvalidCommandException {
+        if (!pageArguments.getFlags().contains(flag)) {
+            return defaultValue;
+        }
+
+        int value;
+        try {
+            value = Integer.parseInt(pageArguments.getValue(flag));
+        } catch (NumberFormatException exception) {
+            throw new InvalidCommandException(INVALID_PAGE_MESSAGE);
         }
 
-        return new FindCommand(matcher.group(1).trim(), matcher.group(2).trim());
+        if (value < FIRST_PAGE) {
+            throw new InvalidCommandException(INVALID_PAGE_MESSAGE);
+        }
+        return value;
     }
 
-    //@@author jemehgoh
     /**
      * Returns an error message corresponding to the given command word.
      *
@@ -1071,64 +1021,42 @@ public class Parser {
      * Logs an info message to a file.
      *
      * @param message the message to be logged.
-     * @throws IOException if the log file cannot be written to.
      */
-    private void logInfo(String message) throws IOException {
-        FileHandler handler = new FileHandler("logs.txt", true);
-        logger.addHandler(handler);
+    private void logInfo(String message) {
         logger.info(message);
-        handler.close();
     }
 
     /**
      * Logs a warning message to a file.
      *
      * @param message the message to be logged.
-     * @throws IOException if the log file cannot be written to.
      */
-    private void logWarning(String message) throws IOException {
-        FileHandler handler = new FileHandler("logs.txt", true);
-        logger.addHandler(handler);
+    private void logWarning(String message) {
         logger.warning(message);
-        handler.close();
     }
 
-    //@@author LTK-1606
     /**
-     * Checks for duplicate flags in the specified input string based on the provided flag regex.
-     * <p>
-     * This method uses a regular expression pattern to match flags within the input string.
-     * If any flag appears more than once, an {@code InvalidCommandException} is thrown.
-     * </p>
+     * Returns the {@link CommandArguments} of a given user input, checking that it has exactly the expected flags
+     * in order, and that none of their values are blank.
      *
-     * @param input     The input string to be checked for duplicate flags.
-     * @param flagRegex The regular expression pattern used to identify flags in the input string.
-     * @throws InvalidCommandException if a duplicate flag is found in the input string.
+     * @param input the given user input.
+     * @param flags the expected flags, in order.
+     * @param invalidMessage the error message if input does not have exactly the expected flags.
+     * @return the {@link CommandArguments} of input.
+     * @throws InvalidCommandException if a flag is duplicated or missing, or if a flag value is blank.
      */
-    private void checkForDuplicateFlags(String input, String flagRegex) throws InvalidCommandException {
-        Pattern flagPattern = Pattern.compile(flagRegex);
-        Matcher flagMatcher = flagPattern.matcher(input + " ");
-
-        Set<String> seenFlags = new HashSet<>();
+    private CommandArguments getArguments(String input, List<String> flags, String invalidMessage)
+            throws InvalidCommandException {
+        CommandArguments arguments = CommandArguments.tokenize(input, flags);
 
-        while (flagMatcher.find()) {
-            String flag = flagMatcher.group();
+        if (!arguments.hasFlags(flags)) {
+            throw new InvalidCommandException(invalidMessage);
+        }
 
-            if (!seenFlags.add(flag)) {
-                throw new InvalidCommandException(DUPLICATE_FLAG_MESSAGE);
-            }
+        if (arguments.hasBlankValue()) {
+            throw new InvalidCommandException(EMPTY_INPUT_MESSAGE);
         }
-    }
 
-    /**
-     * Gets a {@link Matcher} from a given input string and regex.
-     *
-     * @param input the given input string.
-     * @param regex the given regex.
-     * @return a {@link Matcher} for input and regex.
-     */
-    private Matcher getMatcher(String input, String regex) {
-        Pattern pattern = Pattern.compile(regex);
-        return pattern.matcher(input);
+        return arguments;
     }
 }
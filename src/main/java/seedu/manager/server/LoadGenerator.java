@@ -0,0 +1,223 @@
+package seedu.manager.server;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+//@@author jemehgoh
+/**
+ * Represents a load generator that measures the throughput and latency of a {@link Server} on the loopback address.
+ * <p>
+ * Usage: {@code LoadGenerator PORT SESSIONS COMMANDS}. Each of the SESSIONS sessions connects to the server,
+ * waits for every other session to connect, and then sends COMMANDS commands one after another. The commands
+ * cycle through adding a participant, marking that participant present, and viewing the items of an event.
+ * </p>
+ */
+public class LoadGenerator {
+    private static final String USAGE_MESSAGE = "Usage: LoadGenerator PORT SESSIONS COMMANDS";
+    private static final String EVENT_NAME = "load test";
+    private static final String SETUP_COMMAND = "add -e " + EVENT_NAME + " -t 2099-01-01 00:00 -v loopback -u low";
+    private static final int NANOSECONDS_PER_MICROSECOND = 1_000;
+    private static final double NANOSECONDS_PER_SECOND = 1e9;
+
+    /**
+     * Runs the load generator.
+     *
+     * @param args the port, the number of sessions and the number of commands per session.
+     * @throws IOException if the server cannot be connected to.
+     * @throws InterruptedException if the load generator is interrupted while waiting for the sessions.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length != 3) {
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+
+        int port = Integer.parseInt(args[0]);
+        int sessionCount = Integer.parseInt(args[1]);
+        int commandCount = Integer.parseInt(args[2]);
+
+        try (Connection setupConnection = new Connection(port)) {
+            setupConnection.send(SETUP_COMMAND);
+        }
+
+        CountDownLatch connectedSessions = new CountDownLatch(sessionCount);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        ExecutorService executor = Server.newPerTaskExecutor();
+        List<Future<long[]>> results = new ArrayList<>(sessionCount);
+        for (int i = 0; i < sessionCount; i++) {
+            int sessionId = i;
+            results.add(executor.submit(() -> runSession(port, sessionId, commandCount, connectedSessions,
+                    startSignal)));
+        }
+
+        connectedSessions.await();
+        long startTime = System.nanoTime();
+        startSignal.countDown();
+
+        long[] latencies = new long[sessionCount * commandCount];
+        int latencyCount = 0;
+        int failedSessionCount = 0;
+        for (Future<long[]> result : results) {
+            try {
+                long[] sessionLatencies = result.get();
+                System.arraycopy(sessionLatencies, 0, latencies, latencyCount, sessionLatencies.length);
+                latencyCount += sessionLatencies.length;
+            } catch (ExecutionException exception) {
+                failedSessionCount++;
+            }
+        }
+        long elapsedTime = System.nanoTime() - startTime;
+        executor.shutdown();
+
+        printReport(Arrays.copyOf(latencies, latencyCount), elapsedTime, failedSessionCount);
+    }
+
+    /**
+     * Runs one session, and returns the latency of each command it sent, in nanoseconds.
+     *
+     * @param port the port of the server.
+     * @param sessionId the number of the session, used to give its participants unique names.
+     * @param commandCount the number of commands to send.
+     * @param connectedSessions the latch counting down the sessions that have connected.
+     * @param startSignal the latch that is released once every session has connected.
+     * @return the latency of each command sent.
+     * @throws IOException if the server cannot be connected to.
+     * @throws InterruptedException if the session is interrupted while waiting for the other sessions.
+     */
+    private static long[] runSession(int port, int sessionId, int commandCount, CountDownLatch connectedSessions,
+            CountDownLatch startSignal) throws IOException, InterruptedException {
+        long[] latencies = new long[commandCount];
+        try (Connection connection = new Connection(port)) {
+            connectedSessions.countDown();
+            startSignal.await();
+
+            for (int i = 0; i < commandCount; i++) {
+                String command = getCommand(sessionId, i);
+                long commandStartTime = System.nanoTime();
+                connection.send(command);
+                latencies[i] = System.nanoTime() - commandStartTime;
+            }
+        } finally {
+            if (connectedSessions.getCount() > 0) {
+                connectedSessions.countDown();
+            }
+        }
+        return latencies;
+    }
+
+    /**
+     * Returns the command that a session sends at a given step.
+     *
+     * @param sessionId the number of the session.
+     * @param step the step of the session.
+     * @return the command to send.
+     */
+    private static String getCommand(int sessionId, int step) {
+        String participantName = String.format("session %d participant %d", sessionId, step / 3);
+        switch (step % 3) {
+        case 0:
+            return String.format("add -p %s -email session%d@example.com -e %s", participantName, sessionId,
+                    EVENT_NAME);
+        case 1:
+            return String.format("mark -p %s -e %s -s present", participantName, EVENT_NAME);
+        default:
+            return String.format("view -e %s -y item", EVENT_NAME);
+        }
+    }
+
+    /**
+     * Prints the throughput and latency percentiles of a run.
+     *
+     * @param latencies the latency of each command sent, in nanoseconds.
+     * @param elapsedTime the time taken for every session to finish, in nanoseconds.
+     * @param failedSessionCount the number of sessions that could not finish.
+     */
+    private static void printReport(long[] latencies, long elapsedTime, int failedSessionCount) {
+        Arrays.sort(latencies);
+        System.out.printf("Commands: %d (%d sessions failed)%n", latencies.length, failedSessionCount);
+        System.out.printf("Throughput: %.0f commands/s%n", latencies.length * NANOSECONDS_PER_SECOND / elapsedTime);
+        System.out.printf("Latency (us): p50 %d / p99 %d / max %d%n", getPercentile(latencies, 0.50),
+                getPercentile(latencies, 0.99), getPercentile(latencies, 1.0));
+    }
+
+    /**
+     * Returns a percentile of the given sorted latencies, in microseconds.
+     *
+     * @param sortedLatencies the latencies in nanoseconds, sorted in ascending order.
+     * @param percentile the percentile, between 0 and 1.
+     * @return the latency at percentile, in microseconds, or 0 if there are no latencies.
+     */
+    private static long getPercentile(long[] sortedLatencies, double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / NANOSECONDS_PER_MICROSECOND;
+    }
+
+    /**
+     * Represents a connection to the server, that sends one command at a time and waits for its response.
+     */
+    private static class Connection implements Closeable {
+        private final Socket socket;
+        private final BufferedReader input;
+        private final BufferedWriter output;
+
+        /**
+         * Constructs a Connection to the server on a given port of the loopback address.
+         *
+         * @param port the port of the server.
+         * @throws IOException if the server cannot be connected to.
+         */
+        private Connection(int port) throws IOException {
+            socket = new Socket(InetAddress.getLoopbackAddress(), port);
+            input = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            output = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Sends a command to the server, and waits for the end of its response.
+         *
+         * @param command the command to send.
+         * @throws IOException if the server disconnects before responding.
+         */
+        private void send(String command) throws IOException {
+            output.write(command);
+            output.newLine();
+            output.flush();
+
+            String line;
+            while ((line = input.readLine()) != null) {
+                if (line.equals(Session.RESPONSE_END)) {
+                    return;
+                }
+            }
+            throw new IOException("Server disconnected");
+        }
+
+        /**
+         * Closes the connection.
+         *
+         * @throws IOException if the connection cannot be closed.
+         */
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package seedu.manager.server;
+
+import seedu.manager.event.ConcurrentEventList;
+import seedu.manager.parser.Parser;
+import seedu.manager.storage.Persister;
+import seedu.manager.storage.Storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+//@@author jemehgoh
+/**
+ * Represents a server that lets several clients run commands on one shared event list over TCP.
+ * <p>
+ * Each client connection is a {@link Session} that runs on its own thread. Virtual threads are used when the
+ * Java runtime supports them, so that thousands of sessions can be open at once. The changes made by every
+ * session are saved by one {@link Persister}, so that no session waits for the disk while holding the lock on
+ * the event list.
+ * </p>
+ */
+public class Server {
+    private static final int SHUTDOWN_TIMEOUT_SECONDS = 5;
+    private static final int CONNECTION_BACKLOG = 1024;
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService sessionExecutor;
+    private final Set<Socket> openSockets;
+    private final ConcurrentEventList events;
+    private final Persister persister;
+    private final Parser parser;
+
+    /**
+     * Constructs a Server listening on a given port of the loopback address.
+     *
+     * @param port the port to listen on, or 0 to use any free port.
+     * @param events the event list shared by all sessions.
+     * @param storage the storage that the changes made by each session are saved to.
+     * @throws IOException if the port cannot be listened on.
+     */
+    public Server(int port, ConcurrentEventList events, Storage storage) throws IOException {
+        this.serverSocket = new ServerSocket(port, CONNECTION_BACKLOG, InetAddress.getLoopbackAddress());
+        this.sessionExecutor = newPerTaskExecutor();
+        this.openSockets = ConcurrentHashMap.newKeySet();
+        this.events = events;
+        this.persister = new Persister(storage, events);
+        this.parser = new Parser();
+    }
+
+    /**
+     * Returns the port that the server is listening on.
+     *
+     * @return the port that the server is listening on.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Accepts client connections, starting a session for each, until the server is stopped.
+     *
+     * @throws IOException if a client connection cannot be accepted.
+     */
+    public void run() throws IOException {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (SocketException exception) {
+                if (serverSocket.isClosed()) {
+                    return;
+                }
+                throw exception;
+            }
+            openSockets.add(socket);
+            Session session = new Session(socket, events, persister, parser);
+            sessionExecutor.execute(() -> {
+                try {
+                    session.run();
+                } finally {
+                    openSockets.remove(socket);
+                }
+            });
+        }
+    }
+
+    /**
+     * Stops accepting client connections, closes every open session, waits briefly for the sessions
+     * to finish their current command, and saves every change they made.
+     */
+    public void stop() {
+        closeQuietly(serverSocket);
+        openSockets.forEach(Server::closeQuietly);
+
+        sessionExecutor.shutdown();
+        try {
+            sessionExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        persister.close();
+    }
+
+    /**
+     * Returns the persister that saves the changes made by every session.
+     *
+     * @return the persister of the server.
+     */
+    public Persister getPersister() {
+        return persister;
+    }
+
+    /**
+     * Closes a socket, ignoring any error, as the socket is being discarded.
+     *
+     * @param socket the socket to close.
+     */
+    private static void closeQuietly(Closeable socket) {
+        try {
+            socket.close();
+        } catch (IOException exception) {
+            // The socket is being discarded, so a failure to close it cleanly can be ignored.
+        }
+    }
+
+    /**
+     * Returns an executor that runs each task on a new thread. The threads are virtual threads if the Java runtime
+     * supports them, and platform threads otherwise.
+     *
+     * @return an executor that runs each task on a new thread.
+     */
+    static ExecutorService newPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException exception) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.manager.server;
+
+import seedu.manager.command.Command;
+import seedu.manager.enumeration.CommandPhase;
+import seedu.manager.event.ConcurrentEventList;
+import seedu.manager.event.EventList;
+import seedu.manager.exception.InvalidCommandException;
+import seedu.manager.parser.Parser;
+import seedu.manager.stats.CommandStats;
+import seedu.manager.stats.PhaseTimer;
+import seedu.manager.storage.Persister;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+//@@author jemehgoh
+/**
+ * Represents one client connection to a {@link Server}.
+ * <p>
+ * The client sends one command per line. For each command, the session sends back the command's output,
+ * followed by a {@link #RESPONSE_END} line. The session ends when the client sends an exit command or
+ * closes the connection.
+ * </p>
+ * <p>
+ * Each phase of each command is timed, and recorded in the {@link CommandStats}. As the output of a command is
+ * built while the event list is locked, building it is timed as part of executing the command, and sending it
+ * is timed as rendering it.
+ * </p>
+ */
+public class Session implements Runnable {
+    public static final String RESPONSE_END = "------------------------";
+
+    private final Socket socket;
+    private final ConcurrentEventList events;
+    private final Persister persister;
+    private final Parser parser;
+
+    /**
+     * Constructs a Session for a given client connection.
+     *
+     * @param socket the client connection.
+     * @param events the event list shared by all sessions.
+     * @param persister the persister that changes to the event list are saved by.
+     * @param parser the parser for the commands sent by the client.
+     */
+    public Session(Socket socket, ConcurrentEventList events, Persister persister, Parser parser) {
+        this.socket = socket;
+        this.events = events;
+        this.persister = persister;
+        this.parser = parser;
+    }
+
+    /**
+     * Runs the commands sent by the client until the client exits or disconnects.
+     */
+    @Override
+    public void run() {
+        try (socket;
+                BufferedReader input = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                        StandardCharsets.UTF_8));
+                BufferedWriter output = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(),
+                        StandardCharsets.UTF_8))) {
+            boolean isGettingCommands = true;
+            String commandText;
+            while (isGettingCommands && (commandText = input.readLine()) != null) {
+                String response;
+                String commandWord = null;
+                PhaseTimer timer = new PhaseTimer();
+                try {
+                    Command command = parseCommand(commandText, timer);
+                    commandWord = command.getCommandWord();
+                    response = events.execute(command, changedEvents -> saveChanges(changedEvents, command, timer));
+                    timer.endPhase(CommandPhase.EXECUTE);
+                    isGettingCommands = !command.getCanExit();
+                    persister.checkError();
+                } catch (InvalidCommandException | IOException exception) {
+                    response = exception.getMessage();
+                }
+                sendResponse(output, response);
+                if (commandWord != null) {
+                    timer.endPhase(CommandPhase.RENDER);
+                    CommandStats.record(commandWord, timer);
+                }
+            }
+        } catch (IOException exception) {
+            // The client has disconnected, or the server is stopping, so there is no one left to respond to.
+        }
+    }
+
+    /**
+     * Parses a command sent by the client, and ends its parse phase. A command that cannot be parsed is recorded
+     * as invalid.
+     *
+     * @param commandText the command sent by the client.
+     * @param timer the timer of the command.
+     * @return the parsed command.
+     * @throws InvalidCommandException if the command cannot be parsed.
+     */
+    private Command parseCommand(String commandText, PhaseTimer timer) throws InvalidCommandException {
+        Command command;
+        try {
+            command = parser.parseCommand(commandText);
+        } catch (InvalidCommandException exception) {
+            CommandStats.recordInvalid(timer);
+            throw exception;
+        }
+        timer.endPhase(CommandPhase.PARSE);
+        return command;
+    }
+
+    /**
+     * Queues the changes made by a command to be saved, timing the time spent executing the command and queueing
+     * its changes. This is called under the write lock of the event list.
+     *
+     * @param changedEvents the event list the command was executed on.
+     * @param command the command that was executed.
+     * @param timer the timer of the command.
+     */
+    private void saveChanges(EventList changedEvents, Command command, PhaseTimer timer) {
+        timer.endPhase(CommandPhase.EXECUTE);
+        persister.saveChanges(changedEvents, command);
+        timer.endPhase(CommandPhase.PERSIST);
+    }
+
+    /**
+     * Sends the response to a command to the client.
+     *
+     * @param output the output stream to the client.
+     * @param response the response to the command.
+     * @throws IOException if the response cannot be sent.
+     */
+    private void sendResponse(BufferedWriter output, String response) throws IOException {
+        output.write(response);
+        output.newLine();
+        output.write(RESPONSE_END);
+        output.newLine();
+        output.flush();
+    }
+}
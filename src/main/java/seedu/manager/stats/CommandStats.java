@@ -0,0 +1,157 @@
+package seedu.manager.stats;
+
+import seedu.manager.enumeration.CommandPhase;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+//@@author jemehgoh
+/**
+ * Represents the latencies of the commands run in the program, shared by every command loop and session.
+ * <p>
+ * The latencies are kept in one {@link LatencyHistogram} for each phase of each command word, so that the memory
+ * used does not grow with the number of commands run. Commands that cannot be parsed are counted under
+ * {@link #INVALID_COMMAND_WORD}. The statistics may be saved to a file when the program exits.
+ * </p>
+ */
+public class CommandStats {
+    public static final String INVALID_COMMAND_WORD = "(invalid)";
+
+    private static final String EMPTY_REPORT = "No commands have been timed yet.\n";
+    private static final String REPORT_HEADING = "Command latencies, in milliseconds:\n";
+    private static final String HEADER_FORMAT = "%-10s%-9s%8s%11s%11s%11s\n";
+    private static final String ROW_FORMAT = "%-10s%-9s%8d%11.3f%11.3f%11.3f\n";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private static final Map<String, LatencyHistogram[]> histograms = new ConcurrentHashMap<>();
+    private static Path dumpFilePath;
+    private static boolean isShutdownHookAdded = false;
+
+    /**
+     * Records the durations of the timed phases of a command.
+     *
+     * @param commandWord the command word of the command.
+     * @param timer the timer of the command.
+     */
+    public static void record(String commandWord, PhaseTimer timer) {
+        LatencyHistogram[] phaseHistograms = histograms.computeIfAbsent(commandWord, word -> createHistograms());
+        for (CommandPhase phase : CommandPhase.values()) {
+            if (timer.isTimed(phase)) {
+                phaseHistograms[phase.ordinal()].record(timer.getDuration(phase));
+            }
+        }
+    }
+
+    /**
+     * Ends the parse phase of a command that could not be parsed, and records it as an invalid command.
+     *
+     * @param timer the timer of the command.
+     */
+    public static void recordInvalid(PhaseTimer timer) {
+        timer.endPhase(CommandPhase.PARSE);
+        record(INVALID_COMMAND_WORD, timer);
+    }
+
+    /**
+     * Returns a table of the count, median, 99th percentile and maximum latency of each phase of each command,
+     * sorted by command word.
+     *
+     * @return the table of latencies.
+     */
+    public static String getReport() {
+        if (histograms.isEmpty()) {
+            return EMPTY_REPORT;
+        }
+
+        StringBuilder report = new StringBuilder(REPORT_HEADING);
+        report.append(String.format(HEADER_FORMAT, "COMMAND", "PHASE", "COUNT", "P50", "P99", "MAX"));
+        for (Map.Entry<String, LatencyHistogram[]> entry : new TreeMap<>(histograms).entrySet()) {
+            for (CommandPhase phase : CommandPhase.values()) {
+                LatencyHistogram histogram = entry.getValue()[phase.ordinal()];
+                if (histogram.getCount() == 0) {
+                    continue;
+                }
+                report.append(String.format(ROW_FORMAT, entry.getKey(), phase.name().toLowerCase(),
+                        histogram.getCount(), toMillis(histogram.getValueAtPercentile(50)),
+                        toMillis(histogram.getValueAtPercentile(99)), toMillis(histogram.getMax())));
+            }
+        }
+        return report.toString();
+    }
+
+    /**
+     * Sets the statistics to be saved to a given file when the program exits, in place of any file set before.
+     *
+     * @param path the path of the file.
+     */
+    public static synchronized void dumpOnExit(Path path) {
+        dumpFilePath = path;
+        addShutdownHook();
+    }
+
+    /**
+     * Saves the statistics to the file set by {@link #dumpOnExit(Path)}, if a file is set.
+     *
+     * @throws IOException if the file cannot be written to.
+     */
+    public static synchronized void dump() throws IOException {
+        if (dumpFilePath == null) {
+            return;
+        }
+        Files.writeString(dumpFilePath, getReport(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Clears every latency recorded, and the file to save the statistics to.
+     */
+    public static synchronized void clear() {
+        histograms.clear();
+        dumpFilePath = null;
+    }
+
+    /**
+     * Returns a new histogram for each phase of a command.
+     *
+     * @return the histograms, indexed by the ordinal of their phase.
+     */
+    private static LatencyHistogram[] createHistograms() {
+        LatencyHistogram[] phaseHistograms = new LatencyHistogram[CommandPhase.values().length];
+        for (int i = 0; i < phaseHistograms.length; i++) {
+            phaseHistograms[i] = new LatencyHistogram();
+        }
+        return phaseHistograms;
+    }
+
+    /**
+     * Converts a latency from nanoseconds to milliseconds.
+     *
+     * @param nanos the latency in nanoseconds.
+     * @return the latency in milliseconds.
+     */
+    private static double toMillis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Adds a JVM shutdown hook that saves the statistics, so that they are saved however the program exits.
+     */
+    private static void addShutdownHook() {
+        if (isShutdownHookAdded) {
+            return;
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                dump();
+            } catch (IOException exception) {
+                System.err.println("Statistics cannot be saved: " + exception.getMessage());
+            }
+        }, "stats-shutdown"));
+        isShutdownHookAdded = true;
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.manager.stats;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+//@@author jemehgoh
+/**
+ * Represents a histogram of latencies in nanoseconds, which uses the same fixed amount of memory however many
+ * latencies are recorded.
+ * <p>
+ * Latencies below {@code 2^SUB_BUCKET_BITS} nanoseconds are counted exactly. Above that, each power of two is
+ * split into {@code 2^(SUB_BUCKET_BITS - 1)} buckets of equal width, so that every latency is counted to within
+ * 1/64 of its value. Latencies above {@link #MAX_VALUE} are counted as {@link #MAX_VALUE}.
+ * Recording never blocks, so a histogram may be read while latencies are being recorded.
+ * </p>
+ */
+public class LatencyHistogram {
+    public static final long MAX_VALUE = (1L << 36) - 1;
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT / 2;
+    private static final int BUCKET_COUNT = getIndex(MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts;
+    private final AtomicLong totalCount;
+    private final AtomicLong maxValue;
+
+    /**
+     * Constructs an empty LatencyHistogram.
+     */
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKET_COUNT);
+        this.totalCount = new AtomicLong();
+        this.maxValue = new AtomicLong();
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency in nanoseconds. Negative latencies are recorded as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_VALUE);
+        counts.incrementAndGet(getIndex(value));
+        totalCount.incrementAndGet();
+        maxValue.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Returns the number of latencies recorded.
+     *
+     * @return the number of latencies recorded.
+     */
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * Returns the highest latency recorded, or 0 if no latency is recorded.
+     *
+     * @return the highest latency recorded, in nanoseconds.
+     */
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    /**
+     * Returns the latency that a given percentage of the recorded latencies are at or below, to within the
+     * precision of the histogram. Returns 0 if no latency is recorded.
+     *
+     * @param percentile the percentage, from 0 to 100.
+     * @return the latency at percentile, in nanoseconds.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = getCount();
+        long max = getMax();
+        if (count == 0) {
+            return 0;
+        }
+
+        long targetCount = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long cumulativeCount = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulativeCount += counts.get(i);
+            if (cumulativeCount >= targetCount) {
+                return Math.min(getHighestValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the index of the bucket that counts a given latency.
+     *
+     * @param value the latency, from 0 to {@link #MAX_VALUE}.
+     * @return the index of the bucket.
+     */
+    static int getIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * HALF_SUB_BUCKET_COUNT + (int) (value >>> shift);
+    }
+
+    /**
+     * Returns the highest latency counted by the bucket at a given index.
+     *
+     * @param index the index of the bucket.
+     * @return the highest latency counted by the bucket.
+     */
+    static long getHighestValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / HALF_SUB_BUCKET_COUNT - 1;
+        long subBucket = index - (long) shift * HALF_SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
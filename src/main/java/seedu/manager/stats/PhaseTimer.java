@@ -0,0 +1,62 @@
+package seedu.manager.stats;
+
+import seedu.manager.enumeration.CommandPhase;
+
+import java.util.Arrays;
+
+//@@author jemehgoh
+/**
+ * Represents a stopwatch for the phases of running one command.
+ * <p>
+ * Each call to {@link #endPhase(CommandPhase)} adds the time since the previous call, or since the timer was
+ * started, to the duration of a phase. A phase may be ended more than once, such as when its work is split
+ * around another phase, and its durations are then added together.
+ * </p>
+ */
+public class PhaseTimer {
+    private static final long NOT_TIMED = -1;
+
+    private final long[] durations;
+    private long lastMarkNanos;
+
+    /**
+     * Constructs a PhaseTimer, and starts it.
+     */
+    public PhaseTimer() {
+        this.durations = new long[CommandPhase.values().length];
+        Arrays.fill(durations, NOT_TIMED);
+        this.lastMarkNanos = System.nanoTime();
+    }
+
+    /**
+     * Adds the time since the previous phase ended to the duration of a given phase.
+     *
+     * @param phase the phase that has ended.
+     */
+    public void endPhase(CommandPhase phase) {
+        long nowNanos = System.nanoTime();
+        int index = phase.ordinal();
+        durations[index] = Math.max(durations[index], 0) + (nowNanos - lastMarkNanos);
+        lastMarkNanos = nowNanos;
+    }
+
+    /**
+     * Returns true if a given phase has been timed, returns false otherwise.
+     *
+     * @param phase the given phase.
+     * @return {@code true} if phase has been ended at least once, {@code false} otherwise.
+     */
+    public boolean isTimed(CommandPhase phase) {
+        return durations[phase.ordinal()] != NOT_TIMED;
+    }
+
+    /**
+     * Returns the duration of a given phase.
+     *
+     * @param phase the given phase.
+     * @return the duration of phase in nanoseconds, or 0 if it has not been timed.
+     */
+    public long getDuration(CommandPhase phase) {
+        return Math.max(durations[phase.ordinal()], 0);
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.manager.storage;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+//@@author jemehgoh
+/**
+ * Represents a Flight Recorder event for the loading of a CSV file by
+ * {@link FileParser#parseFile(seedu.manager.event.EventList, String)}.
+ */
+@Name("seedu.manager.FileParse")
+@Label("File Parse")
+@Category({"EventManagerCLI", "Storage"})
+@Description("The loading of the events from a CSV file")
+@StackTrace(false)
+class FileParseEvent extends Event {
+    @Label("Bytes Read")
+    @DataAmount
+    long bytesRead;
+
+    @Label("Rows Parsed")
+    @Description("The number of lines loaded into the event list")
+    int rowsParsed;
+
+    @Label("Rows Skipped")
+    @Description("The number of lines that could not be loaded")
+    int rowsSkipped;
+}
@@ -4,18 +4,19 @@ import com.opencsv.CSVReader;
 import com.opencsv.CSVReaderBuilder;
 import com.opencsv.exceptions.CsvException;
 import seedu.manager.enumeration.Priority;
+import seedu.manager.event.Event;
 import seedu.manager.event.EventList;
-import seedu.manager.exception.InvalidCommandException;
+import seedu.manager.logging.LogFile;
+import seedu.manager.parser.DateTimeParser;
 
+import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
-import java.text.SimpleDateFormat;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.text.ParseException;
-import java.util.Date;
-import java.util.List;
-import java.util.logging.FileHandler;
+import java.util.HashMap;
+import java.util.Optional;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
 
@@ -24,11 +25,25 @@ import java.util.regex.Pattern;
  * This class is responsible for parsing event data from a CSV file.
  * It handles the extraction of event, participant, and item information
  * and adds them to the provided EventList.
+ *
+ * <p>
+ * As the participants and items of an event are saved right after the event, the last event loaded is kept,
+ * and the participants and items of that event are added to it directly. Participants and items of any other
+ * event are added to the event with the matching name in the EventList.
+ * </p>
+ *
+ * <p>
+ * The same participant is often in many events, and many events have items with the same name. As every line
+ * read creates new strings, the names and emails loaded are deduplicated for the duration of the load, so that
+ * equal names and emails in different events share one string.
+ * </p>
  */
 public class FileParser {
     private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9-]+(\\.[A-Za-z0-9-]+)+$");
 
     private final Logger logger;
+    private Event currentEvent;
+    private final HashMap<String, String> loadedStrings;
 
     /**
      * Constructs a new FileParser.
@@ -36,41 +51,45 @@ public class FileParser {
     public FileParser(){
         logger = Logger.getLogger(FileParser.class.getName());
         logger.setUseParentHandlers(false);
+        LogFile.attach(logger);
+        loadedStrings = new HashMap<>();
     }
 
     /**
      * Parses the specified CSV file and populates the given EventList with the loaded data.
+     * Each line is added to the EventList as soon as it is read, so the whole file is never held in memory.
+     * A {@link FileParseEvent} is recorded for Flight Recorder.
      *
      * @param events   The EventList to load events into.
      * @param filePath The path to the CSV file to be parsed.
      * @throws IOException If there is an error reading from the file.
      */
     public void parseFile(EventList events, String filePath) throws IOException {
-        try {
+        FileParseEvent parseEvent = new FileParseEvent();
+        parseEvent.begin();
+        try (CSVReader reader = new CSVReaderBuilder(new FileReader(filePath, StandardCharsets.UTF_8)).build()) {
             logInfo("Loading data from file");
-            List<String[]> lines = getFileLines(filePath);
-            for (String[] line : lines) {
-                parseLine(events, line);
+            currentEvent = null;
+            String[] line;
+            while ((line = reader.readNext()) != null) {
+                if (parseLine(events, line)) {
+                    parseEvent.rowsParsed++;
+                } else {
+                    parseEvent.rowsSkipped++;
+                }
             }
         } catch (IOException | CsvException exception) {
             throw new IOException("Error loading data from file: " + filePath +
                     ". New file will be created since it does not exists.");
+        } finally {
+            loadedStrings.clear();
         }
-    }
 
-    /**
-     * Reads all lines from the specified CSV file and returns them as a list of String arrays.
-     *
-     * @param filePath The path to the CSV file to be read.
-     * @return A list of String arrays, each representing a line in the CSV file.
-     * @throws IOException If there is an error reading the file.
-     * @throws CsvException If there is an error parsing the CSV data.
-     */
-    private List<String[]> getFileLines(String filePath) throws IOException, CsvException {
-        CSVReader reader = new CSVReaderBuilder(new FileReader(filePath)).build();
-        List<String[]> lines = reader.readAll();
-        reader.close();
-        return lines;
+        parseEvent.end();
+        if (parseEvent.shouldCommit()) {
+            parseEvent.bytesRead = new File(filePath).length();
+            parseEvent.commit();
+        }
     }
 
     /**
@@ -78,25 +97,25 @@ public class FileParser {
      *
      * @param events   The EventList to populate.
      * @param fields   The fields of the line to parse.
+     * @return {@code true} if the line was parsed, {@code false} if it was skipped.
      */
-    private void parseLine(EventList events, String[] fields) throws IOException {
+    private boolean parseLine(EventList events, String[] fields) {
         String type = fields[0];
         try {
             switch (type) {
             case "EVENT":
-                parseEventFileLine(events, fields);
-                break;
+                return parseEventFileLine(events, fields);
             case "PARTICIPANT":
-                parseParticipantFileLine(events, fields);
-                break;
+                return parseParticipantFileLine(events, fields);
             case "ITEM":
-                parseItemFileLine(events, fields);
-                break;
+                return parseItemFileLine(events, fields);
             default:
                 logWarning("Unknown entry type in file");
+                return false;
             }
         } catch (Exception exception) {
             logWarning("File line cannot be parsed, entry not loaded");
+            return false;
         }
     }
 
@@ -105,24 +124,24 @@ public class FileParser {
      *
      * @param events   The EventList to populate.
      * @param fields   The fields of the event to parse.
-     * @throws IOException If there is an error adding the event to the list, or if the log file cannot be written to.
+     * @return {@code true} if the event was loaded, {@code false} otherwise.
      */
-    private void parseEventFileLine(EventList events, String[] fields) throws IOException {
+    private boolean parseEventFileLine(EventList events, String[] fields) {
+        currentEvent = null;
         try {
             String eventName = fields[1].trim();
-            SimpleDateFormat dateTimeFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm");
-            dateTimeFormat.setLenient(false);
-            Date parsedDateTime = dateTimeFormat.parse(fields[2].trim());
-            LocalDateTime time = LocalDateTime.ofInstant(parsedDateTime.toInstant(), ZoneId.systemDefault());
+            LocalDateTime time = DateTimeParser.parseDateTime(fields[2].trim());
             String venue = fields[3].trim();
             Priority priority = Priority.valueOf(fields[4].trim().toUpperCase());
             boolean isDone = getIsMarked(fields[5].trim());
             events.addEvent(eventName, time, venue, priority, isDone);
+            currentEvent = events.getEvent(events.getListSize() - 1);
+            return true;
         } catch (ParseException | IndexOutOfBoundsException
                  | NullPointerException | IllegalArgumentException exception) {
             logWarning("File line cannot be parsed, event not loaded");
+            return false;
         }
-
     }
 
     /**
@@ -130,24 +149,26 @@ public class FileParser {
      *
      * @param events The EventList to populate.
      * @param fields The fields of the participant to parse.
-     * @throws IOException If there is an error adding the participant to the event.
+     * @return {@code true} if the participant was loaded, {@code false} otherwise.
      */
-    private void parseParticipantFileLine(EventList events, String[] fields) throws IOException {
+    private boolean parseParticipantFileLine(EventList events, String[] fields) {
         try {
-            String participantName = fields[1].trim();
-            String email = fields[2].trim();
+            String participantName = deduplicate(fields[1].trim());
+            String email = deduplicate(fields[2].trim());
             String eventName = fields[3].trim();
 
             if (!isValidEmail(email)) {
                 logWarning("Invalid email format");
-                throw new InvalidCommandException("Invalid email format");
+                return false;
             }
 
             boolean isPresent = getIsMarked(fields[4].trim());
-            String isLoaded = events.addParticipantToEvent(participantName, email, isPresent, eventName);
-            eventUnsuccessfulLoad(isLoaded);
+            String isLoaded = findEvent(events, eventName)
+                    .map(event -> event.addParticipant(participantName, email, isPresent)).orElse("");
+            return isEntryLoaded(isLoaded);
         } catch (IndexOutOfBoundsException | NullPointerException | IllegalArgumentException exception) {
             logWarning("File line cannot be parsed, participant not loaded");
+            return false;
         }
     }
 
@@ -156,29 +177,57 @@ public class FileParser {
      *
      * @param events The EventList to populate.
      * @param fields The fields of the item to parse.
-     * @throws IOException If there is an error adding the item to the event, or if
-     *         the log file cannot be written to.
+     * @return {@code true} if the item was loaded, {@code false} otherwise.
      */
-    private void parseItemFileLine(EventList events, String[] fields) throws IOException {
+    private boolean parseItemFileLine(EventList events, String[] fields) {
         try {
-            String itemName = fields[1].trim();
+            String itemName = deduplicate(fields[1].trim());
             String eventName = fields[2].trim();
             boolean isPresent = getIsMarked(fields[3].trim());
-            String isLoaded = events.addItemToEvent(itemName, isPresent, eventName);
-            eventUnsuccessfulLoad(isLoaded);
+            String isLoaded = findEvent(events, eventName).map(event -> event.addItem(itemName, isPresent))
+                    .orElse("");
+            return isEntryLoaded(isLoaded);
         } catch (IndexOutOfBoundsException | NullPointerException | IllegalArgumentException exception) {
             logWarning("File line cannot be parsed, item not loaded");
+            return false;
         }
     }
 
+    //@@author jemehgoh
+    /**
+     * Returns the event with a given name, checking the last event loaded before the rest of the EventList.
+     *
+     * @param events The EventList being populated.
+     * @param eventName The name of the event.
+     * @return the event named eventName, or an empty Optional if there is no such event.
+     */
+    private Optional<Event> findEvent(EventList events, String eventName) {
+        if (currentEvent != null && currentEvent.getEventName().equals(eventName)) {
+            return Optional.of(currentEvent);
+        }
+        return events.getEventByName(eventName);
+    }
+
+    /**
+     * Returns the string loaded earlier in the current load that is equal to a given string, so that equal names
+     * and emails share one string. If there is no such string, the given string is kept for the rest of the load.
+     *
+     * @param value the given string.
+     * @return the string equal to value that was loaded first.
+     */
+    private String deduplicate(String value) {
+        String loadedValue = loadedStrings.putIfAbsent(value, value);
+        return (loadedValue == null) ? value : loadedValue;
+    }
+
+    //@@author KuanHsienn
     /**
      * Converts a mark status string to a boolean value.
      *
      * @param markStatus The mark status string, expected to be "Y" or "N".
      * @return true if mark status is "Y"; false if it is "N".
-     * @throws IOException if the log file cannot be written to.
      */
-    private boolean getIsMarked(String markStatus) throws IOException {
+    private boolean getIsMarked(String markStatus) {
         if (markStatus.equalsIgnoreCase("Y")) {
             return true;
         } else if (markStatus.equalsIgnoreCase("N")) {
@@ -190,15 +239,18 @@ public class FileParser {
     }
 
     /**
-     * Logs a warning if an event associated with a participant or item could not be loaded.
+     * Returns true if a participant or item was loaded into its event. Otherwise, logs a warning that the
+     * associated event was not found, and returns false.
      *
-     * @param isLoaded Indicates whether the loading was successful.
-     * @throws IOException if the log file cannot be written to.
+     * @param isLoaded The name the entry was loaded with, or an empty string if it was not loaded.
+     * @return {@code true} if the entry was loaded, {@code false} otherwise.
      */
-    private void eventUnsuccessfulLoad(String isLoaded) throws IOException {
+    private boolean isEntryLoaded(String isLoaded) {
         if (isLoaded.equalsIgnoreCase("")) {
             logWarning("Associated event not found, entry not loaded");
+            return false;
         }
+        return true;
     }
 
     /**
@@ -215,25 +267,17 @@ public class FileParser {
      * Logs an info message to a log file.
      *
      * @param message the given warning message.
-     * @throws IOException if the log file cannot be written to.
      */
-    private void logInfo(String message) throws IOException {
-        FileHandler handler = new FileHandler("logs.txt", true);
-        logger.addHandler(handler);
+    private void logInfo(String message) {
         logger.info(message);
-        handler.close();
     }
 
     /**
      * Logs a warning message to a log file.
      *
      * @param message the given warning message.
-     * @throws IOException if the log file cannot be written to.
      */
-    private void logWarning(String message) throws IOException {
-        FileHandler handler = new FileHandler("logs.txt", true);
-        logger.addHandler(handler);
+    private void logWarning(String message) {
         logger.warning(message);
-        handler.close();
     }
 }
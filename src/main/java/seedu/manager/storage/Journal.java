@@ -0,0 +1,310 @@
+package seedu.manager.storage;
+
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.CSVWriter;
+import com.opencsv.exceptions.CsvException;
+import seedu.manager.command.AddCommand;
+import seedu.manager.command.Command;
+import seedu.manager.command.CopyCommand;
+import seedu.manager.command.EditEventCommand;
+import seedu.manager.command.EditItemCommand;
+import seedu.manager.command.EditParticipantCommand;
+import seedu.manager.command.MarkEventCommand;
+import seedu.manager.command.MarkItemCommand;
+import seedu.manager.command.MarkParticipantCommand;
+import seedu.manager.command.RemoveCommand;
+import seedu.manager.enumeration.Priority;
+import seedu.manager.event.EventList;
+import seedu.manager.logging.LogFile;
+import seedu.manager.parser.DateTimeParser;
+
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+
+//@@author jemehgoh
+/**
+ * Represents an append-only journal of the changes made to an event list since its last saved snapshot.
+ * Each change is stored as one CSV record, which is replayed over the snapshot when the events are loaded.
+ * <p>
+ * The journal file is kept open between appends, and each append is forced to the disk before it returns.
+ * </p>
+ * <p>
+ * When a snapshot that contains the changes in the journal is saved, the journal is first moved aside, so that
+ * it is never replayed over the snapshot that already contains it. The journal moved aside is deleted once the
+ * snapshot has replaced the saved file, or moved back if it has not. If the program stops in between, the
+ * journal moved aside is moved back when the events are next loaded only if the snapshot was not moved in.
+ * </p>
+ */
+public class Journal {
+    private static final String MARKED_STATUS = "Y";
+    private static final String ASIDE_FILE_SUFFIX = ".old";
+
+    private final Path filePath;
+    private final Path asideFilePath;
+    private final Logger logger;
+    private int recordCount;
+    private FileOutputStream output;
+    private CSVWriter writer;
+    private boolean hasAside;
+    private boolean isAsideCurrent;
+
+    /**
+     * Constructs a Journal stored at the specified file path.
+     *
+     * @param filePath the path to the journal file.
+     */
+    public Journal(String filePath) {
+        this.filePath = Path.of(filePath);
+        this.asideFilePath = Path.of(filePath + ASIDE_FILE_SUFFIX);
+        this.recordCount = 0;
+        logger = Logger.getLogger(Journal.class.getName());
+        logger.setUseParentHandlers(false);
+        LogFile.attach(logger);
+    }
+
+    /**
+     * Appends a record with the given fields to the end of the journal.
+     *
+     * @param fields the fields of the record.
+     * @throws IOException if the journal file cannot be written to.
+     */
+    public void append(String[] fields) throws IOException {
+        append(Collections.singletonList(fields));
+    }
+
+    /**
+     * Appends records to the end of the journal, in order, with a single write to the disk.
+     * A {@link JournalAppendEvent} is recorded for Flight Recorder.
+     *
+     * @param records the fields of each record.
+     * @throws IOException if the journal file cannot be written to.
+     */
+    public void append(List<String[]> records) throws IOException {
+        JournalAppendEvent appendEvent = new JournalAppendEvent();
+        appendEvent.begin();
+        try {
+            resolveAside();
+            if (writer == null) {
+                output = new FileOutputStream(filePath.toFile(), true);
+                writer = new CSVWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            }
+            long startPosition = appendEvent.isEnabled() ? output.getChannel().position() : 0;
+            records.forEach(writer::writeNext);
+            writer.flush();
+            output.getChannel().force(false);
+            if (appendEvent.shouldCommit()) {
+                appendEvent.recordCount = records.size();
+                appendEvent.bytesWritten = output.getChannel().position() - startPosition;
+                appendEvent.commit();
+            }
+        } catch (IOException exception) {
+            close();
+            throw new IOException("Error saving changes to file: " + filePath + ". Kindly close any opened files.");
+        }
+        recordCount += records.size();
+    }
+
+    /**
+     * Replays every record in the journal over the given event list, in the order they were appended.
+     * Records that cannot be parsed are skipped.
+     *
+     * @param events the event list to replay the records over.
+     * @throws IOException if the journal file cannot be read.
+     */
+    public void replay(EventList events) throws IOException {
+        if (!exists()) {
+            return;
+        }
+
+        try (CSVReader reader = new CSVReaderBuilder(new FileReader(filePath.toFile(),
+                StandardCharsets.UTF_8)).build()) {
+            String[] fields;
+            while ((fields = reader.readNext()) != null) {
+                replayRecord(events, fields);
+                recordCount++;
+            }
+        } catch (IOException | CsvException exception) {
+            throw new IOException("Error loading changes from file: " + filePath + ".");
+        }
+    }
+
+    /**
+     * Moves the journal aside, before a snapshot that contains its changes replaces the saved file.
+     * Nothing is moved if the journal is empty.
+     *
+     * @throws IOException if a journal moved aside earlier cannot be resolved, or the journal cannot be moved.
+     */
+    public void moveAside() throws IOException {
+        resolveAside();
+        close();
+        if (!exists()) {
+            return;
+        }
+
+        Files.move(filePath, asideFilePath, StandardCopyOption.ATOMIC_MOVE);
+        hasAside = true;
+        isAsideCurrent = true;
+    }
+
+    /**
+     * Deletes the journal moved aside, once the snapshot that contains its changes has replaced the saved file.
+     * If it cannot be deleted, it is deleted before the next append or save instead, and is never moved back.
+     */
+    public void discardAside() {
+        isAsideCurrent = false;
+        recordCount = 0;
+        try {
+            resolveAside();
+        } catch (IOException exception) {
+            logWarning("Journal moved aside cannot be deleted, deleting it later");
+        }
+    }
+
+    /**
+     * Moves the journal moved aside back, if its changes are not in the saved file, or deletes it otherwise.
+     * This is done before the journal is next appended to or moved aside.
+     *
+     * @throws IOException if the journal moved aside cannot be moved back or deleted.
+     */
+    public void resolveAside() throws IOException {
+        if (!hasAside) {
+            return;
+        }
+
+        if (isAsideCurrent) {
+            Files.move(asideFilePath, filePath, StandardCopyOption.ATOMIC_MOVE);
+        } else {
+            Files.deleteIfExists(asideFilePath);
+        }
+        hasAside = false;
+    }
+
+    /**
+     * Resolves a journal left aside by a save that was stopped, before the events are loaded. The journal moved
+     * aside is only moved back if the snapshot was not moved in, which is when its temporary file still exists
+     * and no journal was started after it.
+     *
+     * @param isSnapshotPending {@code true} if the temporary file of the snapshot still exists.
+     * @throws IOException if the journal moved aside cannot be moved back or deleted.
+     */
+    public void recoverAside(boolean isSnapshotPending) throws IOException {
+        hasAside = Files.exists(asideFilePath);
+        isAsideCurrent = isSnapshotPending && !exists();
+        resolveAside();
+    }
+
+    /**
+     * Closes the journal file, if it is open. The file is opened again by the next append.
+     */
+    public void close() {
+        if (writer == null) {
+            return;
+        }
+
+        try {
+            writer.close();
+        } catch (IOException exception) {
+            // Every append is already forced to the disk, so a failure to close the file loses nothing.
+        }
+        writer = null;
+        output = null;
+    }
+
+    /**
+     * Returns true if the journal file exists, returns false otherwise.
+     *
+     * @return {@code true} if the journal file exists, {@code false} otherwise.
+     */
+    public boolean exists() {
+        return Files.exists(filePath);
+    }
+
+    /**
+     * Returns the number of records in the journal.
+     *
+     * @return the number of records in the journal.
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Replays a single record over the given event list, by executing the command it describes.
+     *
+     * @param events the event list to replay the record over.
+     * @param fields the fields of the record.
+     */
+    private void replayRecord(EventList events, String[] fields) {
+        try {
+            Command command = getCommand(fields);
+            command.execute(events);
+        } catch (IndexOutOfBoundsException | ParseException | IllegalArgumentException exception) {
+            logWarning("Journal record cannot be parsed, change not loaded");
+        }
+    }
+
+    /**
+     * Returns the command described by the fields of a journal record.
+     *
+     * @param fields the fields of the record.
+     * @return the command described by fields.
+     * @throws IndexOutOfBoundsException if not all fields are present.
+     * @throws ParseException if the time field is not in the correct format.
+     * @throws IllegalArgumentException if the record type or the priority field is not valid.
+     */
+    private Command getCommand(String[] fields) throws IndexOutOfBoundsException, ParseException,
+            IllegalArgumentException {
+        switch (fields[0]) {
+        case AddCommand.ADD_EVENT_RECORD:
+            return new AddCommand(fields[1], DateTimeParser.parseDateTime(fields[2]), fields[3],
+                    Priority.valueOf(fields[4]));
+        case AddCommand.ADD_PARTICIPANT_RECORD:
+            return new AddCommand(fields[1], fields[2], fields[3]);
+        case AddCommand.ADD_ITEM_RECORD:
+            return new AddCommand(fields[1], fields[2]);
+        case RemoveCommand.REMOVE_EVENT_RECORD:
+            return new RemoveCommand(fields[1]);
+        case RemoveCommand.REMOVE_PARTICIPANT_RECORD:
+            return new RemoveCommand(fields[1], fields[2], true);
+        case RemoveCommand.REMOVE_ITEM_RECORD:
+            return new RemoveCommand(fields[1], fields[2], false);
+        case EditEventCommand.EDIT_EVENT_RECORD:
+            return new EditEventCommand(fields[1], fields[2], DateTimeParser.parseDateTime(fields[3]), fields[4],
+                    Priority.valueOf(fields[5]));
+        case EditParticipantCommand.EDIT_PARTICIPANT_RECORD:
+            return new EditParticipantCommand(fields[1], fields[2], fields[3], fields[4]);
+        case EditItemCommand.EDIT_ITEM_RECORD:
+            return new EditItemCommand(fields[1], fields[2], fields[3]);
+        case MarkEventCommand.MARK_EVENT_RECORD:
+            return new MarkEventCommand(fields[1], fields[2].equals(MARKED_STATUS));
+        case MarkParticipantCommand.MARK_PARTICIPANT_RECORD:
+            return new MarkParticipantCommand(fields[1], fields[2], fields[3].equals(MARKED_STATUS));
+        case MarkItemCommand.MARK_ITEM_RECORD:
+            return new MarkItemCommand(fields[1], fields[2], fields[3].equals(MARKED_STATUS));
+        case CopyCommand.COPY_RECORD:
+            return new CopyCommand(fields[1], fields[2]);
+        default:
+            throw new IllegalArgumentException("Unknown record type: " + fields[0]);
+        }
+    }
+
+    /**
+     * Logs a warning message to a log file.
+     *
+     * @param message the given warning message.
+     */
+    private void logWarning(String message) {
+        logger.warning(message);
+    }
+}
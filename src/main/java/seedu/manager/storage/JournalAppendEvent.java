@@ -0,0 +1,28 @@
+package seedu.manager.storage;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+//@@author jemehgoh
+/**
+ * Represents a Flight Recorder event for the appending of records to the journal, including forcing them to
+ * the disk.
+ */
+@Name("seedu.manager.JournalAppend")
+@Label("Journal Append")
+@Category({"EventManagerCLI", "Storage"})
+@Description("The appending of changes to the journal")
+@StackTrace(false)
+class JournalAppendEvent extends Event {
+    @Label("Record Count")
+    int recordCount;
+
+    @Label("Bytes Written")
+    @DataAmount
+    long bytesWritten;
+}
@@ -0,0 +1,353 @@
+package seedu.manager.storage;
+
+import seedu.manager.command.Command;
+import seedu.manager.event.ConcurrentEventList;
+import seedu.manager.event.EventList;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+//@@author jemehgoh
+/**
+ * Represents a background writer that saves the changes made to a shared event list, so that the thread making
+ * a change does not wait for the disk.
+ * <p>
+ * The journal record of each change is queued by {@link #saveChanges(EventList, Command)}, which is called while
+ * the change is made under the write lock of the {@link ConcurrentEventList}. The persister thread appends every
+ * queued record to the journal at once, so that a burst of changes is saved with a single forced write. Once the
+ * journal is due to be compacted, the events are written to a temporary file under the read lock, and the
+ * temporary file is forced to the disk and renamed over the saved file after the lock is released.
+ * </p>
+ * <p>
+ * Each queued change is numbered with a version. {@link #getPersistedVersion()} returns the version of the last
+ * change saved to the disk, and {@link #flush()} waits until every queued change is saved. Changes that cannot
+ * be saved are retried until the persister is closed.
+ * </p>
+ */
+public class Persister {
+    private static final long RETRY_DELAY_MILLIS = 1000;
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+    private final Storage storage;
+    private final ConcurrentEventList events;
+    private final Thread thread;
+    private final ReentrantLock lock;
+    private final Condition changesQueued;
+    private final Condition changesPersisted;
+    private List<String[]> pendingRecords;
+    private long version;
+    private long persistedVersion;
+    private long takenVersion;
+    private IOException writeError;
+    private boolean isClosed;
+    private Path snapshotFilePath;
+    private List<String[]> snapshotRecords;
+    private long snapshotVersion;
+    private SaveEvent snapshotSaveEvent;
+
+    /**
+     * Constructs a Persister that saves the changes made to a shared event list, and starts its thread.
+     *
+     * @param storage the storage that the changes are saved to.
+     * @param events the shared event list.
+     */
+    public Persister(Storage storage, ConcurrentEventList events) {
+        this.storage = storage;
+        this.events = events;
+        this.lock = new ReentrantLock();
+        this.changesQueued = lock.newCondition();
+        this.changesPersisted = lock.newCondition();
+        this.pendingRecords = new ArrayList<>();
+        this.thread = new Thread(this::run, "persister");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Queues the change made by a command to be saved, and returns its version.
+     * Nothing is queued if the command is read-only or did not change the events, or if the persister is closed.
+     * <p>
+     * This must be called while holding the write lock of the shared event list, in the same critical section
+     * as the command is executed.
+     * </p>
+     *
+     * @param changedEvents the event list the command was executed on.
+     * @param command the command that was executed.
+     * @return the version of the change, or the version of the last change queued if nothing was queued.
+     */
+    public long saveChanges(EventList changedEvents, Command command) {
+        if (command.isReadOnly() || !changedEvents.isDirty()) {
+            return getVersion();
+        }
+
+        String[] journalFields = command.getJournalFields();
+        assert journalFields != null : "Commands that change the events must have a journal record";
+        long changeVersion;
+        lock.lock();
+        try {
+            if (isClosed) {
+                return version;
+            }
+            pendingRecords.add(journalFields);
+            version++;
+            changeVersion = version;
+            changesQueued.signal();
+        } finally {
+            lock.unlock();
+        }
+        changedEvents.markClean();
+        return changeVersion;
+    }
+
+    /**
+     * Returns the version of the last change queued.
+     *
+     * @return the version of the last change queued.
+     */
+    public long getVersion() {
+        lock.lock();
+        try {
+            return version;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the version of the last change saved to the disk.
+     *
+     * @return the version of the last change saved to the disk.
+     */
+    public long getPersistedVersion() {
+        lock.lock();
+        try {
+            return persistedVersion;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until every change queued so far is saved to the disk.
+     *
+     * @throws IOException if the changes could not be saved.
+     */
+    public void flush() throws IOException {
+        lock.lock();
+        try {
+            long targetVersion = version;
+            while (persistedVersion < targetVersion) {
+                if (writeError != null) {
+                    throw writeError;
+                }
+                if (!thread.isAlive()) {
+                    throw new IOException("Changes could not be saved, as saving has stopped.");
+                }
+                changesPersisted.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Throws the error that stopped the last attempt to save the changes, if that attempt failed.
+     * Each error is only thrown once.
+     *
+     * @throws IOException if the last attempt to save the changes failed.
+     */
+    public void checkError() throws IOException {
+        lock.lock();
+        try {
+            IOException error = writeError;
+            writeError = null;
+            if (error != null) {
+                throw error;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Saves every queued change, and stops the persister thread. Changes queued afterwards are not saved.
+     * If the changes cannot be saved, the storage is marked as having unsaved changes, so that the next
+     * {@link Storage#saveInfo(EventList)} saves the events in full.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            isClosed = true;
+            changesQueued.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            thread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Saves the queued changes as they arrive, until the persister is closed and every change is saved.
+     */
+    private void run() {
+        List<String[]> records;
+        while ((records = takePendingRecords()) != null) {
+            long batchVersion = takenVersion;
+            try {
+                storage.appendChanges(records);
+            } catch (IOException exception) {
+                requeue(records);
+                if (!handleError(exception)) {
+                    return;
+                }
+                continue;
+            }
+            markPersisted(batchVersion);
+
+            if (storage.isCompactionDue()) {
+                try {
+                    compact();
+                } catch (IOException exception) {
+                    handleError(exception);
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits for changes to be queued, and takes every queued record, noting the version of the last one.
+     *
+     * @return the queued records, or null if the persister is closed and there are no records left.
+     */
+    private List<String[]> takePendingRecords() {
+        lock.lock();
+        try {
+            while (pendingRecords.isEmpty() && !isClosed) {
+                changesQueued.awaitUninterruptibly();
+            }
+            if (pendingRecords.isEmpty()) {
+                return null;
+            }
+
+            List<String[]> records = pendingRecords;
+            takenVersion = version;
+            pendingRecords = new ArrayList<>();
+            return records;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Saves the events to the file in full, clearing the journal, along with every change queued so far.
+     * The changes taken with the snapshot are only queued again if the file was not replaced, as the file and
+     * journal are then unchanged. A {@link SaveEvent} is recorded for Flight Recorder.
+     *
+     * @throws IOException if the events could not be saved.
+     */
+    private void compact() throws IOException {
+        snapshotSaveEvent = new SaveEvent();
+        snapshotSaveEvent.begin();
+        events.read(this::writeSnapshot);
+        try {
+            storage.replaceFile(snapshotFilePath);
+        } catch (IOException exception) {
+            requeue(snapshotRecords);
+            throw exception;
+        }
+        snapshotSaveEvent.commit();
+        markPersisted(snapshotVersion);
+    }
+
+    /**
+     * Writes the events to a temporary file, and takes every queued record, as the file contains their changes.
+     * This is called under the read lock of the shared event list, so that no change is made in between.
+     *
+     * @param readEvents the events to be written.
+     * @throws IOException if the events could not be written.
+     */
+    private void writeSnapshot(EventList readEvents) throws IOException {
+        lock.lock();
+        try {
+            snapshotRecords = pendingRecords;
+            snapshotVersion = version;
+            pendingRecords = new ArrayList<>();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            snapshotFilePath = storage.writeTempFile(readEvents);
+            snapshotSaveEvent.setSaved(readEvents, storage.getFormat(), snapshotFilePath);
+        } catch (IOException exception) {
+            requeue(snapshotRecords);
+            throw exception;
+        }
+    }
+
+    /**
+     * Puts records that could not be saved back at the front of the queue.
+     *
+     * @param records the records that could not be saved.
+     */
+    private void requeue(List<String[]> records) {
+        lock.lock();
+        try {
+            records.addAll(pendingRecords);
+            pendingRecords = records;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records that the changes up to a given version are saved, and wakes every thread waiting for them.
+     *
+     * @param savedVersion the version of the last change saved.
+     */
+    private void markPersisted(long savedVersion) {
+        lock.lock();
+        try {
+            persistedVersion = Math.max(persistedVersion, savedVersion);
+            writeError = null;
+            changesPersisted.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records an error that stopped the changes from being saved, and waits before the changes are retried.
+     * If the persister is closed, the storage is marked as having unsaved changes instead.
+     *
+     * @param exception the error.
+     * @return true if the changes are to be retried, false if the persister is closed.
+     */
+    private boolean handleError(IOException exception) {
+        lock.lock();
+        try {
+            writeError = exception;
+            changesPersisted.signalAll();
+            if (isClosed) {
+                storage.markUnsaved();
+                return false;
+            }
+            changesQueued.await(RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException interruption) {
+            Thread.currentThread().interrupt();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.manager.storage;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import seedu.manager.enumeration.StorageFormat;
+import seedu.manager.event.EventList;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+//@@author jemehgoh
+/**
+ * Represents a Flight Recorder event for the saving of the events to file in full, from writing the temporary
+ * file to replacing the saved file with it.
+ */
+@Name("seedu.manager.Save")
+@Label("Save")
+@Category({"EventManagerCLI", "Storage"})
+@Description("The saving of every event to file")
+@StackTrace(false)
+class SaveEvent extends Event {
+    @Label("Format")
+    String format;
+
+    @Label("Event Count")
+    int eventCount;
+
+    @Label("Participant Count")
+    int participantCount;
+
+    @Label("Item Count")
+    int itemCount;
+
+    @Label("Bytes Written")
+    @DataAmount
+    long bytesWritten;
+
+    /**
+     * Sets the fields of the event from the events saved and the temporary file they were written to.
+     * The events are only counted if the event is being recorded.
+     *
+     * @param events the events saved.
+     * @param savedFormat the format the events were saved in.
+     * @param tempFilePath the temporary file the events were written to.
+     * @throws IOException if the size of the temporary file cannot be read.
+     */
+    void setSaved(EventList events, StorageFormat savedFormat, Path tempFilePath) throws IOException {
+        if (!isEnabled()) {
+            return;
+        }
+
+        format = savedFormat.name();
+        eventCount = events.getListSize();
+        for (int i = 0; i < eventCount; i++) {
+            participantCount += events.getEvent(i).getParticipantCount();
+            itemCount += events.getEvent(i).getItemCount();
+        }
+        bytesWritten = Files.size(tempFilePath);
+    }
+}
@@ -0,0 +1,425 @@
+package seedu.manager.storage;
+
+import seedu.manager.enumeration.Priority;
+import seedu.manager.event.Event;
+import seedu.manager.event.EventList;
+import seedu.manager.item.Item;
+import seedu.manager.item.Participant;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+//@@author jemehgoh
+/**
+ * Represents the binary snapshot format of the events, a compact alternative to the CSV file.
+ * <p>
+ * A snapshot starts with a header of four integers: the magic number, the format version, the length of the body
+ * and the CRC-32 checksum of the body. The body is a table of every distinct string, followed by the events.
+ * Each event is its name, time, venue, priority and done status, followed by a block of its participants and a
+ * block of its items, each block starting with its length. Strings are stored once in the table, and referred
+ * to by their index, so the name of an event is not repeated for each of its participants and items.
+ * </p>
+ * <p>
+ * A snapshot is read with a single read of the whole file, and its participants and items are added straight
+ * to the event they belong to, without looking the event up by name. The file is read rather than mapped into
+ * memory, as a mapped file cannot be replaced on some platforms until it is unmapped, which would stop the
+ * next save from replacing it.
+ * </p>
+ */
+public class SnapshotFile {
+    private static final int MAGIC_NUMBER = 0x454d4353;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 * Integer.BYTES;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MIN_STRING_SIZE = Integer.BYTES;
+    private static final int MIN_EVENT_SIZE = 4 * Integer.BYTES + Long.BYTES + 2;
+    private static final int PARTICIPANT_SIZE = 2 * Integer.BYTES + 1;
+    private static final int ITEM_SIZE = Integer.BYTES + 1;
+    private static final byte TRUE_FLAG = 1;
+    private static final byte FALSE_FLAG = 0;
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private final Path path;
+
+    /**
+     * Constructs a SnapshotFile at a given path.
+     *
+     * @param path the path to the snapshot file.
+     */
+    public SnapshotFile(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Returns true if the file at a given path is a snapshot, and false if it is missing or in any other format.
+     *
+     * @param path the path to the file.
+     * @return true if the file is a snapshot, false otherwise.
+     * @throws IOException if the file exists but cannot be read.
+     */
+    public static boolean isSnapshot(Path path) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return false;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer magicNumber = ByteBuffer.allocate(Integer.BYTES);
+            while (magicNumber.hasRemaining() && channel.read(magicNumber) >= 0) {
+                // Keep reading until the magic number is read in full, or the file ends.
+            }
+            return !magicNumber.hasRemaining() && magicNumber.getInt(0) == MAGIC_NUMBER;
+        }
+    }
+
+    /**
+     * Writes the events to the snapshot file, replacing its contents.
+     *
+     * @param events the events to be written.
+     * @throws IOException if the file cannot be written to.
+     */
+    public void write(EventList events) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            SnapshotWriter writer = new SnapshotWriter(channel);
+            writer.writeStringTable(events);
+            writer.writeEvents(events);
+            writer.finish();
+        }
+    }
+
+    /**
+     * Reads the events in the snapshot file into an event list.
+     *
+     * @param events the event list to read the events into.
+     * @throws IOException if the file cannot be read, or is not a valid snapshot.
+     */
+    public void read(EventList events) throws IOException {
+        ByteBuffer buffer = readFile();
+        try {
+            checkHeader(buffer);
+            String[] strings = readStringTable(buffer);
+            int eventCount = readCount(buffer, MIN_EVENT_SIZE);
+            for (int i = 0; i < eventCount; i++) {
+                readEvent(buffer, strings, events);
+            }
+            if (buffer.hasRemaining()) {
+                throw new IllegalArgumentException("Trailing bytes after the last event");
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+                 | DateTimeException exception) {
+            throw new IOException("Snapshot file is corrupted: " + path);
+        }
+    }
+
+    /**
+     * Reads the whole snapshot file into a buffer.
+     *
+     * @return a buffer holding the contents of the file.
+     * @throws IOException if the file cannot be read, or is too large to be a snapshot.
+     */
+    private ByteBuffer readFile() throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot file is too large: " + path);
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) fileSize);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Keep reading until the whole file is read.
+            }
+            return buffer.flip();
+        }
+    }
+
+    /**
+     * Checks the header of a snapshot against its body, leaving the buffer at the start of the body.
+     *
+     * @param buffer the buffer holding the snapshot.
+     * @throws IOException if the snapshot has the wrong magic number, version, length or checksum.
+     */
+    private void checkHeader(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC_NUMBER) {
+            throw new IOException("File is not a snapshot: " + path);
+        }
+        if (buffer.getInt() != VERSION) {
+            throw new IOException("Unsupported snapshot version: " + path);
+        }
+
+        int bodyLength = buffer.getInt();
+        int checksum = buffer.getInt();
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate());
+        if (bodyLength != buffer.remaining() || checksum != (int) crc.getValue()) {
+            throw new IOException("Snapshot file is corrupted: " + path);
+        }
+    }
+
+    /**
+     * Reads the table of strings at the start of the snapshot body.
+     *
+     * @param buffer the buffer holding the snapshot, at the start of the table.
+     * @return the strings in the table, in order.
+     * @throws IllegalArgumentException if the table has an invalid number of strings, or a string of an
+     *         invalid length.
+     */
+    private static String[] readStringTable(ByteBuffer buffer) throws IllegalArgumentException {
+        String[] strings = new String[readCount(buffer, MIN_STRING_SIZE)];
+        for (int i = 0; i < strings.length; i++) {
+            int byteLength = readCount(buffer, 1);
+            strings[i] = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), byteLength,
+                    StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + byteLength);
+        }
+        return strings;
+    }
+
+    /**
+     * Reads an event, with its participants and items, and adds it to an event list.
+     *
+     * @param buffer the buffer holding the snapshot, at the start of the event.
+     * @param strings the table of strings of the snapshot.
+     * @param events the event list to add the event to.
+     * @throws IllegalArgumentException if the event has an invalid field, or an invalid number of participants
+     *         or items.
+     * @throws DateTimeException if the time of the event is out of range.
+     */
+    private static void readEvent(ByteBuffer buffer, String[] strings, EventList events)
+            throws IllegalArgumentException, DateTimeException {
+        String eventName = strings[buffer.getInt()];
+        LocalDateTime time = LocalDateTime.ofEpochSecond(buffer.getLong(), 0, ZoneOffset.UTC);
+        String venue = strings[buffer.getInt()];
+        Priority priority = PRIORITIES[buffer.get()];
+        boolean isDone = readFlag(buffer);
+        events.addEvent(eventName, time, venue, priority, isDone);
+        Event event = events.getEvent(events.getListSize() - 1);
+
+        int participantCount = readCount(buffer, PARTICIPANT_SIZE);
+        for (int i = 0; i < participantCount; i++) {
+            String participantName = strings[buffer.getInt()];
+            String email = strings[buffer.getInt()];
+            event.addParticipant(participantName, email, readFlag(buffer));
+        }
+
+        int itemCount = readCount(buffer, ITEM_SIZE);
+        for (int i = 0; i < itemCount; i++) {
+            String itemName = strings[buffer.getInt()];
+            event.addItem(itemName, readFlag(buffer));
+        }
+    }
+
+    /**
+     * Reads the number of entries in a block, checking that it is not negative and that the rest of the
+     * buffer can hold that many entries of a given smallest size. This stops a corrupted count from allocating
+     * more than the file could hold.
+     *
+     * @param buffer the buffer holding the snapshot, at the count.
+     * @param minEntrySize the smallest size of an entry in the block, in bytes.
+     * @return the number of entries read.
+     * @throws IllegalArgumentException if the count is negative, or too large for the rest of the buffer.
+     */
+    private static int readCount(ByteBuffer buffer, int minEntrySize) throws IllegalArgumentException {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining() / minEntrySize) {
+            throw new IllegalArgumentException("Invalid count: " + count);
+        }
+        return count;
+    }
+
+    /**
+     * Reads a flag stored as a single byte.
+     *
+     * @param buffer the buffer holding the snapshot, at the flag.
+     * @return the flag read.
+     * @throws IllegalArgumentException if the byte is not a valid flag.
+     */
+    private static boolean readFlag(ByteBuffer buffer) throws IllegalArgumentException {
+        byte flag = buffer.get();
+        if (flag != TRUE_FLAG && flag != FALSE_FLAG) {
+            throw new IllegalArgumentException("Invalid flag: " + flag);
+        }
+        return flag == TRUE_FLAG;
+    }
+
+    /**
+     * Represents the writing of a snapshot body to a file channel, through a buffer, while its checksum is
+     * computed. The header is written once the body is complete.
+     */
+    private static class SnapshotWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private final CRC32 crc;
+        private final Map<String, Integer> stringIndexes;
+        private long bodyLength;
+
+        /**
+         * Constructs a SnapshotWriter that writes to a given file channel.
+         *
+         * @param channel the file channel to write to.
+         * @throws IOException if the channel cannot be written to.
+         */
+        private SnapshotWriter(FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            this.crc = new CRC32();
+            this.stringIndexes = new HashMap<>();
+            channel.position(HEADER_SIZE);
+        }
+
+        /**
+         * Writes the table of every distinct string used by the events.
+         *
+         * @param events the events to be written.
+         * @throws IOException if the channel cannot be written to.
+         */
+        private void writeStringTable(EventList events) throws IOException {
+            for (Event event : events.getList()) {
+                addString(event.getEventName());
+                addString(event.getEventVenue());
+                for (Participant participant : event.getParticipantList()) {
+                    addString(participant.getName());
+                    addString(participant.getEmail());
+                }
+                for (Item item : event.getItemList()) {
+                    addString(item.getName());
+                }
+            }
+
+            String[] strings = new String[stringIndexes.size()];
+            stringIndexes.forEach((string, index) -> strings[index] = string);
+            ensureSpace(Integer.BYTES).putInt(strings.length);
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                ensureSpace(Integer.BYTES).putInt(bytes.length);
+                writeBytes(bytes);
+            }
+        }
+
+        /**
+         * Writes the events, each followed by its participants and items.
+         *
+         * @param events the events to be written.
+         * @throws IOException if the channel cannot be written to.
+         */
+        private void writeEvents(EventList events) throws IOException {
+            ensureSpace(Integer.BYTES).putInt(events.getListSize());
+            for (Event event : events.getList()) {
+                ensureSpace(3 * Integer.BYTES + Long.BYTES + 2)
+                        .putInt(stringIndexes.get(event.getEventName()))
+                        .putLong(event.getEventTime().toEpochSecond(ZoneOffset.UTC))
+                        .putInt(stringIndexes.get(event.getEventVenue()))
+                        .put((byte) event.getEventPriority().ordinal())
+                        .put(toFlag(event.isDone()))
+                        .putInt(event.getParticipantCount());
+
+                for (Participant participant : event.getParticipantList()) {
+                    ensureSpace(2 * Integer.BYTES + 1)
+                            .putInt(stringIndexes.get(participant.getName()))
+                            .putInt(stringIndexes.get(participant.getEmail()))
+                            .put(toFlag(participant.isPresent()));
+                }
+
+                ensureSpace(Integer.BYTES).putInt(event.getItemCount());
+                for (Item item : event.getItemList()) {
+                    ensureSpace(Integer.BYTES + 1)
+                            .putInt(stringIndexes.get(item.getName()))
+                            .put(toFlag(item.isPresent()));
+                }
+            }
+        }
+
+        /**
+         * Writes out the rest of the body, followed by the header at the start of the file.
+         *
+         * @throws IOException if the channel cannot be written to, or the body is too large.
+         */
+        private void finish() throws IOException {
+            flush();
+            if (bodyLength > Integer.MAX_VALUE - HEADER_SIZE) {
+                throw new IOException("Too many events to be saved in a snapshot");
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC_NUMBER).putInt(VERSION)
+                    .putInt((int) bodyLength).putInt((int) crc.getValue()).flip();
+            while (header.hasRemaining()) {
+                channel.write(header, HEADER_SIZE - header.remaining());
+            }
+        }
+
+        /**
+         * Adds a string to the string table, if it is not already in it.
+         *
+         * @param string the string to be added.
+         */
+        private void addString(String string) {
+            stringIndexes.putIfAbsent(string, stringIndexes.size());
+        }
+
+        /**
+         * Writes a string's bytes, which may be longer than the buffer.
+         *
+         * @param bytes the bytes to be written.
+         * @throws IOException if the channel cannot be written to.
+         */
+        private void writeBytes(byte[] bytes) throws IOException {
+            int offset = 0;
+            while (offset < bytes.length) {
+                int length = Math.min(bytes.length - offset, BUFFER_SIZE);
+                ensureSpace(length).put(bytes, offset, length);
+                offset += length;
+            }
+        }
+
+        /**
+         * Returns the buffer, after writing it out if it does not have a given amount of space left.
+         *
+         * @param byteCount the number of bytes to be put in the buffer.
+         * @return the buffer.
+         * @throws IOException if the channel cannot be written to.
+         */
+        private ByteBuffer ensureSpace(int byteCount) throws IOException {
+            assert byteCount <= BUFFER_SIZE : "Cannot put more than a buffer of bytes at once";
+            if (buffer.remaining() < byteCount) {
+                flush();
+            }
+            return buffer;
+        }
+
+        /**
+         * Writes out the contents of the buffer, adding them to the checksum, and clears the buffer.
+         *
+         * @throws IOException if the channel cannot be written to.
+         */
+        private void flush() throws IOException {
+            buffer.flip();
+            bodyLength += buffer.remaining();
+            crc.update(buffer.duplicate());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        /**
+         * Returns the byte stored for a flag.
+         *
+         * @param flag the flag.
+         * @return the byte stored for flag.
+         */
+        private static byte toFlag(boolean flag) {
+            return flag ? TRUE_FLAG : FALSE_FLAG;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.manager.storage;
 
 import com.opencsv.CSVWriter;
+import seedu.manager.command.Command;
+import seedu.manager.enumeration.StorageFormat;
 import seedu.manager.event.EventList;
 import seedu.manager.event.Event;
 import seedu.manager.item.Item;
@@ -8,16 +10,41 @@ import seedu.manager.item.Participant;
 
 import java.io.FileWriter;
 import java.io.IOException;
-import java.util.List;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 //@@author KuanHsienn
 /**
  * This class is responsible for handling the storage of event data.
  * It provides methods to save and load event information from a CSV file.
+ *
+ * <p>
+ * Changes made after the CSV file is saved are appended to a {@link Journal} next to it, so that a
+ * change does not require the whole file to be rewritten. Once the journal grows long enough, it is
+ * compacted by saving the CSV file again.
+ * </p>
+ * <p>
+ * The events may also be saved as a binary {@link SnapshotFile}. The format of the file is detected when it is
+ * loaded, and the file is saved in the same format, unless another format is set with
+ * {@link #setFormat(StorageFormat)}. Setting a format thus imports a CSV file into a snapshot, or exports a
+ * snapshot to a CSV file, on the next save.
+ * </p>
  */
 public class Storage {
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int JOURNAL_COMPACTION_THRESHOLD = 100;
+
     private final String filePath;
+    private final Journal journal;
+    private StorageFormat format;
+    private StorageFormat fileFormat;
+    private boolean hasUnsavedChanges;
 
     /**
      * Constructs a Storage object with the specified file path.
@@ -30,16 +57,186 @@ public class Storage {
             assert isValidFilePath(filePath) : "Invalid file path: " + filePath;
         }
         this.filePath = filePath;
+        this.journal = new Journal(filePath + JOURNAL_FILE_SUFFIX);
+        this.fileFormat = StorageFormat.CSV;
+    }
+
+    //@@author jemehgoh
+    /**
+     * Sets the format that the events are saved in, in place of the format of the loaded file.
+     *
+     * @param format the format to save the events in.
+     */
+    public void setFormat(StorageFormat format) {
+        this.format = format;
+    }
+
+    /**
+     * Returns the format that the events are saved in.
+     *
+     * @return the format set with {@link #setFormat(StorageFormat)}, or the format of the loaded file if none
+     *         was set.
+     */
+    public StorageFormat getFormat() {
+        return (format != null) ? format : fileFormat;
     }
 
+    //@@author KuanHsienn
     /**
-     * Saves the event information to the specified file.
+     * Saves the event information to the specified file, and clears the journal of changes it now contains.
+     * Nothing is written if there are no changes since the file was last saved, and the file is already in
+     * the format to be saved in.
+     *
+     * <p>
+     * The events are first written to a temporary file, which is forced to the disk and then replaces the file,
+     * so that an interrupted save does not leave a partially written file behind.
+     * </p>
+     * <p>
+     * A {@link SaveEvent} is recorded for Flight Recorder whenever the events are written.
+     * </p>
      *
      * @param events The EventList containing the events to be saved.
      * @throws IOException If there is an error saving data to the file.
      */
     public void saveInfo(EventList events) throws IOException {
-        try (CSVWriter writer = new CSVWriter(new FileWriter(filePath, StandardCharsets.UTF_8))) {
+        StorageFormat saveFormat = getFormat();
+        if (!events.isDirty() && !hasUnsavedChanges && !journal.exists() && Files.exists(Path.of(filePath))
+                && saveFormat == fileFormat) {
+            return;
+        }
+
+        SaveEvent saveEvent = new SaveEvent();
+        saveEvent.begin();
+        Path tempFilePath = writeTempFile(events);
+        saveEvent.setSaved(events, saveFormat, tempFilePath);
+        replaceFile(tempFilePath);
+        saveEvent.commit();
+        events.markClean();
+    }
+
+    //@@author jemehgoh
+    /**
+     * Writes the event information to a temporary file next to the file, in the format to be saved in.
+     * The temporary file is not forced to the disk.
+     *
+     * @param events The EventList containing the events to be written.
+     * @return The path to the temporary file.
+     * @throws IOException If there is an error writing data to the file.
+     */
+    Path writeTempFile(EventList events) throws IOException {
+        journal.resolveAside();
+        Path tempFilePath = getTempFilePath();
+        if (getFormat() == StorageFormat.BINARY) {
+            writeSnapshot(events, tempFilePath);
+        } else {
+            writeEvents(events, tempFilePath);
+        }
+        return tempFilePath;
+    }
+
+    /**
+     * Forces a temporary file written by {@link #writeTempFile(EventList)} to the disk, replaces the file with it,
+     * and discards the journal of the changes it now contains.
+     *
+     * <p>
+     * The journal is moved aside before the file is replaced, so that it is never replayed over the new file,
+     * even if the program stops before the journal is deleted. If the file is not replaced, the journal is
+     * moved back.
+     * </p>
+     *
+     * @param tempFilePath The path to the temporary file.
+     * @throws IOException If the file could not be replaced, in which case the file and journal are unchanged.
+     */
+    void replaceFile(Path tempFilePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(tempFilePath, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        try {
+            journal.moveAside();
+            Files.move(tempFilePath, Path.of(filePath), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            try {
+                journal.resolveAside();
+            } catch (IOException restoreException) {
+                // The journal is moved back before the next append or save instead.
+            }
+            throw new IOException("Error saving data to file: " + filePath + ". Kindly close any opened files.");
+        }
+        journal.discardAside();
+        fileFormat = getFormat();
+        hasUnsavedChanges = false;
+    }
+
+    /**
+     * Returns the path of the temporary file that the events are written to before they replace the file.
+     *
+     * @return The path to the temporary file.
+     */
+    private Path getTempFilePath() {
+        return Path.of(filePath + TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Marks the events as having changes that could not be saved, so that the next save writes them in full.
+     */
+    void markUnsaved() {
+        hasUnsavedChanges = true;
+    }
+
+    /**
+     * Appends the records of several changes to the journal, with a single write to the disk.
+     *
+     * @param records The journal records of the changes, in the order the changes were made.
+     * @throws IOException If there is an error saving the changes.
+     */
+    void appendChanges(List<String[]> records) throws IOException {
+        journal.append(records);
+    }
+
+    /**
+     * Returns true if the journal holds enough changes for the events to be saved to the file instead.
+     *
+     * @return {@code true} if the journal is due to be compacted, {@code false} otherwise.
+     */
+    boolean isCompactionDue() {
+        return journal.getRecordCount() >= JOURNAL_COMPACTION_THRESHOLD;
+    }
+
+    //@@author KuanHsienn
+
+    /**
+     * Saves the changes made by a command to the journal.
+     * Nothing is saved if the command is read-only or did not change the events. Once the journal holds
+     * enough changes, the events are saved to the file instead, and the journal is cleared.
+     *
+     * @param events The EventList the command was executed on.
+     * @param command The command that was executed.
+     * @throws IOException If there is an error saving the changes.
+     */
+    public void saveChanges(EventList events, Command command) throws IOException {
+        if (command.isReadOnly() || !events.isDirty()) {
+            return;
+        }
+
+        String[] journalFields = command.getJournalFields();
+        assert journalFields != null : "Commands that change the events must have a journal record";
+        journal.append(journalFields);
+        events.markClean();
+        if (isCompactionDue()) {
+            saveInfo(events);
+        }
+    }
+
+    /**
+     * Writes the event information to the specified file in CSV format.
+     *
+     * @param events The EventList containing the events to be written.
+     * @param path The path to the file to be written to.
+     * @throws IOException If there is an error writing data to the file.
+     */
+    private void writeEvents(EventList events, Path path) throws IOException {
+        try (CSVWriter writer = new CSVWriter(new FileWriter(path.toFile(), StandardCharsets.UTF_8))) {
             for (Event event : events.getList()) {
                 writer.writeNext(getEventFields(event));
 
@@ -56,15 +253,47 @@ public class Storage {
         }
     }
 
+    //@@author jemehgoh
     /**
-     * Loads the event information from the specified file.
+     * Writes the event information to the specified file as a binary snapshot.
+     *
+     * @param events The EventList containing the events to be written.
+     * @param path The path to the file to be written to.
+     * @throws IOException If there is an error writing data to the file.
+     */
+    private void writeSnapshot(EventList events, Path path) throws IOException {
+        try {
+            new SnapshotFile(path).write(events);
+        } catch (IOException exception) {
+            throw new IOException("Error saving data to file: " + filePath + ". Kindly close any opened files.");
+        }
+    }
+
+    //@@author KuanHsienn
+    /**
+     * Loads the event information from the specified file, then replays the changes saved in the journal.
+     * The file is loaded as a binary snapshot if it starts with the snapshot magic number, and as a CSV file
+     * otherwise. A journal left aside by a save that was stopped is first moved back or deleted.
      *
      * @param events The EventList to load events into.
      * @throws IOException If there is an error loading data from the file.
      */
     public void loadInfo(EventList events) throws IOException {
-        FileParser parser = new FileParser();
-        parser.parseFile(events, filePath);
+        journal.recoverAside(Files.exists(getTempFilePath()));
+        if (journal.exists() && !Files.exists(Path.of(filePath))) {
+            journal.replay(events);
+            return;
+        }
+
+        if (SnapshotFile.isSnapshot(Path.of(filePath))) {
+            fileFormat = StorageFormat.BINARY;
+            new SnapshotFile(Path.of(filePath)).read(events);
+        } else {
+            fileFormat = StorageFormat.CSV;
+            FileParser parser = new FileParser();
+            parser.parseFile(events, filePath);
+        }
+        journal.replay(events);
     }
 
     /**
@@ -94,9 +323,8 @@ public class Storage {
      * @return A String array representing the event fields.
      */
     private static String[] getEventFields(Event event) {
-        List<String> fieldsList = List.of("EVENT", event.getEventName(), event.getEventTimeString(),
-                event.getEventVenue(), event.getEventPriorityString(), event.markIfDone());
-        return fieldsList.toArray(new String[6]);
+        return new String[]{"EVENT", event.getEventName(), event.getEventTimeString(), event.getEventVenue(),
+                event.getEventPriorityString(), event.markIfDone()};
     }
 
     /**
@@ -107,9 +335,8 @@ public class Storage {
      * @return A String array representing the participant fields.
      */
     private String[] getParticipantFields(Participant participant, Event event) {
-        List<String> fieldsList = List.of("PARTICIPANT", participant.getName(),
-                participant.getEmail(), event.getEventName(), participant.markFileLineIfPresent());
-        return fieldsList.toArray(new String[5]);
+        return new String[]{"PARTICIPANT", participant.getName(), participant.getEmail(), event.getEventName(),
+                participant.markFileLineIfPresent()};
     }
 
     /**
@@ -120,7 +347,6 @@ public class Storage {
      * @return A String array representing the item fields.
      */
     private String[] getItemFields(Event event, Item item) {
-        List<String> fieldsList = List.of("ITEM", item.getName(), event.getEventName(), item.markFileLineIfPresent());
-        return fieldsList.toArray(new String[4]);
+        return new String[]{"ITEM", item.getName(), event.getEventName(), item.markFileLineIfPresent()};
     }
 }
@@ -0,0 +1,18 @@
+package seedu.manager.ui;
+
+//@@author jemehgoh
+/**
+ * Represents an object that is shown to the user as one line of text.
+ * <p>
+ * The line is appended to a given {@link StringBuilder}, so that many lines can be built into one buffer
+ * without creating a string for each line.
+ * </p>
+ */
+public interface Renderable {
+    /**
+     * Appends the line of text showing this object to a given {@link StringBuilder}.
+     *
+     * @param output the builder to append the line to.
+     */
+    void appendTo(StringBuilder output);
+}
@@ -2,7 +2,11 @@ package seedu.manager.ui;
 
 import seedu.manager.command.Command;
 
-import java.util.Scanner;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
 
@@ -14,16 +18,35 @@ public class Ui {
     private static final String WELCOME_MESSAGE = "Welcome to EventManagerCLI.";
     private static final String COMMAND_PROMPT_MESSAGE = "Enter a command: ";
     private static final String SEPARATOR = "------------------------";
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
 
-    private final Scanner userInput;
+    private final BufferedReader userInput;
     private final PrintStream utf8;
+    private final boolean isBatchMode;
 
     /**
-     * Constructs a new Ui
+     * Constructs a new Ui that reads commands from standard input and prompts the user for each command.
      */
     public Ui() {
-        this.userInput = new Scanner(System.in);
-        this.utf8 = new PrintStream(System.out, true, StandardCharsets.UTF_8);
+        this(System.in, false);
+    }
+
+    /**
+     * Constructs a new Ui that reads commands from a given input stream.
+     * <p>
+     * Output is buffered, so that a long command output is written out in large blocks. Outside batch mode,
+     * any buffered output is written out at the end of each message. In batch mode, no command prompt is shown,
+     * and output is only written out when the buffer is full or {@link #flush()} is called.
+     * </p>
+     *
+     * @param input the input stream to read commands from.
+     * @param isBatchMode true if the commands are read from a script, false if they are entered by a user.
+     */
+    public Ui(InputStream input, boolean isBatchMode) {
+        this.userInput = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.isBatchMode = isBatchMode;
+        this.utf8 = new PrintStream(new BufferedOutputStream(System.out, OUTPUT_BUFFER_SIZE), false,
+                StandardCharsets.UTF_8);
     }
 
     /**
@@ -31,23 +54,44 @@ public class Ui {
      */
     public void greetUser() {
         utf8.println(WELCOME_MESSAGE);
+        endMessage();
     }
 
     /**
      * Gets input from the user, and executes commands based on that input
+     *
+     * @return the command entered, or null if there are no more commands or the input cannot be read.
      */
     public String getCommand() {
-        utf8.print(COMMAND_PROMPT_MESSAGE);
-        return this.userInput.nextLine();
+        if (!isBatchMode) {
+            utf8.print(COMMAND_PROMPT_MESSAGE);
+            endMessage();
+        }
+        try {
+            return this.userInput.readLine();
+        } catch (IOException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns true if commands are read from a script, returns false if they are entered by a user.
+     *
+     * @return {@code true} if commands are read from a script, {@code false} otherwise.
+     */
+    public boolean isBatchMode() {
+        return isBatchMode;
     }
 
     //@@author MatchaRRR
     /**
-     * Shows the output message of a command to the users.
+     * Shows the output message of a command to the users, as it is written by the command.
      */
     public void showOutputToUser(Command command) {
-        utf8.println(command.getMessage());
+        command.writeMessage(utf8::print);
+        utf8.println();
         utf8.println(SEPARATOR);
+        endMessage();
     }
 
     //@@author jemehgoh
@@ -57,6 +101,7 @@ public class Ui {
     public void showErrorMessageToUser(Exception exception) {
         utf8.println(exception.getMessage());
         utf8.println(SEPARATOR);
+        endMessage();
     }
 
     //@@author KuanHsienn
@@ -68,5 +113,23 @@ public class Ui {
     public void showMessage(String message) {
         utf8.println(message);
         utf8.println(SEPARATOR);
+        endMessage();
+    }
+
+    //@@author jemehgoh
+    /**
+     * Writes out any output that is still buffered.
+     */
+    public void flush() {
+        utf8.flush();
+    }
+
+    /**
+     * Writes out any buffered output at the end of a message, unless in batch mode.
+     */
+    private void endMessage() {
+        if (!isBatchMode) {
+            utf8.flush();
+        }
     }
 }
@@ -10,6 +10,7 @@ import java.time.format.DateTimeFormatter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class FilterCommandTest {
     EventList eventList = new EventList();
@@ -113,5 +114,49 @@ public class FilterCommandTest {
         assertFalse(filterCommand.getCanExit());
     }
 
+    @Test
+    public void execute_filterByDateRange_success() {
+        FilterCommand filterCommand = new FilterCommand("-d", "2023-10-23..2024-10-23");
+
+        filterCommand.setData(eventList);
+        filterCommand.execute();
+
+        String expectedMessage = """
+                Events successfully filtered by date!
+                1. Event name: A-Event / Event time: 2023-10-23 21:00 / Event venue: Venue A / \
+                Event Priority: LOW / Done: N
+                2. Event name: C-Event / Event time: 2024-10-23 21:00 / Event venue: Venue C / \
+                Event Priority: HIGH / Done: N
+                3. Event name: B-Event / Event time: 2024-10-23 21:05 / Event venue: Venue B / \
+                Event Priority: MEDIUM / Done: N
+                """;
 
+        assertEquals(expectedMessage, filterCommand.getMessage());
+    }
+
+    @Test
+    public void execute_filterByDateTimeRange_success() {
+        FilterCommand filterCommand = new FilterCommand("-x", "2024-10-23 21:01 .. 2024-10-23 21:05");
+
+        filterCommand.setData(eventList);
+        filterCommand.execute();
+
+        String expectedMessage = """
+                Events successfully filtered by date-time!
+                1. Event name: B-Event / Event time: 2024-10-23 21:05 / Event venue: Venue B / \
+                Event Priority: MEDIUM / Done: N
+                """;
+
+        assertEquals(expectedMessage, filterCommand.getMessage());
+    }
+
+    @Test
+    public void execute_reversedDateRange_errorMessage() {
+        FilterCommand filterCommand = new FilterCommand("-d", "2024-10-23..2023-10-23");
+
+        filterCommand.setData(eventList);
+        filterCommand.execute();
+
+        assertTrue(filterCommand.getMessage().startsWith("Invalid range!"));
+    }
 }
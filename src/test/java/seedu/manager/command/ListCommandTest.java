@@ -41,4 +41,24 @@ public class ListCommandTest {
         assertEquals(expectedMessage, listCommand.getMessage());
         assertFalse(listCommand.getCanExit());
     }
+
+    @Test
+    public void execute_secondPage_onlySecondPageListed() {
+        listCommand.setPage(2, 1);
+
+        String expectedMessage = "There are 2 events in your list! Here are your scheduled events:\n"
+                + "2. Event name: Event 2 / Event time: 2024-11-11 12:00 / Event venue: Venue B / " +
+                "Event Priority: MEDIUM / Done: N\n"
+                + "Page 2 of 2\n";
+
+        assertEquals(expectedMessage, listCommand.getMessage());
+    }
+
+    @Test
+    public void writeMessage_wholeList_sameAsMessage() {
+        StringBuilder output = new StringBuilder();
+        listCommand.writeMessage(output::append);
+
+        assertEquals(listCommand.getMessage(), output.toString());
+    }
 }
@@ -5,7 +5,6 @@ import org.junit.jupiter.api.Test;
 import seedu.manager.event.EventList;
 import seedu.manager.parser.Parser;
 
-import java.io.IOException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -17,7 +16,7 @@ public class ViewCommandTest {
     private Command viewCommand;
 
     @BeforeEach
-    public void setUp() throws IOException {
+    public void setUp() {
         Command command;
         eventList = new EventList();
 
@@ -35,7 +34,7 @@ public class ViewCommandTest {
     }
 
     @Test
-    public void execute_twoEvents_success() throws IOException {
+    public void execute_twoEvents_success() {
         String expectedMessage = "There is 1 participant in Event 1! Here is your participant:\n"
                 + "1. Name: Tom / Email: example@gmail.com [ ]\n";
 
@@ -49,7 +48,7 @@ public class ViewCommandTest {
 
     //@@author jemehgoh
     @Test
-    public void execute_invalidEvent_failure() throws IOException {
+    public void execute_invalidEvent_failure() {
         String expectedMessage = "Event not found!";
 
         viewCommand = new Parser().parseCommand("view -e Event 2 -y participant");
@@ -60,7 +59,7 @@ public class ViewCommandTest {
     }
 
     @Test
-    public void execute_viewItems_success() throws IOException {
+    public void execute_viewItems_success() {
         String expectedMessage = "There is 1 item in Event 1! Here is your item:\n"
                 + "1. Plastic chair [ ]\n";
 
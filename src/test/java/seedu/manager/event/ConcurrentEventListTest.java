@@ -0,0 +1,122 @@
+package seedu.manager.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.manager.command.AddCommand;
+import seedu.manager.command.FindCommand;
+import seedu.manager.enumeration.Priority;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentEventListTest {
+    private static final int THREAD_COUNT = 4;
+    private static final int COMMANDS_PER_THREAD = 500;
+
+    private EventList eventList;
+    private ConcurrentEventList concurrentEventList;
+
+    @BeforeEach
+    public void setUp() {
+        eventList = new EventList();
+        eventList.addEvent("Event 1", LocalDateTime.of(2024, 10, 10, 10, 0), "Venue A", Priority.HIGH);
+        concurrentEventList = new ConcurrentEventList(eventList);
+    }
+
+    @Test
+    public void read_twoReaders_runTogether() throws InterruptedException {
+        CountDownLatch readersInside = new CountDownLatch(2);
+        ArrayList<Boolean> results = new ArrayList<>();
+        List<Thread> readers = new ArrayList<>();
+
+        for (int i = 0; i < 2; i++) {
+            Thread reader = new Thread(() -> {
+                try {
+                    concurrentEventList.read(events -> {
+                        readersInside.countDown();
+                        try {
+                            boolean isTogether = readersInside.await(5, TimeUnit.SECONDS);
+                            synchronized (results) {
+                                results.add(isTogether);
+                            }
+                        } catch (InterruptedException exception) {
+                            Thread.currentThread().interrupt();
+                        }
+                    });
+                } catch (IOException exception) {
+                    throw new RuntimeException(exception);
+                }
+            });
+            readers.add(reader);
+            reader.start();
+        }
+
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertEquals(List.of(true, true), results);
+    }
+
+    @Test
+    public void execute_concurrentAdds_allParticipantsAdded() throws InterruptedException {
+        List<Thread> writers = new ArrayList<>();
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            Thread writer = new Thread(() -> {
+                for (int j = 0; j < COMMANDS_PER_THREAD; j++) {
+                    concurrentEventList.execute(new AddCommand("Tom", "tom@example.com", "Event 1"));
+                }
+            });
+            writers.add(writer);
+            writer.start();
+        }
+
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        assertEquals(THREAD_COUNT * COMMANDS_PER_THREAD, eventList.getEvent(0).getParticipantCount());
+        assertTrue(eventList.getEvent(0).markParticipantByName("Tom(1999)", true));
+    }
+
+    @Test
+    public void execute_concurrentFinds_sameParticipantsFound() throws InterruptedException {
+        for (int i = 0; i < COMMANDS_PER_THREAD; i++) {
+            eventList.getEvent(0).addParticipant("Participant " + i, "participant" + i + "@example.com", false);
+        }
+        String expectedMessage = concurrentEventList.execute(new FindCommand("Event 1", "participant 4"));
+        eventList.getEvent(0).setParticipantList(new ArrayList<>(eventList.getEvent(0).getParticipantList()));
+
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<String> messages = new ArrayList<>();
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            Thread reader = new Thread(() -> {
+                try {
+                    startSignal.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                String message = concurrentEventList.execute(new FindCommand("Event 1", "participant 4"));
+                synchronized (messages) {
+                    messages.add(message);
+                }
+            });
+            readers.add(reader);
+            reader.start();
+        }
+
+        startSignal.countDown();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertEquals(List.of(expectedMessage, expectedMessage, expectedMessage, expectedMessage), messages);
+    }
+}
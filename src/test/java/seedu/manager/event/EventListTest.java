@@ -0,0 +1,174 @@
+package seedu.manager.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.manager.enumeration.Priority;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventListTest {
+    private EventList eventList;
+    private DateTimeFormatter formatter;
+
+    @BeforeEach
+    public void setUp() {
+        eventList = new EventList();
+        formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+        eventList.addEvent("Event 1", LocalDateTime.parse("2024-10-10 10:00", formatter),
+                "Venue A", Priority.HIGH);
+        eventList.addEvent("Event 2", LocalDateTime.parse("2024-11-11 12:00", formatter),
+                "Venue B", Priority.MEDIUM);
+    }
+
+    @Test
+    public void getEventByName_editedEvent_foundByNewName() {
+        eventList.editEvent("Event 1", "Event 3", LocalDateTime.parse("2024-10-10 10:00", formatter),
+                "Venue A", Priority.HIGH);
+
+        assertFalse(eventList.getEventByName("Event 1").isPresent());
+        assertEquals("Event 3", eventList.getEventByName("Event 3").get().getEventName());
+        assertEquals("Event 3", eventList.getEvent(0).getEventName());
+    }
+
+    @Test
+    public void getEventByName_removedEvent_notFound() {
+        eventList.removeEvent("Event 2");
+
+        assertFalse(eventList.getEventByName("Event 2").isPresent());
+        assertEquals("Event 2", eventList.addEvent("Event 2", LocalDateTime.parse("2024-11-11 12:00", formatter),
+                "Venue B", Priority.MEDIUM));
+    }
+
+    @Test
+    public void getEventByName_copiedList_foundInCopy() {
+        EventList copiedList = new EventList(eventList);
+        copiedList.removeEvent("Event 1");
+
+        assertFalse(copiedList.getEventByName("Event 1").isPresent());
+        assertTrue(eventList.getEventByName("Event 1").isPresent());
+    }
+
+    @Test
+    public void removeEvent_duplicateNames_nextEventFound() {
+        Event duplicateEvent = new Event("Event 1", LocalDateTime.parse("2024-12-12 12:00", formatter),
+                "Venue C", Priority.LOW);
+        eventList.addEvent(duplicateEvent);
+
+        assertEquals("Venue A", eventList.getEventByName("Event 1").get().getEventVenue());
+        eventList.removeEvent("Event 1");
+        assertEquals(duplicateEvent, eventList.getEventByName("Event 1").get());
+    }
+
+    @Test
+    public void addEvent_suffixRemoved_suffixReused() {
+        LocalDateTime time = LocalDateTime.parse("2024-12-12 12:00", formatter);
+        eventList.addEvent("Event 1", time, "Venue C", Priority.LOW);
+        eventList.addEvent("Event 1", time, "Venue C", Priority.LOW);
+
+        assertTrue(eventList.removeEvent("Event 1(1)"));
+        assertEquals("Event 1(1)", eventList.addEvent("Event 1", time, "Venue C", Priority.LOW));
+        assertEquals("Event 1(3)", eventList.addEvent("Event 1", time, "Venue C", Priority.LOW));
+    }
+
+    @Test
+    public void editEvent_suffixedEventRenamed_suffixReused() {
+        LocalDateTime time = LocalDateTime.parse("2024-12-12 12:00", formatter);
+        eventList.addEvent("Event 1", time, "Venue C", Priority.LOW);
+        eventList.addEvent("Event 1", time, "Venue C", Priority.LOW);
+
+        assertEquals("Event 3", eventList.editEvent("Event 1(1)", "Event 3", time, "Venue C", Priority.LOW));
+        assertEquals("Event 1(1)", eventList.editEvent("Event 1(2)", "Event 1", time, "Venue C", Priority.LOW));
+        assertEquals("Event 1(2)", eventList.addEvent("Event 1", time, "Venue C", Priority.LOW));
+    }
+
+    @Test
+    public void isDirty_markedClean_notDirty() {
+        eventList.markClean();
+
+        assertFalse(eventList.isDirty());
+    }
+
+    @Test
+    public void isDirty_participantMarked_dirty() {
+        eventList.addParticipantToEvent("Tom", "tom@example.com", "Event 1");
+        eventList.markClean();
+        eventList.getEvent(0).markParticipantByName("Tom", true);
+
+        assertTrue(eventList.isDirty());
+    }
+
+    @Test
+    public void isDirty_filteredEventMarked_ownerDirty() {
+        EventList filteredList = eventList.filterByName("Event 1");
+        eventList.markClean();
+        filteredList.markClean();
+        filteredList.getEvent(0).setDone(true);
+
+        assertTrue(eventList.isDirty());
+        assertFalse(filteredList.isDirty());
+    }
+
+    @Test
+    public void isDirty_missingParticipantRemoved_notDirty() {
+        eventList.markClean();
+        eventList.removeParticipantFromEvent("Tom", "Event 1");
+
+        assertFalse(eventList.isDirty());
+    }
+
+    @Test
+    public void getEventsByTime_editedTime_inNewPosition() {
+        eventList.editEvent("Event 1", "Event 1", LocalDateTime.parse("2024-12-12 12:00", formatter),
+                "Venue A", Priority.HIGH);
+
+        assertEquals("Event 2", eventList.getEventsByTime().get(0).getEventName());
+        assertEquals("Event 1", eventList.getEventsByTime().get(1).getEventName());
+    }
+
+    @Test
+    public void getEventsByTime_sameTime_listOrderKept() {
+        eventList.addEvent("Event 3", LocalDateTime.parse("2024-10-10 10:00", formatter), "Venue C", Priority.LOW);
+        eventList.editEvent("Event 2", "Event 2", LocalDateTime.parse("2024-10-10 10:00", formatter),
+                "Venue B", Priority.MEDIUM);
+
+        assertEquals(List.of("Event 1", "Event 2", "Event 3"),
+                eventList.getEventsByTime().stream().map(Event::getEventName).toList());
+    }
+
+    @Test
+    public void filterByTimeRange_inclusiveRange_eventsInRangeFound() {
+        eventList.removeEvent("Event 1");
+
+        EventList filteredList = eventList.filterByTimeRange(LocalDateTime.parse("2024-10-10 10:00", formatter),
+                LocalDateTime.parse("2024-11-11 12:00", formatter));
+
+        assertEquals(1, filteredList.getListSize());
+        assertEquals("Event 2", filteredList.getEvent(0).getEventName());
+    }
+
+    @Test
+    public void filterByTimeRange_startAfterEnd_noEventsFound() {
+        EventList filteredList = eventList.filterByTimeRange(LocalDateTime.parse("2024-11-11 12:00", formatter),
+                LocalDateTime.parse("2024-10-10 10:00", formatter));
+
+        assertEquals(0, filteredList.getListSize());
+    }
+
+    @Test
+    public void getEventsByPriority_editedPriority_stableOrder() {
+        eventList.addEvent("Event 3", LocalDateTime.parse("2024-12-12 12:00", formatter), "Venue C", Priority.HIGH);
+        eventList.editEvent("Event 2", "Event 2", LocalDateTime.parse("2024-11-11 12:00", formatter),
+                "Venue B", Priority.HIGH);
+
+        assertEquals(List.of("Event 1", "Event 2", "Event 3"),
+                eventList.getEventsByPriority().stream().map(Event::getEventName).toList());
+        assertEquals(0, eventList.filterByPriority(Priority.MEDIUM).getListSize());
+    }
+}
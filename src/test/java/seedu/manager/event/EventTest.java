@@ -0,0 +1,106 @@
+package seedu.manager.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.manager.enumeration.Priority;
+import seedu.manager.item.Participant;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventTest {
+    private Event event;
+
+    @BeforeEach
+    public void setUp() {
+        event = new Event("Event 1", LocalDateTime.of(2024, 10, 10, 10, 0), "Venue A", Priority.HIGH);
+    }
+
+    @Test
+    public void addParticipant_duplicateNames_suffixAdded() {
+        assertEquals("Tom", event.addParticipant("Tom", "tom@example.com", false));
+        assertEquals("tom(1)", event.addParticipant("tom", "tom@example.com", false));
+        assertEquals("Tom(2)", event.addParticipant("Tom", "tom@example.com", false));
+    }
+
+    @Test
+    public void addParticipant_suffixRemoved_suffixReused() {
+        event.addParticipant("Tom", "tom@example.com", false);
+        event.addParticipant("Tom", "tom@example.com", false);
+        event.addParticipant("Tom", "tom@example.com", false);
+
+        assertTrue(event.removeParticipant("TOM(1)"));
+        assertEquals("Tom(1)", event.addParticipant("Tom", "tom@example.com", false));
+        assertEquals("Tom(3)", event.addParticipant("Tom", "tom@example.com", false));
+    }
+
+    @Test
+    public void updateParticipant_sameName_suffixKept() {
+        event.addParticipant("Tom", "tom@example.com", false);
+        event.addParticipant("Tom", "tom@example.com", false);
+
+        assertEquals("Tom(1)", event.updateParticipant("Tom(1)", "Tom", "tom1@example.com"));
+        assertEquals("Tom", event.updateParticipant("Tom", "Tom", "tom@example.com"));
+    }
+
+    @Test
+    public void updateItem_renamedItem_foundByNewName() {
+        event.addItem("Cake", false);
+
+        assertEquals("Pie", event.updateItem("cake", "Pie"));
+        assertFalse(event.markItemByName("Cake", true));
+        assertTrue(event.markItemByName("pie", true));
+        assertEquals("Cake", event.addItem("Cake", false));
+    }
+
+    @Test
+    public void findParticipants_renamedParticipant_foundByNewName() {
+        event.addParticipant("Tom Lee", "tom@example.com", false);
+        event.addParticipant("Tommy", "tommy@example.com", false);
+        event.updateParticipant("Tom Lee", "Jerry", "jerry@example.com");
+
+        assertEquals(1, event.findParticipants(" TOM ").size());
+        assertEquals("Tommy", event.findParticipants("tom").get(0).getName());
+        assertEquals("Jerry", event.findParticipants("err").get(0).getName());
+    }
+
+    @Test
+    public void findParticipants_participantsChangedAfterSearch_changesFound() {
+        event.addParticipant("Tom Lee", "tom@example.com", false);
+        assertEquals(1, event.findParticipants("tom").size());
+
+        event.addParticipant("Tommy", "tommy@example.com", false);
+        event.updateParticipant("Tom Lee", "Jerry", "jerry@example.com");
+        assertEquals("Tommy", event.findParticipants("tom").get(0).getName());
+        assertEquals(1, event.findParticipants("tom").size());
+
+        assertTrue(event.removeParticipant("Tommy"));
+        assertEquals(0, event.findParticipants("tom").size());
+
+        ArrayList<Participant> participants = new ArrayList<>();
+        participants.add(new Participant("Tom", "tom@example.com", false));
+        event.setParticipantList(participants);
+        assertEquals("Tom", event.findParticipants("tom").get(0).getName());
+        assertEquals(0, event.findParticipants("err").size());
+    }
+
+    @Test
+    public void addParticipant_thresholdReached_participantsStoredInColumns() {
+        for (int i = 0; i < Event.PARTICIPANT_STORE_THRESHOLD; i++) {
+            event.addParticipant("Participant " + i, "participant" + i + "@example.com", false);
+        }
+
+        assertTrue(event.isStoredInColumns());
+        assertEquals("participant 0(1)", event.addParticipant("participant 0", "tom@example.com", false));
+        assertTrue(event.markParticipantByName("Participant 1", true));
+        assertTrue(event.removeParticipant("Participant 0"));
+        assertEquals(Event.PARTICIPANT_STORE_THRESHOLD, event.getParticipantCount());
+        assertEquals("Name: Participant 1 / Email: participant1@example.com [X]",
+                event.getParticipantList().get(0).toString());
+        assertEquals(11, event.findParticipants(" participant 999").size());
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.manager.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.manager.item.Participant;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParticipantStoreTest {
+    private ParticipantStore store;
+
+    @BeforeEach
+    public void setUp() {
+        store = new ParticipantStore();
+    }
+
+    @Test
+    public void add_duplicateNames_suffixAdded() {
+        assertEquals("Tom", store.add("Tom", "tom@example.com", false));
+        assertEquals("tom(1)", store.add("tom", "tom@example.com", false));
+        assertEquals("Tom(2)", store.add("Tom", "tom@example.com", false));
+    }
+
+    @Test
+    public void add_suffixRemoved_suffixReused() {
+        store.add("Tom", "tom@example.com", false);
+        store.add("Tom", "tom@example.com", false);
+        store.add("Tom", "tom@example.com", false);
+
+        assertTrue(store.remove("TOM(1)"));
+        assertEquals("Tom(1)", store.add("Tom", "tom@example.com", false));
+        assertEquals("Tom(3)", store.add("Tom", "tom@example.com", false));
+    }
+
+    @Test
+    public void remove_firstParticipant_presenceMovedAcrossWords() {
+        for (int i = 0; i < 200; i++) {
+            store.add("Participant " + i, "participant" + i + "@example.com", i % 64 == 0 || i == 199);
+        }
+
+        assertTrue(store.remove("Participant 0"));
+
+        for (int row = 0; row < store.size(); row++) {
+            int number = row + 1;
+            assertEquals(number % 64 == 0 || number == 199, store.getParticipant(row).isPresent());
+            assertEquals("Participant " + number, store.getParticipant(row).getName());
+        }
+        assertTrue(store.mark("Participant 199", false));
+        assertFalse(store.getParticipant(198).isPresent());
+    }
+
+    @Test
+    public void remove_middleParticipant_laterParticipantsMovedUp() {
+        for (int i = 0; i < 100; i++) {
+            store.add("Participant " + i, "participant" + i + "@example.com", i % 3 == 0);
+        }
+
+        assertTrue(store.remove("PARTICIPANT 10"));
+        assertFalse(store.remove("Participant 10"));
+
+        assertEquals(99, store.size());
+        assertEquals("Name: Participant 11 / Email: participant11@example.com [ ]",
+                store.getParticipant(10).toString());
+        assertEquals("Name: Participant 12 / Email: participant12@example.com [X]",
+                store.getParticipant(11).toString());
+        for (int i = 11; i < 100; i++) {
+            assertTrue(store.mark("Participant " + i, true));
+        }
+        assertTrue(store.getParticipant(98).isPresent());
+    }
+
+    @Test
+    public void update_sameName_nameKept() {
+        store.add("Tom", "tom@example.com", false);
+        store.add("Ann", "ann@example.com", false);
+
+        assertEquals("tom", store.update("Tom", "tom", "tom@gmail.com"));
+        assertEquals("Ann(1)", store.update("tom", "Ann", "ann@gmail.com"));
+        assertEquals("", store.update("Tom", "Ben", "ben@example.com"));
+        assertEquals("ann@gmail.com", store.getParticipant(0).getEmail());
+    }
+
+    @Test
+    public void find_keyword_matchesInListOrder() {
+        store.add("Alice Tan", "alice@example.com", false);
+        store.add("Bob Lim", "bob@example.com", false);
+        store.add("alicia", "alicia@example.com", false);
+
+        List<Participant> matches = store.find("ALIC");
+
+        assertEquals(2, matches.size());
+        assertEquals("Alice Tan", matches.get(0).getName());
+        assertEquals("alicia", matches.get(1).getName());
+        assertEquals(3, store.find("").size());
+    }
+
+    @Test
+    public void getParticipant_viewChanged_storeChanged() {
+        store.add("Tom", "tom@example.com", false);
+
+        Participant participant = store.asList().get(0);
+        participant.setPresent(true);
+        participant.setEmail("tom@gmail.com");
+
+        assertEquals("Name: Tom / Email: tom@gmail.com [X]", store.getParticipant(0).toString());
+    }
+
+    @Test
+    public void constructor_participantList_participantsKept() {
+        ArrayList<Participant> participants = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            participants.add(new Participant("Participant " + i, "participant" + i + "@example.com", i % 2 == 0));
+        }
+
+        ParticipantStore copiedStore = new ParticipantStore(participants);
+
+        assertEquals(40, copiedStore.size());
+        assertEquals(participants.get(39).toString(), copiedStore.getParticipant(39).toString());
+        assertEquals("Participant 5(1)", copiedStore.add("Participant 5", "participant5@example.com", false));
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.manager.event;
+
+import org.junit.jupiter.api.Test;
+import seedu.manager.enumeration.Priority;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class StringPoolTest {
+    private static final LocalDateTime EVENT_TIME = LocalDateTime.of(2024, 10, 25, 10, 0);
+
+    @Test
+    public void canonicalise_equalStrings_firstStringReturned() {
+        StringPool pool = new StringPool();
+        String venue = new String("Conference Room");
+
+        assertSame(venue, pool.canonicalise(venue));
+        assertSame(venue, pool.canonicalise(new String("Conference Room")));
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void canonicalise_null_nullReturned() {
+        assertNull(new StringPool().canonicalise(null));
+    }
+
+    @Test
+    public void constructor_equalVenues_venueShared() {
+        Event meeting = new Event("Meeting", EVENT_TIME, new String("Conference Room"),
+                Priority.HIGH);
+        Event workshop = new Event("Workshop", EVENT_TIME, new String("Conference Room"),
+                Priority.LOW);
+
+        assertSame(meeting.getEventVenue(), workshop.getEventVenue());
+    }
+}
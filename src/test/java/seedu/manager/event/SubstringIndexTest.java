@@ -0,0 +1,53 @@
+package seedu.manager.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SubstringIndexTest {
+    private ArrayList<StringBuilder> names;
+    private SubstringIndex<StringBuilder> index;
+
+    @BeforeEach
+    public void setUp() {
+        names = new ArrayList<>(List.of(new StringBuilder("Alice Tan"), new StringBuilder("Bob Lim"),
+                new StringBuilder("alicia")));
+        index = new SubstringIndex<>(StringBuilder::toString, names);
+    }
+
+    @Test
+    public void find_longKeyword_matchesInListOrder() {
+        assertEquals(List.of(names.get(0), names.get(2)), index.find("ALIC"));
+    }
+
+    @Test
+    public void find_shortKeyword_everyNameChecked() {
+        assertEquals(List.of(names.get(1)), index.find("b"));
+        assertEquals(names, index.find(""));
+    }
+
+    @Test
+    public void find_keywordWithMissingTrigram_noMatches() {
+        assertEquals(List.of(), index.find("alice lim"));
+    }
+
+    @Test
+    public void update_renamedEntry_foundByNewNameInSamePosition() {
+        names.get(0).replace(0, names.get(0).length(), "Bobby");
+        index.update(names.get(0));
+
+        assertEquals(List.of(names.get(0), names.get(1)), index.find("bob"));
+        assertEquals(List.of(names.get(2)), index.find("ali"));
+    }
+
+    @Test
+    public void remove_removedEntry_notFound() {
+        index.remove(names.get(2));
+
+        assertEquals(List.of(names.get(0)), index.find("ali"));
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.manager.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author jemehgoh
+class AsyncFileHandlerTest {
+    private static final String TEST_LOG_FILE_PATH = "test_logs.txt";
+
+    @AfterEach
+    public void tearDown() {
+        new File(TEST_LOG_FILE_PATH).delete();
+    }
+
+    @Test
+    public void close_queuedRecords_allRecordsWritten() throws IOException {
+        AsyncFileHandler handler = new AsyncFileHandler(TEST_LOG_FILE_PATH);
+        Logger logger = Logger.getLogger(AsyncFileHandlerTest.class.getName());
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+
+        for (int i = 0; i < 100; i++) {
+            logger.warning("Message " + i);
+        }
+        logger.removeHandler(handler);
+        handler.close();
+
+        List<String> lines = Files.readAllLines(new File(TEST_LOG_FILE_PATH).toPath());
+        assertEquals(100, lines.size());
+        assertTrue(lines.get(99).endsWith("WARNING " + AsyncFileHandlerTest.class.getName() + ": Message 99"));
+    }
+
+    @Test
+    public void publish_closedHandler_recordIgnored() throws IOException {
+        AsyncFileHandler handler = new AsyncFileHandler(TEST_LOG_FILE_PATH);
+        handler.close();
+        Logger logger = Logger.getLogger(AsyncFileHandlerTest.class.getName());
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+        logger.info("Message");
+        logger.removeHandler(handler);
+
+        assertEquals(0, Files.readAllLines(new File(TEST_LOG_FILE_PATH).toPath()).size());
+    }
+}
@@ -0,0 +1,22 @@
+package seedu.manager.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//@@author jemehgoh
+class LogFileTest {
+
+    @Test
+    public void attach_sameLoggerTwice_oneHandlerAdded() {
+        Logger logger = Logger.getLogger(LogFileTest.class.getName());
+        logger.setUseParentHandlers(false);
+
+        LogFile.attach(logger);
+        LogFile.attach(logger);
+
+        assertEquals(1, logger.getHandlers().length);
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.manager.parser;
+
+import org.junit.jupiter.api.Test;
+import seedu.manager.exception.InvalidCommandException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandArgumentsTest {
+    private static final List<String> PARTICIPANT_FLAGS = List.of("-p", "-email", "-e");
+
+    @Test
+    public void tokenize_unknownFlag_partOfValue() {
+        CommandArguments arguments = CommandArguments.tokenize(
+                "add -p John  Doe -n 92138961 -email johndoe@gmail.com -e Event 1", PARTICIPANT_FLAGS);
+
+        assertTrue(arguments.hasFlags(PARTICIPANT_FLAGS));
+        assertEquals("John  Doe -n 92138961", arguments.getValue("-p"));
+        assertEquals("johndoe@gmail.com", arguments.getValue("-email"));
+        assertEquals("Event 1", arguments.getValue("-e"));
+    }
+
+    @Test
+    public void tokenize_duplicateFlag_throwsException() {
+        assertThrows(InvalidCommandException.class, () -> CommandArguments.tokenize(
+                "add -p John -email john@gmail.com -e Event 1 -e Event 2", PARTICIPANT_FLAGS));
+    }
+
+    @Test
+    public void hasFlags_wrongOrder_false() {
+        CommandArguments arguments = CommandArguments.tokenize(
+                "add -e Event 1 -p John -email john@gmail.com", PARTICIPANT_FLAGS);
+
+        assertFalse(arguments.hasFlags(PARTICIPANT_FLAGS));
+    }
+
+    @Test
+    public void hasBlankValue_trailingFlag_true() {
+        CommandArguments arguments = CommandArguments.tokenize("add -p John -email john@gmail.com -e ",
+                PARTICIPANT_FLAGS);
+
+        assertTrue(arguments.hasFlags(PARTICIPANT_FLAGS));
+        assertTrue(arguments.hasBlankValue());
+    }
+
+    @Test
+    public void getPreamble_copyInput_sourceEvent() {
+        CommandArguments arguments = CommandArguments.tokenize("copy Event 1 > Event 2", List.of(">"));
+
+        assertEquals("Event 1", arguments.getPreamble());
+        assertEquals("Event 2", arguments.getValue(">"));
+    }
+}
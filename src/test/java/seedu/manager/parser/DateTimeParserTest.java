@@ -0,0 +1,46 @@
+package seedu.manager.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DateTimeParserTest {
+    @Test
+    public void parseDateTime_validDateTime_success() throws ParseException {
+        assertEquals(LocalDateTime.of(2024, 2, 29, 23, 59), DateTimeParser.parseDateTime("2024-02-29 23:59"));
+    }
+
+    @Test
+    public void parseDateTime_invalidDate_throwsException() {
+        assertThrows(ParseException.class, () -> DateTimeParser.parseDateTime("2023-02-29 10:00"));
+        assertThrows(ParseException.class, () -> DateTimeParser.parseDateTime("2024-13-01 10:00"));
+        assertThrows(ParseException.class, () -> DateTimeParser.parseDateTime("0000-01-01 10:00"));
+    }
+
+    @Test
+    public void parseDateTime_invalidFormat_throwsException() {
+        assertThrows(ParseException.class, () -> DateTimeParser.parseDateTime("2024-1-01 10:00"));
+        assertThrows(ParseException.class, () -> DateTimeParser.parseDateTime("2024-01-01T10:00"));
+        assertThrows(ParseException.class, () -> DateTimeParser.parseDateTime("2024-01-01 10:0a"));
+        assertThrows(ParseException.class, () -> DateTimeParser.parseDateTime("2024-01-01 24:00"));
+        assertThrows(ParseException.class, () -> DateTimeParser.parseDateTime(""));
+    }
+
+    @Test
+    public void parseDateAndTime_validInput_success() throws ParseException {
+        assertEquals(LocalDate.of(2024, 10, 10), DateTimeParser.parseDate("2024-10-10"));
+        assertEquals(LocalTime.of(9, 5), DateTimeParser.parseTime("09:05"));
+    }
+
+    @Test
+    public void formatDateTime_parsedDateTime_sameText() throws ParseException {
+        assertEquals("2030-01-01 09:00", DateTimeParser.formatDateTime(
+                DateTimeParser.parseDateTime("2030-01-01 09:00")));
+    }
+}
@@ -6,7 +6,6 @@ import seedu.manager.command.Command;
 import seedu.manager.enumeration.Priority;
 import seedu.manager.event.EventList;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -18,7 +17,7 @@ class ParserIntegrationTest {
     private DateTimeFormatter formatter;
 
     @BeforeEach
-    void setUp() throws IOException {
+    void setUp() {
         events = new EventList();
         parser = new Parser();
         formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
@@ -28,7 +27,7 @@ class ParserIntegrationTest {
     }
 
     @Test
-    void parseCommand_addCommandAddEvent_success() throws IOException {
+    void parseCommand_addCommandAddEvent_success() {
         String commandString = "add -e Event 2 -t 2025-10-21 16:00 -v Venue 1 -u HIGH";
         Command command = parser.parseCommand(commandString);
         command.setData(events);
@@ -38,7 +37,7 @@ class ParserIntegrationTest {
     }
 
     @Test
-    void parseCommand_addCommandDuplicateEvent_success() throws IOException {
+    void parseCommand_addCommandDuplicateEvent_success() {
         String commandString = "add -e Event 1 -t 2025-10-21 16:00 -v Venue 1 -u HIGH";
         Command command = parser.parseCommand(commandString);
         command.setData(events);
@@ -48,7 +47,7 @@ class ParserIntegrationTest {
     }
 
     @Test
-    void parseCommand_addCommandAddParticipant_success() throws IOException {
+    void parseCommand_addCommandAddParticipant_success() {
         String commandString = "add -p John Doe -n 92138961 -email johndoe@gmail.com -e Event 1";
         Command command = parser.parseCommand(commandString);
         command.setData(events);
@@ -58,7 +57,7 @@ class ParserIntegrationTest {
     }
 
     @Test
-    void parseCommand_removeCommandRemoveEvent_success() throws IOException {
+    void parseCommand_removeCommandRemoveEvent_success() {
         String commandString = "remove -e Event 1";
         Command command = parser.parseCommand(commandString);
         command.setData(events);
@@ -68,7 +67,7 @@ class ParserIntegrationTest {
     }
 
     @Test
-    void parseCommand_markCommandMarkEvent_success() throws IOException {
+    void parseCommand_markCommandMarkEvent_success() {
         String commandString = "mark -e Event 1 -s done";
         Command command = parser.parseCommand(commandString);
         command.setData(events);
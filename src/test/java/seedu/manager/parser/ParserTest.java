@@ -1,5 +1,8 @@
 package seedu.manager.parser;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
 import seedu.manager.command.AddCommand;
 import seedu.manager.command.Command;
@@ -10,11 +13,17 @@ import seedu.manager.command.MarkParticipantCommand;
 import seedu.manager.command.MenuCommand;
 import seedu.manager.command.ListCommand;
 import seedu.manager.command.RemoveCommand;
+import seedu.manager.command.StatsCommand;
 import seedu.manager.command.ViewCommand;
 import seedu.manager.exception.InvalidCommandException;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -22,7 +31,7 @@ class ParserTest {
 
     //@@author jemehgoh
     @Test
-    public void parseCommand_invalidString_throwsException() throws IOException {
+    public void parseCommand_invalidString_throwsException() {
         Parser parser = new Parser();
         String commandString = "Hello world!";
 
@@ -32,7 +41,7 @@ class ParserTest {
     }
 
     @Test
-    public void parseCommand_exitWord_exit() throws IOException {
+    public void parseCommand_exitWord_exit() {
         Parser parser = new Parser();
         Command command = parser.parseCommand("exit");
 
@@ -41,7 +50,7 @@ class ParserTest {
 
     //@@author glenn-chew
     @Test
-    public void parseCommand_menuWord_menu() throws IOException {
+    public void parseCommand_menuWord_menu() {
         Parser parser = new Parser();
         Command command = parser.parseCommand("menu");
 
@@ -50,7 +59,7 @@ class ParserTest {
 
     //@@author MatchaRRR
     @Test
-    public void parseCommand_listWord_list() throws IOException {
+    public void parseCommand_listWord_list() {
         Parser parser = new Parser();
         Command command = parser.parseCommand("list");
 
@@ -59,7 +68,7 @@ class ParserTest {
 
     //@@author jemehgoh
     @Test
-    public void addCommand_addEvent_add() throws IOException {
+    public void addCommand_addEvent_add() {
         Parser parser = new Parser();
         Command command = parser.parseCommand("add -e event -t 2025-09-10 12:34 -v Venue A -u high");
 
@@ -67,7 +76,7 @@ class ParserTest {
     }
 
     @Test
-    public void addCommand_addNoParameter_invalid() throws IOException {
+    public void addCommand_addNoParameter_invalid() {
         Parser parser = new Parser();
         String commandString = "add";
 
@@ -77,7 +86,7 @@ class ParserTest {
     }
 
     @Test
-    public void removeCommand_removeEvent_add() throws IOException {
+    public void removeCommand_removeEvent_add() {
         Parser parser = new Parser();
         Command command = parser.parseCommand("remove -e event");
 
@@ -85,7 +94,7 @@ class ParserTest {
     }
 
     @Test
-    public void removeCommand_removeNoParameter_invalid() throws IOException {
+    public void removeCommand_removeNoParameter_invalid() {
         Parser parser = new Parser();
         String commandString = "remove";
 
@@ -96,7 +105,7 @@ class ParserTest {
 
     //@@author jemehgoh
     @Test
-    public void viewCommand_viewParticipant_view() throws IOException {
+    public void viewCommand_viewParticipant_view() {
         Parser parser = new Parser();
         Command command = parser.parseCommand("view -e event -y participant");
 
@@ -104,7 +113,7 @@ class ParserTest {
     }
 
     @Test
-    public void viewCommand_noParameter_throwsException() throws IOException {
+    public void viewCommand_noParameter_throwsException() {
         Parser parser = new Parser();
         String commandString = "view";
 
@@ -114,7 +123,7 @@ class ParserTest {
     }
 
     @Test
-    public void viewCommand_invalidStatus_throwsException() throws IOException {
+    public void viewCommand_invalidStatus_throwsException() {
         Parser parser = new Parser();
         String commandString = "view -e event -y command";
 
@@ -125,7 +134,7 @@ class ParserTest {
 
     //@@author jemehgoh
     @Test
-    public void parseCommand_markEvent_mark() throws IOException {
+    public void parseCommand_markEvent_mark() {
         Parser parser = new Parser();
         Command command = parser.parseCommand("mark -e event -s done");
 
@@ -133,7 +142,7 @@ class ParserTest {
     }
 
     @Test
-    public void parseCommand_markEventNoStatus_throwsException() throws IOException {
+    public void parseCommand_markEventNoStatus_throwsException() {
         Parser parser = new Parser();
         String commandString = "mark -e event";
 
@@ -143,7 +152,7 @@ class ParserTest {
     }
 
     @Test
-    public void parseCommand_markEventInvalidStatus_throwsException() throws IOException {
+    public void parseCommand_markEventInvalidStatus_throwsException() {
         Parser parser = new Parser();
         String commandString = "mark -e event -s yes";
 
@@ -153,7 +162,7 @@ class ParserTest {
     }
 
     @Test
-    public void parseCommand_markParticipantPresent_mark() throws IOException {
+    public void parseCommand_markParticipantPresent_mark() {
         Parser parser = new Parser();
         String commandString = "mark -p John Doe -e event -s present";
         Command command = parser.parseCommand(commandString);
@@ -162,7 +171,7 @@ class ParserTest {
     }
 
     @Test
-    public void parseCommand_markParticipantAbsent_mark() throws IOException {
+    public void parseCommand_markParticipantAbsent_mark() {
         Parser parser = new Parser();
         String commandString = "mark -p John Doe -e event -s absent";
         Command command = parser.parseCommand(commandString);
@@ -171,7 +180,7 @@ class ParserTest {
     }
 
     @Test
-    public void parseCommand_markParticipantNoStatus_throwsException() throws IOException {
+    public void parseCommand_markParticipantNoStatus_throwsException() {
         Parser parser = new Parser();
         String commandString = "mark -p John Doe -e event";
 
@@ -181,7 +190,7 @@ class ParserTest {
     }
 
     @Test
-    public void parseCommand_markParticipantInvalidStatus_throwsException() throws IOException {
+    public void parseCommand_markParticipantInvalidStatus_throwsException() {
         Parser parser = new Parser();
         String commandString = "mark -p John Doe -e event -s done";
 
@@ -191,7 +200,7 @@ class ParserTest {
     }
 
     @Test
-    public void parseCommand_markItem_mark() throws IOException {
+    public void parseCommand_markItem_mark() {
         Parser parser = new Parser();
         String commandString = "mark -m paper -e event -s accounted";
         Command command = parser.parseCommand(commandString);
@@ -200,7 +209,7 @@ class ParserTest {
     }
 
     @Test
-    public void parseCommand_markItemInvalidStatus_mark() throws IOException {
+    public void parseCommand_markItemInvalidStatus_mark() {
         Parser parser = new Parser();
         String commandString = "mark -m paper -e event -s done";
 
@@ -210,7 +219,7 @@ class ParserTest {
     }
 
     @Test
-    public void parseCommand_markInvalidFlags_throwsException() throws IOException {
+    public void parseCommand_markInvalidFlags_throwsException() {
         Parser parser = new Parser();
         String commandString = "mark -s done";
 
@@ -221,7 +230,7 @@ class ParserTest {
 
     //@@author LTK-1606
     @Test
-    public void parseCommand_copyCommandInvalidFlags_throwsException() throws IOException {
+    public void parseCommand_copyCommandInvalidFlags_throwsException() {
         Parser parser = new Parser();
         String commandString = "copy tutorial < lecture";
 
@@ -231,7 +240,7 @@ class ParserTest {
     }
 
     @Test
-    public void parseCommand_findCommandInvalidFlags_throwsException() throws IOException {
+    public void parseCommand_findCommandInvalidFlags_throwsException() {
         Parser parser = new Parser();
         String commandString = "find -s event 1 -p doe";
 
@@ -241,7 +250,7 @@ class ParserTest {
     }
 
     @Test
-    public void parseCommand_findCommandInvalidInput_throwsException() throws IOException {
+    public void parseCommand_findCommandInvalidInput_throwsException() {
         Parser parser = new Parser();
         String commandString = "find -e -p doe";
 
@@ -251,7 +260,7 @@ class ParserTest {
     }
 
     @Test
-    public void parseCommand_filterEventsInvalidFlag_throwsException() throws IOException {
+    public void parseCommand_filterEventsInvalidFlag_throwsException() {
         Parser parser = new Parser();
         String commandString = "filter -s high";
 
@@ -261,7 +270,7 @@ class ParserTest {
     }
 
     @Test
-    public void parseCommand_sortEventsInvalidFlags_throwsException() throws IOException {
+    public void parseCommand_sortEventsInvalidFlags_throwsException() {
         Parser parser = new Parser();
         String commandString = "sort by name";
 
@@ -271,7 +280,7 @@ class ParserTest {
     }
 
     @Test
-    public void parseCommand_sortEventsInvalidInput_throwsException() throws IOException {
+    public void parseCommand_sortEventsInvalidInput_throwsException() {
         Parser parser = new Parser();
         String commandString = "sort -by fun";
 
@@ -280,4 +289,78 @@ class ParserTest {
         });
     }
 
+    @Test
+    public void parseCommand_reusedParserAfterError_parsesNextCommand() {
+        Parser parser = new Parser();
+
+        assertThrows(InvalidCommandException.class, () -> {
+            parser.parseCommand("mark -e event");
+        });
+        assertInstanceOf(MarkEventCommand.class, parser.parseCommand("mark -e event -s done"));
+    }
+
+    @Test
+    public void parseCommand_viewWithPage_viewCommandParsed() {
+        Parser parser = new Parser();
+
+        assertInstanceOf(ViewCommand.class, parser.parseCommand("view -e event -y item -page 2 -size 5"));
+        assertInstanceOf(ListCommand.class, parser.parseCommand("list -size 5"));
+    }
+
+    @Test
+    public void parseCommand_invalidPage_throwsException() {
+        Parser parser = new Parser();
+
+        assertThrows(InvalidCommandException.class, () -> {
+            parser.parseCommand("sort -by name -page 0");
+        });
+        assertThrows(InvalidCommandException.class, () -> {
+            parser.parseCommand("list -page two");
+        });
+    }
+
+    @Test
+    public void parseCommand_statsWithOutputFile_statsCommandParsed() {
+        Parser parser = new Parser();
+
+        assertInstanceOf(StatsCommand.class, parser.parseCommand("stats"));
+        assertInstanceOf(StatsCommand.class, parser.parseCommand("stats -o stats.txt"));
+    }
+
+    @Test
+    public void parseCommand_statsInvalidInput_throwsException() {
+        Parser parser = new Parser();
+
+        assertThrows(InvalidCommandException.class, () -> {
+            parser.parseCommand("stats all");
+        });
+        assertThrows(InvalidCommandException.class, () -> {
+            parser.parseCommand("stats -o");
+        });
+    }
+
+    @Test
+    public void parseCommand_flightRecorderEnabled_parseEventRecorded() throws IOException {
+        Parser parser = new Parser();
+        Path recordingPath = Files.createTempFile("parser", ".jfr");
+
+        List<RecordedEvent> recordedEvents;
+        try (Recording recording = new Recording()) {
+            recording.enable("seedu.manager.CommandParse");
+            recording.start();
+            assertThrows(InvalidCommandException.class, () -> {
+                parser.parseCommand("Sort everything");
+            });
+            recording.stop();
+            recording.dump(recordingPath);
+            recordedEvents = RecordingFile.readAllEvents(recordingPath);
+        } finally {
+            Files.deleteIfExists(recordingPath);
+        }
+
+        assertEquals(1, recordedEvents.size());
+        assertEquals("sort", recordedEvents.get(0).getString("commandWord"));
+        assertEquals(15, recordedEvents.get(0).getInt("inputLength"));
+        assertFalse(recordedEvents.get(0).getBoolean("isValid"));
+    }
 }
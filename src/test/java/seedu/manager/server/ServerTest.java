@@ -0,0 +1,90 @@
+package seedu.manager.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.manager.event.ConcurrentEventList;
+import seedu.manager.event.EventList;
+import seedu.manager.storage.Storage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ServerTest {
+    private static final String TEST_FILE_PATH = "test_server.csv";
+    private static final String TEST_JOURNAL_FILE_PATH = "test_server.csv.journal";
+
+    private EventList eventList;
+    private Server server;
+    private Thread serverThread;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        System.setProperty("test.environment", "true");
+        eventList = new EventList();
+        server = new Server(0, new ConcurrentEventList(eventList), new Storage(TEST_FILE_PATH));
+        serverThread = new Thread(() -> {
+            try {
+                server.run();
+            } catch (IOException exception) {
+                throw new RuntimeException(exception);
+            }
+        });
+        serverThread.start();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException, InterruptedException {
+        server.stop();
+        serverThread.join();
+        Files.deleteIfExists(Path.of(TEST_FILE_PATH));
+        Files.deleteIfExists(Path.of(TEST_JOURNAL_FILE_PATH));
+    }
+
+    @Test
+    public void run_twoClients_shareEventList() throws IOException {
+        try (Socket firstClient = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+                Socket secondClient = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            String addResponse = sendCommand(firstClient, "add -e Event 1 -t 2099-10-10 10:00 -v Venue A -u high");
+            String listResponse = sendCommand(secondClient, "list");
+
+            assertTrue(addResponse.startsWith("Event added successfully"));
+            assertTrue(listResponse.contains("Event name: Event 1"));
+        }
+        assertEquals(1, eventList.getListSize());
+    }
+
+    @Test
+    public void run_invalidCommand_errorMessageSent() throws IOException {
+        try (Socket client = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            assertEquals("Invalid command!\n", sendCommand(client, "hello"));
+        }
+    }
+
+    /**
+     * Sends a command to the server and returns its response.
+     */
+    private String sendCommand(Socket client, String command) throws IOException {
+        PrintWriter output = new PrintWriter(client.getOutputStream(), true, StandardCharsets.UTF_8);
+        BufferedReader input = new BufferedReader(new InputStreamReader(client.getInputStream(),
+                StandardCharsets.UTF_8));
+        output.println(command);
+
+        StringBuilder response = new StringBuilder();
+        String line;
+        while ((line = input.readLine()) != null && !line.equals(Session.RESPONSE_END)) {
+            response.append(line).append("\n");
+        }
+        return response.toString();
+    }
+}
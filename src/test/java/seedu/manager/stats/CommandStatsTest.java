@@ -0,0 +1,61 @@
+package seedu.manager.stats;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.manager.enumeration.CommandPhase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandStatsTest {
+    private static final String TEST_DUMP_FILE_PATH = "test_stats.txt";
+
+    @BeforeEach
+    public void setUp() {
+        CommandStats.clear();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        CommandStats.clear();
+        Files.deleteIfExists(Path.of(TEST_DUMP_FILE_PATH));
+    }
+
+    @Test
+    public void getReport_noCommands_emptyReport() {
+        assertEquals("No commands have been timed yet.\n", CommandStats.getReport());
+    }
+
+    @Test
+    public void getReport_timedCommands_rowForEachTimedPhase() {
+        PhaseTimer timer = new PhaseTimer();
+        timer.endPhase(CommandPhase.PARSE);
+        timer.endPhase(CommandPhase.EXECUTE);
+        timer.endPhase(CommandPhase.RENDER);
+        CommandStats.record("list", timer);
+        CommandStats.record("list", timer);
+        CommandStats.recordInvalid(new PhaseTimer());
+
+        String report = CommandStats.getReport();
+        assertTrue(report.matches("(?s).*\\n\\(invalid\\) +parse +1 .*"), report);
+        assertTrue(report.matches("(?s).*\\nlist +execute +2 .*"), report);
+        assertFalse(report.contains("persist"), report);
+        assertTrue(report.indexOf("(invalid)") < report.indexOf("list"), report);
+    }
+
+    @Test
+    public void dump_dumpFileSet_reportSaved() throws IOException {
+        Path dumpFilePath = Path.of(TEST_DUMP_FILE_PATH);
+        CommandStats.record("menu", new PhaseTimer());
+        CommandStats.dumpOnExit(dumpFilePath);
+        CommandStats.dump();
+
+        assertEquals(CommandStats.getReport(), Files.readString(dumpFilePath));
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.manager.stats;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    public void getValueAtPercentile_emptyHistogram_zero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    public void getValueAtPercentile_smallLatencies_exactValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(50, histogram.getValueAtPercentile(50));
+        assertEquals(99, histogram.getValueAtPercentile(99));
+        assertEquals(100, histogram.getMax());
+    }
+
+    @Test
+    public void getValueAtPercentile_largeLatencies_withinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000_000L);
+        }
+
+        long median = histogram.getValueAtPercentile(50);
+        assertTrue(median >= 500_000_000L && median <= 500_000_000L * 65 / 64, "Median was " + median);
+        assertEquals(1_000_000_000L, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void record_outOfRangeLatencies_clamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(LatencyHistogram.MAX_VALUE, histogram.getMax());
+    }
+
+    @Test
+    public void getHighestValue_everyBucket_coversIndexOfItsValues() {
+        for (int index = 0; index <= LatencyHistogram.getIndex(LatencyHistogram.MAX_VALUE); index++) {
+            long highestValue = LatencyHistogram.getHighestValue(index);
+            assertEquals(index, LatencyHistogram.getIndex(highestValue));
+            if (index > 0) {
+                assertEquals(index, LatencyHistogram.getIndex(LatencyHistogram.getHighestValue(index - 1) + 1));
+            }
+        }
+    }
+}
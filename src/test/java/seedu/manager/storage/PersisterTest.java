@@ -0,0 +1,104 @@
+package seedu.manager.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.manager.command.AddCommand;
+import seedu.manager.command.Command;
+import seedu.manager.command.ListCommand;
+import seedu.manager.enumeration.Priority;
+import seedu.manager.event.ConcurrentEventList;
+import seedu.manager.event.EventList;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PersisterTest {
+    private static final String TEST_FILE_PATH = "test_persister.csv";
+    private static final String TEST_JOURNAL_FILE_PATH = "test_persister.csv.journal";
+    private static final LocalDateTime EVENT_TIME = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    private Storage storage;
+    private ConcurrentEventList sharedEvents;
+    private Persister persister;
+
+    @BeforeEach
+    public void setUp() {
+        System.setProperty("test.environment", "true");
+        storage = new Storage(TEST_FILE_PATH);
+        sharedEvents = new ConcurrentEventList(new EventList());
+        persister = new Persister(storage, sharedEvents);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        persister.close();
+        Files.deleteIfExists(Path.of(TEST_FILE_PATH));
+        Files.deleteIfExists(Path.of(TEST_JOURNAL_FILE_PATH));
+    }
+
+    @Test
+    public void saveChanges_changingCommands_changesPersistedInOrder() throws IOException {
+        long firstVersion = execute(new AddCommand("Event 1", EVENT_TIME, "Venue A", Priority.HIGH));
+        long secondVersion = execute(new AddCommand("Alice", "alice@example.com", "Event 1"));
+        persister.flush();
+
+        assertEquals(1, firstVersion);
+        assertEquals(2, secondVersion);
+        assertEquals(2, persister.getPersistedVersion());
+        EventList loadedEvents = new EventList();
+        new Storage(TEST_FILE_PATH).loadInfo(loadedEvents);
+        assertEquals(1, loadedEvents.getEventByName("Event 1").get().getParticipantCount());
+    }
+
+    @Test
+    public void saveChanges_readOnlyCommand_nothingQueued() throws IOException {
+        assertEquals(0, execute(new ListCommand()));
+        persister.flush();
+
+        assertEquals(0, persister.getPersistedVersion());
+        assertFalse(Files.exists(Path.of(TEST_JOURNAL_FILE_PATH)));
+    }
+
+    @Test
+    public void saveChanges_manyChanges_journalCompacted() throws IOException {
+        for (int i = 0; i < 150; i++) {
+            execute(new AddCommand("Event " + i, EVENT_TIME, "Venue A", Priority.LOW));
+        }
+        persister.close();
+
+        assertEquals(150, persister.getPersistedVersion());
+        assertTrue(Files.exists(Path.of(TEST_FILE_PATH)));
+        EventList loadedEvents = new EventList();
+        new Storage(TEST_FILE_PATH).loadInfo(loadedEvents);
+        assertEquals(150, loadedEvents.getListSize());
+    }
+
+    @Test
+    public void close_queuedChanges_changesPersisted() throws IOException {
+        execute(new AddCommand("Event 1", EVENT_TIME, "Venue A", Priority.HIGH));
+        persister.close();
+
+        assertEquals(1, persister.getPersistedVersion());
+        assertEquals(1, execute(new AddCommand("Event 2", EVENT_TIME, "Venue A", Priority.HIGH)));
+    }
+
+    /**
+     * Executes a command on the shared events, and queues its changes to be saved.
+     */
+    private long execute(Command command) throws IOException {
+        long[] version = new long[1];
+        sharedEvents.write(events -> {
+            command.setData(events);
+            command.execute();
+            version[0] = persister.saveChanges(events, command);
+        });
+        return version[0];
+    }
+}
@@ -1,14 +1,25 @@
 package seedu.manager.storage;
 
+import seedu.manager.command.AddCommand;
+import seedu.manager.command.Command;
+import seedu.manager.command.ListCommand;
+import seedu.manager.command.MarkParticipantCommand;
+import seedu.manager.command.RemoveCommand;
 import seedu.manager.event.EventList;
 import seedu.manager.event.Event;
 import seedu.manager.enumeration.Priority;
+import seedu.manager.enumeration.StorageFormat;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -16,13 +27,22 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.CRC32;
 
 //@@author KuanHsienn
 public class StorageTest {
     private static final String TEST_FILE_PATH = "test_file.csv";
+    private static final String TEST_JOURNAL_FILE_PATH = "test_file.csv.journal";
     private static final String NON_EXISTENT_FILE_PATH = "non_existent_file.txt";
+    private static final String TEST_RECORDING_FILE_PATH = "test_recording.jfr";
+    private static final String TEST_ASIDE_JOURNAL_FILE_PATH = "test_file.csv.journal.old";
+    private static final String TEST_TEMP_FILE_PATH = "test_file.csv.tmp";
 
     private Storage storage;
     private EventList eventList;
@@ -39,11 +59,18 @@ public class StorageTest {
     @AfterEach
     public void tearDown() {
         File itemsFile = new File(TEST_FILE_PATH);
+        File journalFile = new File(TEST_JOURNAL_FILE_PATH);
 
         // Clean up the test files after each test
         if (itemsFile.exists()) {
             itemsFile.delete();
         }
+        if (journalFile.exists()) {
+            journalFile.delete();
+        }
+        new File(TEST_RECORDING_FILE_PATH).delete();
+        new File(TEST_ASIDE_JOURNAL_FILE_PATH).delete();
+        new File(TEST_TEMP_FILE_PATH).delete();
     }
 
     @Test
@@ -186,6 +213,316 @@ public class StorageTest {
 
         assertEquals(1, eventList.getEventByName("Meeting").get().getItemCount());
     }
-}
 
+    //@@author jemehgoh
+    @Test
+    public void loadInfo_savedChanges_changesReplayed() throws IOException {
+        eventList.addEvent("Meeting", LocalDateTime.parse("2024-10-25 10:00", formatter),
+                "Conference Room", Priority.HIGH);
+        storage.saveInfo(eventList);
+
+        executeAndSave(new AddCommand("Alice", "alice@example.com", "Meeting"));
+        executeAndSave(new AddCommand("Bob", "bob@example.com", "Meeting"));
+        executeAndSave(new MarkParticipantCommand("Alice", "Meeting", true));
+        executeAndSave(new RemoveCommand("Bob", "Meeting", true));
+
+        EventList loadedList = new EventList();
+        storage.loadInfo(loadedList);
+
+        Event loadedEvent = loadedList.getEventByName("Meeting").get();
+        assertEquals(1, loadedEvent.getParticipantCount());
+        assertEquals("Name: Alice / Email: alice@example.com [X]", loadedEvent.getParticipantList().get(0).toString());
+    }
+
+    @Test
+    public void saveChanges_readOnlyCommand_journalNotWritten() throws IOException {
+        executeAndSave(new ListCommand());
+
+        assertFalse(new File(TEST_JOURNAL_FILE_PATH).exists());
+    }
+
+    @Test
+    public void saveChanges_eventNotFound_journalNotWritten() throws IOException {
+        executeAndSave(new AddCommand("Alice", "alice@example.com", "Meeting"));
+
+        assertFalse(new File(TEST_JOURNAL_FILE_PATH).exists());
+    }
+
+    @Test
+    public void saveInfo_savedChanges_journalCleared() throws IOException {
+        executeAndSave(new AddCommand("Meeting", LocalDateTime.parse("2024-10-25 10:00", formatter),
+                "Conference Room", Priority.HIGH));
+        assertTrue(new File(TEST_JOURNAL_FILE_PATH).exists());
+
+        storage.saveInfo(eventList);
+        assertFalse(new File(TEST_JOURNAL_FILE_PATH).exists());
+
+        EventList loadedList = new EventList();
+        storage.loadInfo(loadedList);
+        assertEquals(1, loadedList.getListSize());
+    }
+
+    @Test
+    public void saveInfo_savedChanges_noJournalLeftAside() throws IOException {
+        executeAndSave(new AddCommand("Meeting", LocalDateTime.parse("2024-10-25 10:00", formatter),
+                "Conference Room", Priority.HIGH));
+
+        storage.saveInfo(eventList);
+
+        assertFalse(new File(TEST_JOURNAL_FILE_PATH).exists());
+        assertFalse(new File(TEST_ASIDE_JOURNAL_FILE_PATH).exists());
+        assertFalse(new File(TEST_TEMP_FILE_PATH).exists());
+    }
+
+    @Test
+    public void loadInfo_stoppedAfterFileReplaced_journalNotReplayed() throws IOException {
+        Files.writeString(Path.of(TEST_FILE_PATH), "EVENT,Meeting,2024-10-25 10:00,Conference Room,HIGH,N\n");
+        Files.writeString(Path.of(TEST_ASIDE_JOURNAL_FILE_PATH),
+                "ADD_EVENT,Meeting,2024-10-25 10:00,Conference Room,HIGH\n");
+
+        EventList loadedList = new EventList();
+        new Storage(TEST_FILE_PATH).loadInfo(loadedList);
+
+        assertEquals(1, loadedList.getListSize());
+        assertFalse(new File(TEST_ASIDE_JOURNAL_FILE_PATH).exists());
+        assertFalse(new File(TEST_JOURNAL_FILE_PATH).exists());
+    }
+
+    @Test
+    public void loadInfo_stoppedBeforeFileReplaced_journalReplayed() throws IOException {
+        Files.writeString(Path.of(TEST_FILE_PATH), "EVENT,Workshop,2024-11-01 14:00,Lab,LOW,N\n");
+        Files.writeString(Path.of(TEST_TEMP_FILE_PATH), "EVENT,Workshop,2024-11-01 14:00,Lab,LOW,N\n");
+        Files.writeString(Path.of(TEST_ASIDE_JOURNAL_FILE_PATH),
+                "ADD_EVENT,Meeting,2024-10-25 10:00,Conference Room,HIGH\n");
+
+        EventList loadedList = new EventList();
+        new Storage(TEST_FILE_PATH).loadInfo(loadedList);
+
+        assertEquals(2, loadedList.getListSize());
+        assertTrue(loadedList.getEventByName("Meeting").isPresent());
+        assertTrue(new File(TEST_JOURNAL_FILE_PATH).exists());
+        assertFalse(new File(TEST_ASIDE_JOURNAL_FILE_PATH).exists());
+    }
+
+    @Test
+    public void loadInfo_participantsOutOfOrder_addedToNamedEvent() throws IOException {
+        Files.writeString(Path.of(TEST_FILE_PATH), """
+                EVENT,Meeting,2024-10-25 10:00,Conference Room,HIGH,N
+                PARTICIPANT,Alice,alice@example.com,Meeting,N
+                EVENT,Workshop,2024-11-01 14:00,Lab,LOW,N
+                ITEM,Laptop,Workshop,N
+                PARTICIPANT,Bob,bob@example.com,Meeting,Y
+                ITEM,Projector,Meeting,N
+                ITEM,Chair,Concert,N
+                """);
+
+        storage.loadInfo(eventList);
+
+        Event meeting = eventList.getEventByName("Meeting").get();
+        assertEquals(2, meeting.getParticipantCount());
+        assertEquals(1, meeting.getItemCount());
+        assertEquals(1, eventList.getEventByName("Workshop").get().getItemCount());
+    }
+
+    @Test
+    public void loadInfo_sameParticipantInEvents_namesAndEmailsShared() throws IOException {
+        Files.writeString(Path.of(TEST_FILE_PATH), """
+                EVENT,Meeting,2024-10-25 10:00,Conference Room,HIGH,N
+                PARTICIPANT,Alice,alice@example.com,Meeting,N
+                ITEM,Projector,Meeting,N
+                EVENT,Workshop,2024-11-01 14:00,Conference Room,LOW,N
+                PARTICIPANT,Alice,alice@example.com,Workshop,Y
+                ITEM,Projector,Workshop,N
+                """);
+
+        storage.loadInfo(eventList);
+
+        Event meeting = eventList.getEvent(0);
+        Event workshop = eventList.getEvent(1);
+        assertSame(meeting.getEventVenue(), workshop.getEventVenue());
+        assertSame(meeting.getParticipantList().get(0).getName(), workshop.getParticipantList().get(0).getName());
+        assertSame(meeting.getParticipantList().get(0).getEmail(), workshop.getParticipantList().get(0).getEmail());
+        assertSame(meeting.getItemList().get(0).getName(), workshop.getItemList().get(0).getName());
+    }
+
+    @Test
+    public void loadInfo_binarySnapshot_eventsLoaded() throws IOException {
+        eventList.addEvent("Meeting", LocalDateTime.parse("2024-10-25 10:00", formatter),
+                "Conference Room", Priority.HIGH, true);
+        eventList.addParticipantToEvent("Alice", "alice@example.com", true, "Meeting");
+        eventList.addItemToEvent("Projector", "Meeting");
+        eventList.addEvent("Workshop", LocalDateTime.parse("2024-11-01 14:00", formatter),
+                "Conference Room", Priority.LOW);
+        storage.setFormat(StorageFormat.BINARY);
+        storage.saveInfo(eventList);
+
+        Storage newStorage = new Storage(TEST_FILE_PATH);
+        EventList loadedList = new EventList();
+        newStorage.loadInfo(loadedList);
+
+        assertEquals(StorageFormat.BINARY, newStorage.getFormat());
+        assertEquals(eventList.getEvent(0).toString(), loadedList.getEvent(0).toString());
+        assertEquals(eventList.getEvent(1).toString(), loadedList.getEvent(1).toString());
+        Event loadedEvent = loadedList.getEvent(0);
+        assertEquals("Name: Alice / Email: alice@example.com [X]", loadedEvent.getParticipantList().get(0).toString());
+        assertEquals("Projector [ ]", loadedEvent.getItemList().get(0).toString());
+    }
+
+    @Test
+    public void saveInfo_csvFormatSet_snapshotExported() throws IOException {
+        eventList.addEvent("Meeting", LocalDateTime.parse("2024-10-25 10:00", formatter),
+                "Conference Room", Priority.HIGH);
+        storage.setFormat(StorageFormat.BINARY);
+        storage.saveInfo(eventList);
+
+        Storage exportStorage = new Storage(TEST_FILE_PATH);
+        EventList loadedList = new EventList();
+        exportStorage.loadInfo(loadedList);
+        loadedList.markClean();
+        exportStorage.setFormat(StorageFormat.CSV);
+        exportStorage.saveInfo(loadedList);
+
+        assertTrue(Files.readString(Path.of(TEST_FILE_PATH)).startsWith("\"EVENT\",\"Meeting\""));
+    }
+
+    @Test
+    public void loadInfo_corruptedSnapshot_exceptionThrown() throws IOException {
+        eventList.addEvent("Meeting", LocalDateTime.parse("2024-10-25 10:00", formatter),
+                "Conference Room", Priority.HIGH);
+        storage.setFormat(StorageFormat.BINARY);
+        storage.saveInfo(eventList);
+
+        byte[] snapshot = Files.readAllBytes(Path.of(TEST_FILE_PATH));
+        snapshot[snapshot.length - 1] ^= 1;
+        Files.write(Path.of(TEST_FILE_PATH), snapshot);
+
+        assertThrows(IOException.class, () -> new Storage(TEST_FILE_PATH).loadInfo(new EventList()));
+    }
+
+    @Test
+    public void loadInfo_snapshotWithTrailingBytes_exceptionThrown() throws IOException {
+        eventList.addEvent("Meeting", LocalDateTime.parse("2024-10-25 10:00", formatter),
+                "Conference Room", Priority.HIGH);
+        storage.setFormat(StorageFormat.BINARY);
+        storage.saveInfo(eventList);
+
+        byte[] snapshot = Files.readAllBytes(Path.of(TEST_FILE_PATH));
+        ByteBuffer body = ByteBuffer.allocate(snapshot.length - 16 + 1);
+        body.put(snapshot, 16, snapshot.length - 16).put((byte) 0);
+        writeSnapshotBody(snapshot, body);
+
+        assertThrows(IOException.class, () -> new Storage(TEST_FILE_PATH).loadInfo(new EventList()));
+    }
+
+    @Test
+    public void loadInfo_snapshotWithNegativeStringCount_exceptionThrown() throws IOException {
+        storage.setFormat(StorageFormat.BINARY);
+        storage.saveInfo(eventList);
+
+        byte[] snapshot = Files.readAllBytes(Path.of(TEST_FILE_PATH));
+        writeSnapshotBody(snapshot, ByteBuffer.allocate(8).putInt(-1).putInt(0));
+
+        assertThrows(IOException.class, () -> new Storage(TEST_FILE_PATH).loadInfo(new EventList()));
+    }
+
+    @Test
+    public void loadInfo_snapshotWithInvalidTime_exceptionThrown() throws IOException {
+        storage.setFormat(StorageFormat.BINARY);
+        storage.saveInfo(eventList);
+
+        byte[] snapshot = Files.readAllBytes(Path.of(TEST_FILE_PATH));
+        ByteBuffer body = ByteBuffer.allocate(39).putInt(1).putInt(1).put((byte) 'A').putInt(1)
+                .putInt(0).putLong(Long.MAX_VALUE).putInt(0).put((byte) 0).put((byte) 0).putInt(0).putInt(0);
+        writeSnapshotBody(snapshot, body);
 
+        assertThrows(IOException.class, () -> new Storage(TEST_FILE_PATH).loadInfo(new EventList()));
+    }
+
+    @Test
+    public void saveInfo_flightRecorderEnabled_saveAndParseEventsRecorded() throws IOException {
+        eventList.addEvent("Meeting", LocalDateTime.parse("2024-10-25 10:00", formatter),
+                "Conference Room", Priority.HIGH);
+        eventList.addParticipantToEvent("Alice", "alice@example.com", "Meeting");
+
+        List<RecordedEvent> recordedEvents;
+        try (Recording recording = new Recording()) {
+            recording.enable("seedu.manager.Save");
+            recording.enable("seedu.manager.FileParse");
+            recording.start();
+            storage.saveInfo(eventList);
+            new Storage(TEST_FILE_PATH).loadInfo(new EventList());
+            recording.stop();
+            recording.dump(Path.of(TEST_RECORDING_FILE_PATH));
+            recordedEvents = RecordingFile.readAllEvents(Path.of(TEST_RECORDING_FILE_PATH));
+        }
+
+        RecordedEvent saveEvent = getRecordedEvent(recordedEvents, "seedu.manager.Save");
+        assertEquals("CSV", saveEvent.getString("format"));
+        assertEquals(1, saveEvent.getInt("eventCount"));
+        assertEquals(1, saveEvent.getInt("participantCount"));
+        assertEquals(Files.size(Path.of(TEST_FILE_PATH)), saveEvent.getLong("bytesWritten"));
+
+        RecordedEvent parseEvent = getRecordedEvent(recordedEvents, "seedu.manager.FileParse");
+        assertEquals(2, parseEvent.getInt("rowsParsed"));
+        assertEquals(0, parseEvent.getInt("rowsSkipped"));
+        assertEquals(Files.size(Path.of(TEST_FILE_PATH)), parseEvent.getLong("bytesRead"));
+    }
+
+    @Test
+    public void loadInfo_malformedRows_rowsSkippedRecorded() throws IOException {
+        Files.writeString(Path.of(TEST_FILE_PATH), """
+                EVENT,Meeting,2024-10-25 10:00,Conference Room,HIGH,N
+                EVENT,Workshop,2024-13-45 10:00,Lab,LOW,N
+                EVENT,Seminar,2024-11-01 14:00,Hall,URGENT,N
+                EVENT,Talk,2024-11-02 14:00,Hall,LOW,maybe
+                PARTICIPANT,Alice,alice@example.com,Meeting,N
+                PARTICIPANT,Bob,bob-at-example,Meeting,N
+                PARTICIPANT,Carol,carol@example.com,Workshop,N
+                ITEM,Projector,Meeting,N
+                ITEM,Whiteboard,Meeting,maybe
+                ITEM,Laptop,Seminar,N
+                NOTE,Unknown row
+                """);
+
+        EventList loadedList = new EventList();
+        List<RecordedEvent> recordedEvents;
+        try (Recording recording = new Recording()) {
+            recording.enable("seedu.manager.FileParse");
+            recording.start();
+            storage.loadInfo(loadedList);
+            recording.stop();
+            recording.dump(Path.of(TEST_RECORDING_FILE_PATH));
+            recordedEvents = RecordingFile.readAllEvents(Path.of(TEST_RECORDING_FILE_PATH));
+        }
+
+        assertEquals(1, loadedList.getListSize());
+        assertEquals(1, loadedList.getEvent(0).getParticipantCount());
+        assertEquals(1, loadedList.getEvent(0).getItemCount());
+
+        RecordedEvent parseEvent = getRecordedEvent(recordedEvents, "seedu.manager.FileParse");
+        assertEquals(3, parseEvent.getInt("rowsParsed"));
+        assertEquals(8, parseEvent.getInt("rowsSkipped"));
+    }
+
+    private RecordedEvent getRecordedEvent(List<RecordedEvent> recordedEvents, String eventName) {
+        return recordedEvents.stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private void executeAndSave(Command command) throws IOException {
+        command.setData(eventList);
+        command.execute();
+        storage.saveChanges(eventList, command);
+    }
+
+    private void writeSnapshotBody(byte[] snapshot, ByteBuffer body) throws IOException {
+        body.flip();
+        CRC32 crc = new CRC32();
+        crc.update(body.duplicate());
+        ByteBuffer newSnapshot = ByteBuffer.allocate(16 + body.remaining());
+        newSnapshot.put(snapshot, 0, 8).putInt(body.remaining()).putInt((int) crc.getValue()).put(body);
+        Files.write(Path.of(TEST_FILE_PATH), newSnapshot.array());
+    }
+}